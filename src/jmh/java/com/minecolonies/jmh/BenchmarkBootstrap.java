@@ -0,0 +1,73 @@
+package com.minecolonies.jmh;
+
+import com.minecolonies.core.colony.requestsystem.init.RequestSystemInitializer;
+import com.minecolonies.core.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+/**
+ * Headless setup shared by the benchmarks, bootstraps the vanilla registries without starting a client or server.
+ */
+public final class BenchmarkBootstrap
+{
+    /**
+     * Damageable items used to create many variants of few items.
+     */
+    private static final Item[] DAMAGEABLE_ITEMS = {
+      Items.DIAMOND_PICKAXE, Items.DIAMOND_AXE, Items.DIAMOND_SHOVEL, Items.DIAMOND_HOE, Items.DIAMOND_SWORD,
+      Items.NETHERITE_PICKAXE, Items.NETHERITE_AXE, Items.NETHERITE_SHOVEL, Items.NETHERITE_HOE, Items.NETHERITE_SWORD};
+
+    /**
+     * Distinct damage values used per item.
+     */
+    private static final int VARIANTS_PER_ITEM = 1500;
+
+    /**
+     * If the request system factories and mappings are registered, they can only be registered once per JVM.
+     */
+    private static boolean requestSystemRegistered = false;
+
+    private BenchmarkBootstrap()
+    {
+        // Static helpers only.
+    }
+
+    /**
+     * Bootstraps the registries, safe to call from every benchmark setup.
+     */
+    public static void init()
+    {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    /**
+     * Bootstraps the registries and registers the request system factories and requestable mappings like the mod setup does.
+     */
+    public static synchronized void initRequestSystem()
+    {
+        init();
+        if (!requestSystemRegistered)
+        {
+            StandardFactoryControllerInitializer.onPreInit();
+            RequestSystemInitializer.onPostInit();
+            requestSystemRegistered = true;
+        }
+    }
+
+    /**
+     * Create a distinct item variant, variants with close indexes share their item.
+     *
+     * @param index the variant index, below 15000.
+     * @return a new stack.
+     */
+    public static ItemStack variant(final int index)
+    {
+        final ItemStack stack = new ItemStack(DAMAGEABLE_ITEMS[(index / VARIANTS_PER_ITEM) % DAMAGEABLE_ITEMS.length]);
+        stack.setDamageValue(index % VARIANTS_PER_ITEM);
+        return stack;
+    }
+}
@@ -0,0 +1,162 @@
+package com.minecolonies.jmh;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.core.colony.jobs.AbstractJobGuard;
+import com.minecolonies.core.colony.managers.CitizenAggregates;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The colony wide social and security factors over a daily happiness pass, where every citizen recomputes its happiness.
+ * <p>
+ * Citizens are proxies answering only what the factors read, a fifth jobless, a tenth homeless and a tenth hungry. The former per citizen scan is kept here as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CitizenHappinessBenchmark
+{
+    /**
+     * Amount of citizens in the colony.
+     */
+    @Param({"50", "200", "500"})
+    public int citizens;
+
+    private List<ICitizenData> colony;
+    private CitizenAggregates  aggregates;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.init();
+        final IBuilding home = stub(IBuilding.class);
+        final IJob<?> job = stub(IJob.class);
+
+        colony = new ArrayList<>();
+        for (int i = 0; i < citizens; i++)
+        {
+            final boolean jobless = i % 5 == 0;
+            final boolean homeless = i % 10 == 3;
+            final double saturation = i % 10 == 7 ? 0 : 10;
+            colony.add((ICitizenData) Proxy.newProxyInstance(ICitizenData.class.getClassLoader(), new Class<?>[] {ICitizenData.class}, (proxy, method, args) ->
+              switch (method.getName())
+              {
+                  case "getJob" -> jobless ? null : job;
+                  case "getHomeBuilding" -> homeless ? null : home;
+                  case "getEntity" -> Optional.empty();
+                  case "getSaturation" -> saturation;
+                  case "isChild" -> false;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  default -> null;
+              }));
+        }
+        aggregates = new CitizenAggregates();
+    }
+
+    /**
+     * Create an interface instance which answers null to everything but the object methods.
+     *
+     * @param type the interface.
+     * @param <T>  the type of the interface.
+     * @return the stub.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> type)
+    {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) ->
+          switch (method.getName())
+          {
+              case "hashCode" -> System.identityHashCode(proxy);
+              case "equals" -> proxy == args[0];
+              default -> null;
+          });
+    }
+
+    @Benchmark
+    public void dailyPassScan(final Blackhole bh)
+    {
+        for (int i = 0; i < colony.size(); i++)
+        {
+            bh.consume(scanSocial());
+            bh.consume(scanGuards());
+        }
+    }
+
+    @Benchmark
+    public void dailyPassAggregates(final Blackhole bh)
+    {
+        aggregates.markDirty();
+        for (int i = 0; i < colony.size(); i++)
+        {
+            aggregates.refresh(colony, 0);
+            bh.consume(aggregates.getSocialFactor());
+            bh.consume(aggregates.getGuardFactor());
+        }
+    }
+
+    /**
+     * The former social factor, counting all citizens. The copy stands for the list copy of getCitizens.
+     *
+     * @return the factor.
+     */
+    private double scanSocial()
+    {
+        final double total = colony.size();
+        double problems = 0;
+        for (final ICitizenData citizen : new ArrayList<>(colony))
+        {
+            if (!citizen.isChild() && citizen.getJob() == null)
+            {
+                problems++;
+            }
+            if (citizen.getHomeBuilding() == null)
+            {
+                problems++;
+            }
+            if (citizen.getEntity().isPresent())
+            {
+                problems++;
+            }
+            if (citizen.getSaturation() <= 1)
+            {
+                problems++;
+            }
+        }
+        return (total - problems) / total;
+    }
+
+    /**
+     * The former guard factor, counting all citizens.
+     *
+     * @return the factor.
+     */
+    private double scanGuards()
+    {
+        double guards = 1;
+        double workers = 1;
+        for (final ICitizenData citizen : new ArrayList<>(colony))
+        {
+            if (citizen.getJob() instanceof AbstractJobGuard)
+            {
+                guards++;
+            }
+            else
+            {
+                workers++;
+            }
+        }
+        return Math.min(guards / (workers * 2 / 3), 2);
+    }
+}
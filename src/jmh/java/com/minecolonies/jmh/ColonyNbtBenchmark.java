@@ -0,0 +1,171 @@
+package com.minecolonies.jmh;
+
+import com.minecolonies.core.colony.CitizenData;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.data.registries.VanillaRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+
+/**
+ * Saving and loading the citizens of a colony through {@link CitizenData#serializeNBT} and {@link CitizenData#deserializeNBT}, the bulk of every colony file, and through the
+ * compressed world save data file the colony tags are stored in.
+ * <p>
+ * The citizens have full inventories and skills but no colony, job or entity, which keeps the inventory research lookup and name generation out of the measurement.
+ * The colony itself is not built: its load and write paths read the server config, which only exists once the mod is constructed, so the colony tag holds the citizen manager
+ * only. Buildings need a running colony for their modules and are not covered either.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColonyNbtBenchmark
+{
+    /**
+     * Amount of citizens in the colony.
+     */
+    @Param({"50", "300"})
+    public int citizens;
+
+    private HolderLookup.Provider provider;
+    private List<CitizenData>     colony;
+    private ListTag               citizenTags;
+    private byte[]                encoded;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        BenchmarkBootstrap.init();
+        provider = VanillaRegistries.createLookup();
+
+        colony = new ArrayList<>();
+        citizenTags = new ListTag();
+        for (int i = 0; i < citizens; i++)
+        {
+            final CompoundTag seed = new CompoundTag();
+            seed.putInt(TAG_ID, i);
+            seed.putString(TAG_NAME, "Citizen " + i);
+            seed.putBoolean(TAG_FEMALE, i % 2 == 0);
+            seed.putDouble(TAG_SATURATION, 15.0D);
+
+            final CitizenData citizen = new CitizenData(i, null);
+            citizen.deserializeNBT(provider, seed);
+            citizen.getCitizenSkillHandler().init(20);
+            for (int slot = 0; slot < citizen.getInventory().getSlots(); slot++)
+            {
+                citizen.getInventory().setStackInSlot(slot, BenchmarkBootstrap.variant(i * 31 + slot));
+            }
+
+            colony.add(citizen);
+            citizenTags.add(citizen.serializeNBT(provider));
+        }
+        encoded = encode(citizenTags);
+    }
+
+    /**
+     * Encode the citizen list like the world save does: the colony tag inside the colony save data, wrapped and compressed like every saved data file.
+     *
+     * @param citizenList the serialized citizens.
+     * @return the bytes.
+     * @throws IOException never for memory streams.
+     */
+    private static byte[] encode(final ListTag citizenList) throws IOException
+    {
+        final CompoundTag citizenManager = new CompoundTag();
+        citizenManager.put(TAG_CITIZENS, citizenList);
+        final CompoundTag colony = new CompoundTag();
+        colony.put(TAG_CITIZEN_MANAGER, citizenManager);
+
+        final ListTag colonies = new ListTag();
+        colonies.add(colony);
+        final CompoundTag saveData = new CompoundTag();
+        saveData.put(TAG_COLONIES, colonies);
+
+        final CompoundTag file = new CompoundTag();
+        file.put("data", saveData);
+        NbtUtils.addCurrentDataVersion(file);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(file, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode the citizen list from the compressed save data.
+     *
+     * @param data the bytes.
+     * @return the serialized citizens.
+     * @throws IOException never for memory streams.
+     */
+    private static ListTag decode(final byte[] data) throws IOException
+    {
+        final CompoundTag file = NbtIo.readCompressed(new ByteArrayInputStream(data), NbtAccounter.unlimitedHeap());
+        return file.getCompound("data")
+                 .getList(TAG_COLONIES, Tag.TAG_COMPOUND)
+                 .getCompound(0)
+                 .getCompound(TAG_CITIZEN_MANAGER)
+                 .getList(TAG_CITIZENS, Tag.TAG_COMPOUND);
+    }
+
+    /**
+     * Load citizens the way the citizen manager does, into fresh citizen data.
+     *
+     * @param citizenList the serialized citizens.
+     * @param bh          the blackhole.
+     */
+    private void load(final ListTag citizenList, final Blackhole bh)
+    {
+        for (int i = 0; i < citizenList.size(); i++)
+        {
+            final CompoundTag citizenTag = citizenList.getCompound(i);
+            final CitizenData citizen = new CitizenData(citizenTag.getInt(TAG_ID), null);
+            citizen.deserializeNBT(provider, citizenTag);
+            bh.consume(citizen);
+        }
+    }
+
+    @Benchmark
+    public ListTag serialize()
+    {
+        final ListTag citizenList = new ListTag();
+        for (final CitizenData citizen : colony)
+        {
+            citizenList.add(citizen.serializeNBT(provider));
+        }
+        return citizenList;
+    }
+
+    @Benchmark
+    public void deserialize(final Blackhole bh)
+    {
+        load(citizenTags, bh);
+    }
+
+    @Benchmark
+    public byte[] saveToFile() throws IOException
+    {
+        return encode(serialize());
+    }
+
+    @Benchmark
+    public void loadFromFile(final Blackhole bh) throws IOException
+    {
+        load(decode(encoded), bh);
+    }
+}
@@ -0,0 +1,85 @@
+package com.minecolonies.jmh;
+
+import com.minecolonies.api.util.InventoryUtils;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Item counting over the container handlers of a building, the scan behind most "does the building have X" checks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryScanBenchmark
+{
+    /**
+     * Amount of racks of 27 slots.
+     */
+    @Param({"8", "64"})
+    public int containers;
+
+    private List<IItemHandler>   handlers;
+    private Predicate<ItemStack> missingPredicate;
+    private Predicate<ItemStack> presentPredicate;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.init();
+        handlers = new ArrayList<>();
+        int variant = 0;
+        for (int c = 0; c < containers; c++)
+        {
+            final ItemStackHandler handler = new ItemStackHandler(27);
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                // A few slots stay empty, like real racks
+                if (slot % 9 != 8)
+                {
+                    handler.setStackInSlot(slot, BenchmarkBootstrap.variant(variant++));
+                }
+            }
+            handlers.add(handler);
+        }
+        handlers.get(handlers.size() - 1).insertItem(26, new ItemStack(Items.BREAD, 16), false);
+
+        missingPredicate = stack -> stack.is(Items.CAKE);
+        presentPredicate = stack -> stack.is(Items.BREAD);
+    }
+
+    @Benchmark
+    public int countMissingItem()
+    {
+        return InventoryUtils.getItemCountInItemHandlers(handlers, missingPredicate);
+    }
+
+    @Benchmark
+    public int countPresentItem()
+    {
+        return InventoryUtils.getItemCountInItemHandlers(handlers, presentPredicate);
+    }
+
+    @Benchmark
+    public boolean hasItemPerHandler()
+    {
+        for (final IItemHandler handler : handlers)
+        {
+            if (InventoryUtils.hasItemInItemHandler(handler, presentPredicate))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.minecolonies.jmh;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemVariantKey;
+import com.minecolonies.api.inventory.ContainerContentIndex;
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map operations on many variants of few items, like warehouse contents of damaged tools.
+ * <p>
+ * {@link ItemStorage} hashes by item only, so all variants of an item share a bucket. {@link ItemVariantKey} and the {@link ContainerContentIndex} built on it should not degrade.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemStorageBenchmark
+{
+    /**
+     * Amount of distinct variants.
+     */
+    @Param({"1000", "10000"})
+    public int variants;
+
+    /**
+     * Amount of lookups per invocation.
+     */
+    private static final int LOOKUPS = 256;
+
+    private ItemStorage[]                 storages;
+    private ItemVariantKey[]              keys;
+    private Map<ItemStorage, Integer>     storageMap;
+    private Map<ItemVariantKey, Integer>  keyMap;
+    private ContainerContentIndex         index;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.init();
+        storages = new ItemStorage[variants];
+        keys = new ItemVariantKey[variants];
+        storageMap = new HashMap<>();
+        keyMap = new HashMap<>();
+        index = new ContainerContentIndex();
+
+        for (int i = 0; i < variants; i++)
+        {
+            storages[i] = new ItemStorage(BenchmarkBootstrap.variant(i), 1, false, false);
+            keys[i] = ItemVariantKey.of(storages[i]);
+            storageMap.put(storages[i], i);
+            keyMap.put(keys[i], i);
+        }
+
+        // Spread the variants over containers of 27 slots
+        Map<ItemStorage, Integer> container = new HashMap<>();
+        int containers = 0;
+        for (int i = 0; i < variants; i++)
+        {
+            container.put(storages[i], 1);
+            if (container.size() == 27 || i == variants - 1)
+            {
+                index.add(new BlockPos(containers++, 64, 0), container);
+                container = new HashMap<>();
+            }
+        }
+        index.markValid();
+    }
+
+    @Benchmark
+    public void storageMapLookup(final Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            bh.consume(storageMap.get(storages[(i * 7919) % variants]));
+        }
+    }
+
+    @Benchmark
+    public void variantKeyMapLookup(final Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            bh.consume(keyMap.get(keys[(i * 7919) % variants]));
+        }
+    }
+
+    @Benchmark
+    public void variantKeyCreateAndLookup(final Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            bh.consume(keyMap.get(ItemVariantKey.of(storages[(i * 7919) % variants])));
+        }
+    }
+
+    @Benchmark
+    public void contentIndexCount(final Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            bh.consume(index.getCount(storages[(i * 7919) % variants]));
+        }
+    }
+
+    @Benchmark
+    public Map<ItemStorage, Integer> storageMapBuild()
+    {
+        final Map<ItemStorage, Integer> map = new HashMap<>();
+        for (final ItemStorage storage : storages)
+        {
+            map.merge(storage, 1, Integer::sum);
+        }
+        return map;
+    }
+}
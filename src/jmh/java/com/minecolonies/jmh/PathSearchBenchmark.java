@@ -0,0 +1,168 @@
+package com.minecolonies.jmh;
+
+import com.minecolonies.core.entity.pathfinding.PathNodeArena;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.minecolonies.core.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import com.minecolonies.core.entity.pathfinding.world.ChunkCache;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.data.registries.VanillaRegistries;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.pathfinder.Path;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link PathJobMoveToLocation} search from one corner of a synthetic terrain to the other, with the node storage of the pooled {@link PathNodeArena} and with a fresh
+ * unpooled arena.
+ * <p>
+ * The terrain is a {@link ChunkCache} without chunks: a stone floor with dirt paths, two block walls with gaps, the border and scattered one block pillars to jump.
+ * The job has no entity and no world, and uses the default server settings instead of the config.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathSearchBenchmark
+{
+    /**
+     * Height of the walkable layer.
+     */
+    private static final int GROUND = 64;
+
+    /**
+     * Edge length of the searched area.
+     */
+    @Param({"32", "96"})
+    public int range;
+
+    private SyntheticTerrain terrain;
+    private BlockPos         start;
+    private BlockPos         end;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.init();
+        final DimensionType overworld = VanillaRegistries.createLookup().lookupOrThrow(Registries.DIMENSION_TYPE).getOrThrow(BuiltinDimensionTypes.OVERWORLD).value();
+        terrain = new SyntheticTerrain(overworld, range);
+        start = new BlockPos(1, GROUND, 1);
+        end = new BlockPos(range - 2, GROUND, range - 2);
+
+        if (search(true) == null)
+        {
+            throw new IllegalStateException("No path found over the synthetic terrain");
+        }
+    }
+
+    /**
+     * Runs one search of a fresh job, like the navigation does for every path.
+     *
+     * @param nodePooling whether the pooled arena is used.
+     * @return the path, or null.
+     */
+    private Path search(final boolean nodePooling)
+    {
+        final PathJobMoveToLocation job = new PathJobMoveToLocation(null, terrain, start, end, 1, null);
+        job.setSearchSettings(new AbstractPathJob.SearchSettings(nodePooling, 0, 8));
+        return job.call();
+    }
+
+    @Benchmark
+    public Path pooledArena()
+    {
+        return search(true);
+    }
+
+    @Benchmark
+    public Path unpooledArena()
+    {
+        return search(false);
+    }
+
+    /**
+     * Chunk cache over a generated block array, stone below the floor and air above the area.
+     */
+    private static class SyntheticTerrain extends ChunkCache
+    {
+        private final int          range;
+        private final BlockState[] blocks;
+
+        /**
+         * Generate the terrain.
+         *
+         * @param dimType the dimension type.
+         * @param range   the edge length of the area.
+         */
+        private SyntheticTerrain(final DimensionType dimType, final int range)
+        {
+            super(dimType, dimType.minY(), dimType.minY() + dimType.height());
+            this.range = range;
+            this.blocks = new BlockState[range * range * 3];
+
+            final Random random = new Random(range);
+            for (int x = 0; x < range; x++)
+            {
+                for (int z = 0; z < range; z++)
+                {
+                    final boolean border = x == 0 || z == 0 || x == range - 1 || z == range - 1;
+                    final boolean wall = x % 8 == 4 && z % 16 != 7;
+                    final boolean pillar = random.nextInt(10) == 0 && x > 1 && z > 1;
+
+                    blocks[index(x, GROUND - 1, z)] = x % 6 == 0 || z % 6 == 0 ? Blocks.DIRT_PATH.defaultBlockState() : Blocks.STONE.defaultBlockState();
+                    blocks[index(x, GROUND, z)] = border || wall || pillar ? Blocks.STONE.defaultBlockState() : Blocks.AIR.defaultBlockState();
+                    blocks[index(x, GROUND + 1, z)] = border || wall ? Blocks.STONE.defaultBlockState() : Blocks.AIR.defaultBlockState();
+                }
+            }
+            blocks[index(1, GROUND, 1)] = Blocks.AIR.defaultBlockState();
+            blocks[index(range - 2, GROUND, range - 2)] = Blocks.AIR.defaultBlockState();
+        }
+
+        /**
+         * Index of a position in the block array.
+         *
+         * @param x the x coordinate.
+         * @param y the y coordinate, from the floor to the layer above the walkable one.
+         * @param z the z coordinate.
+         * @return the index.
+         */
+        private int index(final int x, final int y, final int z)
+        {
+            return ((y - GROUND + 1) * range + x) * range + z;
+        }
+
+        @Override
+        public BlockState getBlockState(final BlockPos pos)
+        {
+            return getBlockState(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        @Override
+        public BlockState getBlockState(final int x, final int y, final int z)
+        {
+            if (y < GROUND - 1)
+            {
+                return Blocks.STONE.defaultBlockState();
+            }
+            if (x < 0 || z < 0 || x >= range || z >= range || y > GROUND + 1)
+            {
+                return Blocks.AIR.defaultBlockState();
+            }
+            return blocks[index(x, y, z)];
+        }
+
+        @Override
+        public FluidState getFluidState(final BlockPos pos)
+        {
+            return getBlockState(pos).getFluidState();
+        }
+    }
+}
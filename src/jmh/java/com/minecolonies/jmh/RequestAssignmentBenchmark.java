@@ -0,0 +1,246 @@
+package com.minecolonies.jmh;
+
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.requestsystem.location.ILocation;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.core.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.core.colony.requestsystem.management.manager.StandardRequestManager;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecolonies.api.util.constant.RSConstants.CONST_DEFAULT_RESOLVER_PRIORITY;
+
+/**
+ * Assigning item requests to resolvers through the {@link com.minecolonies.core.colony.requestsystem.management.handlers.RequestHandler} of a real {@link
+ * StandardRequestManager}.
+ * <p>
+ * The resolvers are synthetic: each accepts a quarter of the requested items, rates them with a fixed metric and resolves without children. Each invocation creates a request,
+ * assigns it and cancels it again so the manager keeps its size. The colony is a stub which reports itself as remote, that skips the update steps loading the buildings of a
+ * real colony.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestAssignmentBenchmark
+{
+    /**
+     * Distinct requested items.
+     */
+    private static final int VARIANTS = 1024;
+
+    /**
+     * Amount of registered synthetic resolvers, at least four so every request has one.
+     */
+    @Param({"8", "64"})
+    public int resolvers;
+
+    private IStandardRequestManager manager;
+    private IRequester              requester;
+    private ItemStack[]             variants;
+    private int                     next;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.initRequestSystem();
+
+        manager = new StandardRequestManager(stubColony(), false);
+        requester = new SyntheticRequester(manager.getTokenHandler().generateNewToken());
+        for (int i = 0; i < resolvers; i++)
+        {
+            manager.getResolverHandler().registerResolver(new SyntheticResolver(manager.getTokenHandler().generateNewToken(), i));
+        }
+
+        variants = new ItemStack[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++)
+        {
+            variants[i] = BenchmarkBootstrap.variant(i);
+        }
+        next = 0;
+    }
+
+    /**
+     * Colony stub answering every call with the default value of its return type.
+     *
+     * @return the colony.
+     */
+    private static IColony stubColony()
+    {
+        return (IColony) Proxy.newProxyInstance(IColony.class.getClassLoader(), new Class<?>[] {IColony.class}, (proxy, method, args) -> {
+            final Class<?> type = method.getReturnType();
+            if (method.getName().equals("isRemote"))
+            {
+                return true;
+            }
+            if (method.getName().equals("toString"))
+            {
+                return "Benchmark colony";
+            }
+            if (type == boolean.class)
+            {
+                return false;
+            }
+            if (type == int.class)
+            {
+                return 0;
+            }
+            if (type == long.class)
+            {
+                return 0L;
+            }
+            if (type == double.class)
+            {
+                return 0D;
+            }
+            if (type == float.class)
+            {
+                return 0F;
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public IRequest<?> assignRequest()
+    {
+        final IRequest<?> request = manager.getRequestHandler().createRequest(requester, new Stack(variants[next++ % VARIANTS]));
+        manager.getRequestHandler().assignRequest(request);
+        manager.getRequestHandler().onRequestCancelled(request.getId());
+        return request;
+    }
+
+    /**
+     * Requester ignoring every notification.
+     */
+    private static class SyntheticRequester implements IRequester
+    {
+        private final IToken<?> token;
+
+        /**
+         * Create a requester.
+         *
+         * @param token the id.
+         */
+        private SyntheticRequester(final IToken<?> token)
+        {
+            this.token = token;
+        }
+
+        @Override
+        public IToken<?> getId()
+        {
+            return token;
+        }
+
+        @Override
+        public ILocation getLocation()
+        {
+            return null;
+        }
+
+        @Override
+        public void onRequestedRequestComplete(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+        {
+        }
+
+        @Override
+        public void onRequestedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+        {
+        }
+
+        @NotNull
+        @Override
+        public MutableComponent getRequesterDisplayName(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+        {
+            return Component.literal("Benchmark requester");
+        }
+    }
+
+    /**
+     * Resolver for a quarter of the item variants, resolving right away without children.
+     */
+    private static class SyntheticResolver extends SyntheticRequester implements IRequestResolver<Stack>
+    {
+        private final int offset;
+
+        /**
+         * Create a resolver.
+         *
+         * @param token  the id.
+         * @param offset the offset deciding the accepted variants, the priority and the metric.
+         */
+        private SyntheticResolver(final IToken<?> token, final int offset)
+        {
+            super(token);
+            this.offset = offset;
+        }
+
+        @Override
+        public TypeToken<? extends Stack> getRequestType()
+        {
+            return TypeToken.of(Stack.class);
+        }
+
+        @Override
+        public boolean canResolveRequest(@NotNull final IRequestManager manager, final IRequest<? extends Stack> requestToCheck)
+        {
+            return (requestToCheck.getRequest().getStack().getDamageValue() + offset) % 4 == 0;
+        }
+
+        @Override
+        public List<IToken<?>> attemptResolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+        }
+
+        @Override
+        public void onAssignedRequestBeingCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+        }
+
+        @Override
+        public void onAssignedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+        }
+
+        @Override
+        public int getSuitabilityMetric(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+            return (request.getRequest().getStack().getDamageValue() * 31 + offset) % 17;
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return CONST_DEFAULT_RESOLVER_PRIORITY + offset % 3;
+        }
+
+        @Override
+        public boolean isValid()
+        {
+            return true;
+        }
+    }
+}
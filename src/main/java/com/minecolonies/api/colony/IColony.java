@@ -275,6 +275,13 @@ public interface IColony
      */
     IEventManager getEventManager();
 
+    /**
+     * Get the shared entity sensing of the colony.
+     *
+     * @return the threat scan manager, null on the client.
+     */
+    IThreatScanManager getThreatScanManager();
+
     /**
      * Get the reproduction manager of the colony.
      *
@@ -355,6 +362,34 @@ public interface IColony
 
     void removeFreeBlock(Block block);
 
+    /**
+     * Add several free to interact positions at once.
+     *
+     * @param positions the positions to add.
+     */
+    void addFreePositions(Collection<BlockPos> positions);
+
+    /**
+     * Add several free to interact blocks at once.
+     *
+     * @param blocks the blocks to add.
+     */
+    void addFreeBlocks(Collection<Block> blocks);
+
+    /**
+     * Remove several free to interact positions at once.
+     *
+     * @param positions the positions to remove.
+     */
+    void removeFreePositions(Collection<BlockPos> positions);
+
+    /**
+     * Remove several free to interact blocks at once.
+     *
+     * @param blocks the blocks to remove.
+     */
+    void removeFreeBlocks(Collection<Block> blocks);
+
     void setCanBeAutoDeleted(boolean canBeDeleted);
 
     CompoundTag write(CompoundTag colonyCompound, @NotNull final HolderLookup.Provider provider);
@@ -1,5 +1,6 @@
 package com.minecolonies.api.colony.buildings;
 
+import com.minecolonies.api.inventory.ContainerContentIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.util.IItemHandlerCapProvider;
 import net.minecraft.core.BlockPos;
@@ -55,6 +56,18 @@ public interface IBuildingContainer extends ISchematicProvider, IItemHandlerCapP
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the aggregated content of all loaded containers of the building (including hutblock), rebuilt first if outdated.
+     *
+     * @return the up to date content index.
+     */
+    ContainerContentIndex getContentIndex();
+
+    /**
+     * Mark the content index as outdated, for example when one of the containers got loaded.
+     */
+    void invalidateContentIndex();
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
@@ -10,7 +10,9 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.IntTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.neoforged.neoforge.common.util.INBTSerializable;
 import org.jetbrains.annotations.NotNull;
@@ -55,23 +57,39 @@ public class ChunkClaimData implements IChunkClaimData, INBTSerializable<Compoun
     @Override
     public void addColony(final int id, final LevelChunk chunk)
     {
-        final IColony colony = IColonyManager.getInstance().getColonyByDimension(id, chunk.getLevel().dimension());
-        if (colony == null)
+        if (addColony(id, chunk.getLevel().dimension()))
         {
-            return;
+            IColonyManager.getInstance().getColonyByDimension(id, chunk.getLevel().dimension()).addLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), chunk);
+        }
+        chunk.setUnsaved(true);
+    }
+
+    @Override
+    public boolean addColony(final int id, final ResourceKey<Level> dimension)
+    {
+        if (IColonyManager.getInstance().getColonyByDimension(id, dimension) == null)
+        {
+            return false;
         }
 
         colonies.add(id);
-        if (owningColony == NO_COLONY_ID || IColonyManager.getInstance().getColonyByDimension(owningColony, chunk.getLevel().dimension()) == null)
+        if (owningColony == NO_COLONY_ID || IColonyManager.getInstance().getColonyByDimension(owningColony, dimension) == null)
         {
-            colony.addLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), chunk);
             owningColony = id;
+            return true;
         }
-        chunk.setUnsaved(true);
+        return false;
     }
 
     @Override
     public void removeColony(final int id, final LevelChunk chunk)
+    {
+        removeColony(id);
+        chunk.setUnsaved(true);
+    }
+
+    @Override
+    public void removeColony(final int id)
     {
         colonies.remove(id);
         claimingBuildings.remove(id);
@@ -90,8 +108,6 @@ public class ChunkClaimData implements IChunkClaimData, INBTSerializable<Compoun
                 owningColony = NO_COLONY_ID;
             }
         }
-
-        chunk.setUnsaved(true);
     }
 
     @Override
@@ -212,10 +228,16 @@ public class ChunkClaimData implements IChunkClaimData, INBTSerializable<Compoun
     @Override
     public void setOwningColony(final int id, final LevelChunk chunk)
     {
-        this.owningColony = id;
+        setOwningColony(id);
         chunk.setUnsaved(true);
     }
 
+    @Override
+    public void setOwningColony(final int id)
+    {
+        this.owningColony = id;
+    }
+
     @Override
     public int getOwningColony()
     {
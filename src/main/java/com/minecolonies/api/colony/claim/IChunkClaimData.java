@@ -1,6 +1,8 @@
 package com.minecolonies.api.colony.claim;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
 import org.jetbrains.annotations.NotNull;
 
@@ -19,6 +21,13 @@ public interface IChunkClaimData
      */
     void removeColony(final int id, final LevelChunk chunk);
 
+    /**
+     * Remove a colony from the list without the chunk being loaded. Only relevant in non dynamic claiming.
+     *
+     * @param id the id to remove.
+     */
+    void removeColony(final int id);
+
     /**
      * Add a new colony to the chunk. Only relevant in non dynamic claiming.
      *
@@ -27,6 +36,15 @@ public interface IChunkClaimData
      */
     void addColony(final int id, final LevelChunk chunk);
 
+    /**
+     * Add a new colony to the chunk without the chunk being loaded, the colony picks the chunk up when it loads. Only relevant in non dynamic claiming.
+     *
+     * @param id        the id to add.
+     * @param dimension the dimension of the chunk.
+     * @return true if the colony became the owner of the chunk.
+     */
+    boolean addColony(final int id, final ResourceKey<Level> dimension);
+
     /**
      * Get a list of colonies with a static claim.
      *
@@ -43,6 +61,13 @@ public interface IChunkClaimData
      */
     void setOwningColony(final int id, final LevelChunk chunk);
 
+    /**
+     * Set the owning colony without the chunk being loaded.
+     *
+     * @param id the id to set.
+     */
+    void setOwningColony(final int id);
+
     /**
      * Get the owning colony.
      *
@@ -177,4 +177,23 @@ public interface ICitizenManager extends IEntityManager
      * Post building load actions
      */
     void afterBuildingLoad();
+
+    /**
+     * Call this when a citizen changed job, home or age, to refresh the colony wide citizen counts.
+     */
+    void onCitizenStateChanged();
+
+    /**
+     * Get the social happiness factor, the share of citizens without job, home, health or food problems.
+     *
+     * @return the factor, from the cached colony wide citizen counts.
+     */
+    double getSocialFactor();
+
+    /**
+     * Get the security happiness factor, the ratio of guards to the other citizens.
+     *
+     * @return the factor, from the cached colony wide citizen counts.
+     */
+    double getGuardFactor();
 }
@@ -46,6 +46,20 @@ public interface IColonyPackageManager
      */
     void sendColonyViewPackets();
 
+    /**
+     * Amount of colony view bytes sent to players so far.
+     *
+     * @return the amount in bytes.
+     */
+    long getViewBytesSent();
+
+    /**
+     * Amount of colony view bytes which would have been sent so far if every update contained all sections.
+     *
+     * @return the amount in bytes.
+     */
+    long getViewBytesWithoutDelta();
+
     /**
      * Sends packages to update the permissions.
      */
@@ -3,6 +3,8 @@ package com.minecolonies.api.colony.managers.interfaces;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IMysticalSite;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
+import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.fields.IField;
@@ -16,6 +18,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -96,6 +99,43 @@ public interface IRegisteredStructureManager
     @Nullable
     IBuilding getFirstBuildingMatching(final Predicate<IBuilding> predicate);
 
+    /**
+     * Get all buildings of a building type.
+     *
+     * @param type the building type.
+     * @return the buildings, not to be modified.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsOfType(@NotNull final BuildingEntry type);
+
+    /**
+     * Get all buildings which are instances of a class or interface.
+     *
+     * @param clazz the class.
+     * @param <B>   the building class.
+     * @return the buildings, not to be modified.
+     */
+    @NotNull
+    <B extends IBuilding> List<B> getBuildingsOfClass(@NotNull final Class<B> clazz);
+
+    /**
+     * Get all buildings which have a module of a class.
+     *
+     * @param clazz the module class.
+     * @return the buildings, not to be modified.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsWithModule(@NotNull final Class<? extends IBuildingModule> clazz);
+
+    /**
+     * Get all buildings positioned within a box.
+     *
+     * @param box the box.
+     * @return a new list of the buildings.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsInBox(@NotNull final BoundingBox box);
+
     /**
      * Register a new leisure site.
      *
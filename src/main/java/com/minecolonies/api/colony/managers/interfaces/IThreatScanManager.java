@@ -0,0 +1,56 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Interface for the shared entity sensing of a colony. Combat AIs of the colony query it instead of scanning the level on their own.
+ */
+public interface IThreatScanManager
+{
+    /**
+     * Get the living entities intersecting the given area. Comes from shared region scans, which can be a few ticks old.
+     *
+     * @param area the area.
+     * @return a new list of the alive entities in the area.
+     */
+    List<LivingEntity> getEntitiesInArea(@NotNull final AABB area);
+
+    /**
+     * Amount of region scans during the last tick with scans.
+     *
+     * @return the count.
+     */
+    int getLastTickScans();
+
+    /**
+     * Time spent scanning during the last tick with scans.
+     *
+     * @return the time in milliseconds.
+     */
+    double getLastTickScanMs();
+
+    /**
+     * Total amount of region scans.
+     *
+     * @return the count.
+     */
+    long getTotalScans();
+
+    /**
+     * Total amount of answered queries.
+     *
+     * @return the count.
+     */
+    long getTotalQueries();
+
+    /**
+     * Total time spent scanning.
+     *
+     * @return the time in milliseconds.
+     */
+    double getTotalScanMs();
+}
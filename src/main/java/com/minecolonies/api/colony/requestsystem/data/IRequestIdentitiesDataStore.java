@@ -3,9 +3,18 @@ package com.minecolonies.api.colony.requestsystem.data;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
+import java.util.Collection;
+
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Method to get the tokens of all stored requests made by a requester, without scanning all requests.
+     *
+     * @param requesterId The id of the requester.
+     * @return The request tokens, in insertion order. Must not be modified.
+     */
+    Collection<IToken<?>> getRequestsByRequester(IToken<?> requesterId);
 }
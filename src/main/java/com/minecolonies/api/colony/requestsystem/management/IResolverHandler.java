@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.requestsystem.management;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -8,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -72,6 +74,14 @@ public interface IResolverHandler
      */
     void removeResolver(IRequestResolver<?> resolver);
 
+    /**
+     * Method to get all registered resolvers with exactly the given request type.
+     *
+     * @param requestType The request type of the resolvers.
+     * @return The resolvers, sorted by descending priority and in registration order for equal priorities. Must not be modified.
+     */
+    List<IRequestResolver<?>> getResolversForRequestType(TypeToken<?> requestType);
+
     /**
      * Method to get all requests currently assigned to a resolver.
      *
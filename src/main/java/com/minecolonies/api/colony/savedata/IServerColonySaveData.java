@@ -47,6 +47,15 @@ public interface IServerColonySaveData
      */
     List<IColony> getColonies();
 
+    /**
+     * Get the colony with the closest center to a position.
+     *
+     * @param pos the position.
+     * @return the colony or null if there are none.
+     */
+    @Nullable
+    IColony getClosestColony(@NotNull BlockPos pos);
+
     /**
      * add a new colony to the capability.
      *
@@ -90,6 +90,12 @@ public class ServerColonySaveData extends SavedData implements IServerColonySave
         return colonies.getCopyAsList();
     }
 
+    @Override
+    public IColony getClosestColony(@NotNull final BlockPos pos)
+    {
+        return colonies.getClosest(pos);
+    }
+
     @Override
     public void addColony(final IColony colony)
     {
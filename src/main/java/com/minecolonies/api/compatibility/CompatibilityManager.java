@@ -11,11 +11,13 @@ import com.minecolonies.api.compatibility.tinkers.SlimeTreeCheck;
 import com.minecolonies.api.compatibility.tinkers.TinkersToolHelper;
 import com.minecolonies.api.crafting.CompostRecipe;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemVariantKey;
 import com.minecolonies.api.crafting.registry.ModRecipeSerializer;
 import com.minecolonies.api.items.ModTags;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.Registry;
@@ -152,9 +154,19 @@ public class CompatibilityManager implements ICompatibilityManager
     private ImmutableSet<ResourceLocation> monsters = ImmutableSet.of();
 
     /**
-     * Mapping of itemstorage to creativemodetab.
+     * Mapping of item variant to creativemodetab.
      */
-    private final Map<ItemStorage, CreativeModeTab> creativeModeTabMap = new HashMap<>();
+    private final Map<ItemVariantKey, CreativeModeTab> creativeModeTabMap = new HashMap<>();
+
+    /**
+     * Creative tab of the first listed variant of each item, for lookups ignoring damage or components.
+     */
+    private final Map<Item, CreativeModeTab> creativeModeTabByItem = new HashMap<>();
+
+    /**
+     * All listed item variants. They are distinct, so they are compared by identity.
+     */
+    private final Set<ItemStorage> allItemStorages = new ReferenceLinkedOpenHashSet<>();
 
     /**
      * Instantiates the compatibilityManager.
@@ -185,6 +197,8 @@ public class CompatibilityManager implements ICompatibilityManager
         diseaseList.clear();
         monsters = ImmutableSet.of();
         creativeModeTabMap.clear();
+        creativeModeTabByItem.clear();
+        allItemStorages.clear();
     }
 
     /**
@@ -196,7 +210,7 @@ public class CompatibilityManager implements ICompatibilityManager
     public void discover(@NotNull final RecipeManager recipeManager, final Level level)
     {
         clear();
-        discoverAllItems(level);
+        classifyItems(discoverAllItems(level));
 
         discoverLuckyOres();
         discoverRecruitCosts();
@@ -229,6 +243,7 @@ public class CompatibilityManager implements ICompatibilityManager
     public void deserialize(@NotNull final RegistryFriendlyByteBuf buf, final ClientLevel level)
     {
         clear();
+        // only lists the items and creative tabs, the classified lists below come from the server
         discoverAllItems(level);
 
         saplings.addAll(deserializeItemStorageList(buf));
@@ -344,11 +359,11 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public Set<ItemStorage> getSetOfAllItems()
     {
-        if (creativeModeTabMap.isEmpty())
+        if (allItemStorages.isEmpty())
         {
             Log.getLogger().error("getSetOfAllItems when empty");
         }
-        return creativeModeTabMap.keySet();
+        return Collections.unmodifiableSet(allItemStorages);
     }
 
     @Override
@@ -578,14 +593,18 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public CreativeModeTab getCreativeTab(final ItemStorage checkItem)
     {
-        return creativeModeTabMap.get(checkItem);
+        if (checkItem.ignoreDamageValue() || checkItem.ignoreNBT())
+        {
+            return creativeModeTabByItem.get(checkItem.getItem());
+        }
+        return creativeModeTabMap.get(ItemVariantKey.lookup(checkItem));
     }
 
     @Override
     public int getCreativeTabKey(final ItemStorage checkItem)
     {
-        final CreativeModeTab creativeTab = creativeModeTabMap.get(checkItem);
-        return creativeTab == null ? DEFAULT_TAB_KEY : creativeModeTabMap.get(checkItem).column();
+        final CreativeModeTab creativeTab = getCreativeTab(checkItem);
+        return creativeTab == null ? DEFAULT_TAB_KEY : creativeTab.column();
     }
 
     @Override
@@ -623,17 +642,14 @@ public class CompatibilityManager implements ICompatibilityManager
     }
 
     /**
-     * Create complete list of all existing items, client side only.
+     * Create complete list of all existing items and their creative tabs.
+     *
+     * @param level the level providing the enabled features and registries.
+     * @return the listed stacks, in listing order.
      */
-    private void discoverAllItems(final Level level)
+    private List<ItemStack> discoverAllItems(final Level level)
     {
-        if (!food.isEmpty())
-        {
-            return;
-        }
-
-        final Set<ItemStorage> tempDuplicates = new HashSet<>();
-        final Set<ItemStorage> tempFlowers = new HashSet<>();
+        final Set<ItemVariantKey> tempDuplicates = new HashSet<>();
 
         final CreativeModeTab.ItemDisplayParameters tempDisplayParams = new CreativeModeTab.ItemDisplayParameters(level.enabledFeatures(), false, level.registryAccess());
 
@@ -644,25 +660,77 @@ public class CompatibilityManager implements ICompatibilityManager
             final Object2IntLinkedOpenHashMap<Item> mapping = new Object2IntLinkedOpenHashMap<>();
             for (final ItemStack item : stacks)
             {
-                if (!tempDuplicates.add(new ItemStorage(item)) || mapping.addTo(item.getItem(), 1) > MAX_DEPTH)
+                final ItemVariantKey key = ItemVariantKey.of(item);
+                if (!tempDuplicates.add(key) || mapping.addTo(item.getItem(), 1) > MAX_DEPTH)
                 {
                     continue;
                 }
 
                 listBuilder.add(item);
-                discoverSaplings(item);
-                discoverOres(item);
-                discoverPlantables(item);
-                discoverFood(item);
-                discoverFuel(item);
-                discoverBeekeeperFlowers(item, tempFlowers);
-
-                creativeModeTabMap.put(new ItemStorage(item), tab);
+                creativeModeTabMap.put(key, tab);
+                creativeModeTabByItem.putIfAbsent(item.getItem(), tab);
+                allItemStorages.add(new ItemStorage(item));
             }
         });
 
         discoverFungi();
 
+        allItems = listBuilder.build();
+        Log.getLogger().info("Finished discovering items " + allItems.size());
+        return allItems;
+    }
+
+    /**
+     * Run the item classifiers over all listed stacks, server side only.
+     * <p>
+     * The classifiers only read tags, item properties and the furnace recipes, so they run on the common fork-join pool. Results get merged in listing order, which keeps the
+     * synced lists identical between runs. Fuel goes through the burn time event, whose listeners may not be thread safe, so it is checked during the merge.
+     *
+     * @param stacks the listed stacks.
+     */
+    private void classifyItems(final List<ItemStack> stacks)
+    {
+        final long start = System.nanoTime();
+        final List<ItemClassification> classifications = stacks.parallelStream().map(CompatibilityManager::classify).toList();
+
+        final Set<ItemStorage> tempFlowers = new HashSet<>();
+        for (final ItemClassification classification : classifications)
+        {
+            final ItemStack stack = classification.stack();
+            if (classification.sapling())
+            {
+                saplings.add(new ItemStorage(stack, false, true));
+            }
+            if (classification.oreBlock() != null)
+            {
+                oreBlocks.add(classification.oreBlock());
+            }
+            if (classification.smeltableOre())
+            {
+                smeltableOres.add(new ItemStorage(stack));
+            }
+            if (classification.plantable())
+            {
+                plantables.add(new ItemStorage(stack));
+            }
+            if (classification.food())
+            {
+                food.add(new ItemStorage(stack));
+            }
+            if (classification.edible())
+            {
+                edibles.add(new ItemStorage(stack));
+            }
+            if (classification.flower())
+            {
+                tempFlowers.add(new ItemStorage(stack));
+            }
+            if (FurnaceBlockEntity.isFuel(stack))
+            {
+                fuel.add(new ItemStorage(stack));
+            }
+        }
+
         beekeeperflowers = ImmutableSet.copyOf(tempFlowers);
         Log.getLogger().info("Finished discovering Ores " + oreBlocks.size() + " " + smeltableOres.size());
         Log.getLogger().info("Finished discovering saplings " + saplings.size());
@@ -670,50 +738,67 @@ public class CompatibilityManager implements ICompatibilityManager
         Log.getLogger().info("Finished discovering food " + edibles.size() + " " + food.size());
         Log.getLogger().info("Finished discovering fuel " + fuel.size());
         Log.getLogger().info("Finished discovering flowers " + beekeeperflowers.size());
+        Log.getLogger().info("Classified {} items in {}ms", stacks.size(), (System.nanoTime() - start) / 1000000);
+    }
 
-
-        allItems = listBuilder.build();
-        Log.getLogger().info("Finished discovering items " + allItems.size());
+    /**
+     * Classifier results of one listed stack.
+     *
+     * @param stack        the stack.
+     * @param sapling      whether it is a sapling, for the Forester.
+     * @param oreBlock     the ore block it places, or null.
+     * @param smeltableOre whether it is an ore with a smelting result.
+     * @param plantable    whether the Florist can plant it.
+     * @param food         whether it is food or can be cooked to food.
+     * @param edible       whether it can be eaten as is.
+     * @param flower       whether it is a flower for the beekeeper.
+     */
+    private record ItemClassification(
+      ItemStack stack,
+      boolean sapling,
+      @Nullable Block oreBlock,
+      boolean smeltableOre,
+      boolean plantable,
+      boolean food,
+      boolean edible,
+      boolean flower)
+    {
     }
 
     /**
-     * Discover all flowers for the beekeeper.
+     * Run all thread safe classifiers for one stack. Only reads the stack.
+     *
+     * @param stack the stack.
+     * @return the classification.
      */
-    private void discoverBeekeeperFlowers(final ItemStack item, final Set<ItemStorage> tempFlowers)
+    private static ItemClassification classify(final ItemStack stack)
     {
-        if (item.is(ItemTags.FLOWERS))
-        {
-            tempFlowers.add(new ItemStorage(item));
-        }
+        final boolean ore = isOreTagged(stack);
+        final boolean food = isFoodOrCookable(stack);
+        return new ItemClassification(stack,
+          isSaplingTagged(stack),
+          ore && stack.getItem() instanceof BlockItem blockItem ? blockItem.getBlock() : null,
+          ore && !MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty(),
+          isPlantableTagged(stack),
+          food,
+          food && CAN_EAT.test(stack),
+          stack.is(ItemTags.FLOWERS));
     }
 
     /**
-     * Discover ores for the Smelter and Miners.
+     * Check for ores for the Smelter and Miners.
      */
-    private void discoverOres(final ItemStack stack)
+    private static boolean isOreTagged(final ItemStack stack)
     {
-        if (stack.is(Tags.Items.ORES) || stack.is(ModTags.breakable_ore) || stack.is(ModTags.raw_ore))
-        {
-            if (stack.getItem() instanceof BlockItem)
-            {
-                oreBlocks.add(((BlockItem) stack.getItem()).getBlock());
-            }
-            if (!MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty())
-            {
-                smeltableOres.add(new ItemStorage(stack));
-            }
-        }
+        return stack.is(Tags.Items.ORES) || stack.is(ModTags.breakable_ore) || stack.is(ModTags.raw_ore);
     }
 
     /**
-     * Discover saplings from the vanilla Saplings tag, used for the Forester
+     * Check for saplings from the vanilla Saplings tag, used for the Forester
      */
-    private void discoverSaplings(final ItemStack stack)
+    private static boolean isSaplingTagged(final ItemStack stack)
     {
-        if (stack.is(ItemTags.SAPLINGS) || stack.is(Tags.Items.MUSHROOMS) || stack.is(ModTags.fungi))
-        {
-            saplings.add(new ItemStorage(stack, false, true));
-        }
+        return stack.is(ItemTags.SAPLINGS) || stack.is(Tags.Items.MUSHROOMS) || stack.is(ModTags.fungi);
     }
 
     /**
@@ -757,43 +842,19 @@ public class CompatibilityManager implements ICompatibilityManager
     }
 
     /**
-     * Create complete list of plantable items, from the "minecolonies:florist_flowers" tag, for the Florist.
+     * Check for plantable items, from the "minecolonies:florist_flowers" tag, for the Florist.
      */
-    private void discoverPlantables(final ItemStack stack)
+    private static boolean isPlantableTagged(final ItemStack stack)
     {
-        if (stack.is(ModTags.floristFlowers))
-        {
-            if (stack.getItem() instanceof BlockItem)
-            {
-                plantables.add(new ItemStorage(stack));
-            }
-        }
+        return stack.is(ModTags.floristFlowers) && stack.getItem() instanceof BlockItem;
     }
 
     /**
-     * Create complete list of fuel items.
+     * Check for food items.
      */
-    private void discoverFuel(final ItemStack stack)
+    private static boolean isFoodOrCookable(final ItemStack stack)
     {
-        if (FurnaceBlockEntity.isFuel(stack))
-        {
-            fuel.add(new ItemStorage(stack));
-        }
-    }
-
-    /**
-     * Create complete list of food items.
-     */
-    private void discoverFood(final ItemStack stack)
-    {
-        if (ISFOOD.test(stack) || ISCOOKABLE.test(stack))
-        {
-            food.add(new ItemStorage(stack));
-            if (CAN_EAT.test(stack))
-            {
-                edibles.add(new ItemStorage(stack));
-            }
-        }
+        return ISFOOD.test(stack) || ISCOOKABLE.test(stack);
     }
 
     /**
@@ -43,6 +43,9 @@ public class ServerConfiguration extends AbstractConfiguration
     public final IntValue     maxTreeSize;
     public final BooleanValue noSupplyPlacementRestrictions;
     public final BooleanValue skyRaiders;
+    public final BooleanValue citizenSimulationLod;
+    public final IntValue     citizenLodNearRange;
+    public final IntValue     citizenLodFarRange;
 
     /*  --------------------------------------------------------------------------- *
      *  ------------------- ######## Research settings ######## ------------------- *
@@ -117,6 +120,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final IntValue pathfindingDebugVerbosity;
     public final IntValue pathfindingMaxThreadCount;
     public final IntValue minimumRailsToPath;
+    public final BooleanValue pathfindingNodePooling;
 
     /*  --------------------------------------------------------------------------------- *
      *  ------------------- ######## Request System Settings ######## ------------------- *
@@ -156,6 +160,9 @@ public class ServerConfiguration extends AbstractConfiguration
         maxTreeSize = defineInteger("maxtreesize", 400, 1, 1000);
         noSupplyPlacementRestrictions = defineBoolean("nosupplyplacementrestrictions", false);
         skyRaiders = defineBoolean("skyraiders", false);
+        citizenSimulationLod = defineBoolean("citizensimulationlod", true);
+        citizenLodNearRange = defineInteger("citizenlodnearrange", 64, 16, 512);
+        citizenLodFarRange = defineInteger("citizenlodfarrange", 128, 32, 1024);
 
         swapToCategory("research");
         researchCreativeCompletion = defineBoolean("researchcreativecompletion", true);
@@ -253,6 +260,7 @@ public class ServerConfiguration extends AbstractConfiguration
         pathfindingDebugVerbosity = defineInteger("pathfindingdebugverbosity", 0, 0, 10);
         minimumRailsToPath = defineInteger("minimumrailstopath", 8, 5, 100);
         pathfindingMaxThreadCount = defineInteger("pathfindingmaxthreadcount", 2, 1, 10);
+        pathfindingNodePooling = defineBoolean("pathfindingnodepooling", true);
 
         swapToCategory("requestSystem");
 
@@ -0,0 +1,177 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Hash key for an item variant, for maps with many variants of the same item.
+ * <p>
+ * {@link ItemStorage#hashCode()} only covers the item, since storages ignoring damage or components have to equal every variant. This key has a fixed comparison definition,
+ * so its hash also covers the damage and the compared components unless they are ignored, and is computed once. Two keys with the same flags are equal exactly when their
+ * storages would be equal.
+ */
+public final class ItemVariantKey
+{
+    /**
+     * The item.
+     */
+    private final Item item;
+
+    /**
+     * Stack the key was created from, used to compare components. A copy for keys made by {@link #of}, the caller's stack for keys made by {@link #lookup}.
+     */
+    private final ItemStack stack;
+
+    /**
+     * Comparison flags.
+     */
+    private final boolean ignoreDamage;
+    private final boolean ignoreNBT;
+
+    /**
+     * Precomputed hash.
+     */
+    private final int hash;
+
+    private ItemVariantKey(final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        this.item = stack.getItem();
+        this.stack = stack;
+        this.ignoreDamage = ignoreDamage;
+        this.ignoreNBT = ignoreNBT;
+
+        int hash = System.identityHashCode(item);
+        hash = 31 * hash + (ignoreDamage ? -1 : stack.getDamageValue());
+        if (!ignoreNBT)
+        {
+            // Mirrors ItemStackUtils#compareItemStacksIgnoreStackSize, only the checked components are compared.
+            final Set<DataComponentType<?>> checkedKeys = ItemStackUtils.CHECKED_NBT_KEYS.get(item);
+            if (checkedKeys != null && !checkedKeys.isEmpty())
+            {
+                for (final DataComponentType<?> key : checkedKeys)
+                {
+                    hash += Objects.hashCode(stack.getComponents().get(key));
+                }
+                hash = 31 * hash + stack.getComponents().size();
+            }
+        }
+        hash = 31 * hash + (ignoreDamage ? 1 : 0) + (ignoreNBT ? 2 : 0);
+        this.hash = hash;
+    }
+
+    /**
+     * Create the key of an exact item variant.
+     *
+     * @param stack the stack, not modified or kept.
+     * @return the key.
+     */
+    public static ItemVariantKey of(@NotNull final ItemStack stack)
+    {
+        return of(stack, false, false);
+    }
+
+    /**
+     * Create the key of an item variant.
+     *
+     * @param stack        the stack, not modified or kept.
+     * @param ignoreDamage whether the damage is not part of the variant.
+     * @param ignoreNBT    whether the components are not part of the variant.
+     * @return the key.
+     */
+    public static ItemVariantKey of(@NotNull final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        return new ItemVariantKey(stack.copyWithCount(1), ignoreDamage, ignoreNBT);
+    }
+
+    /**
+     * Create the key of the variant a storage matches.
+     *
+     * @param storage the storage.
+     * @return the key.
+     */
+    public static ItemVariantKey of(@NotNull final ItemStorage storage)
+    {
+        return of(storage.getItemStack(), storage.ignoreDamageValue(), storage.ignoreNBT());
+    }
+
+    /**
+     * Create a key of an exact item variant for a single map query, without copying the stack.
+     * <p>
+     * The key reads the given stack, so it must not be stored in a map or kept beyond the query. Use {@link #of(ItemStack)} for keys which are stored.
+     *
+     * @param stack the stack, not modified.
+     * @return the key.
+     */
+    public static ItemVariantKey lookup(@NotNull final ItemStack stack)
+    {
+        return new ItemVariantKey(stack, false, false);
+    }
+
+    /**
+     * Create a key of the variant a storage matches for a single map query, without copying the stack of the storage.
+     *
+     * @param storage the storage, not modified.
+     * @return the key, see {@link #lookup(ItemStack)}.
+     */
+    public static ItemVariantKey lookup(@NotNull final ItemStorage storage)
+    {
+        return new ItemVariantKey(storage.getItemStack(), storage.ignoreDamageValue(), storage.ignoreNBT());
+    }
+
+    /**
+     * Get the item of the variant.
+     *
+     * @return the item.
+     */
+    public Item getItem()
+    {
+        return item;
+    }
+
+    /**
+     * Get a stack of the variant.
+     *
+     * @return a new stack of size one.
+     */
+    public ItemStack toStack()
+    {
+        return stack.copy();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemVariantKey that))
+        {
+            return false;
+        }
+
+        return hash == that.hash
+                 && item == that.item
+                 && ignoreDamage == that.ignoreDamage
+                 && ignoreNBT == that.ignoreNBT
+                 && ItemStackUtils.compareItemStacksIgnoreStackSize(stack, that.stack, !ignoreDamage, !ignoreNBT);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ItemVariantKey{" + stack + ", ignoreDamage=" + ignoreDamage + ", ignoreNBT=" + ignoreNBT + "}";
+    }
+}
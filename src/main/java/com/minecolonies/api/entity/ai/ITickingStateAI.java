@@ -28,4 +28,13 @@ public interface ITickingStateAI
      * @return
      */
     public IState getState();
+
+    /**
+     * Sets the amount of game ticks passing between two calls to {@link #tick()}, so timed waits keep their duration when the AI is ticked less often.
+     *
+     * @param tickRate the ticks between two calls.
+     */
+    default void setTickRate(final int tickRate)
+    {
+    }
 }
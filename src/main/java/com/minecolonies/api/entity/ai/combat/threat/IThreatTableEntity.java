@@ -1,5 +1,11 @@
 package com.minecolonies.api.entity.ai.combat.threat;
 
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
+
 /**
  * Entities implement this for the necessary hooks
  */
@@ -11,4 +17,16 @@ public interface IThreatTableEntity
      * @return
      */
     public ThreatTable getThreatTable();
+
+    /**
+     * Get the living entities in the given area, which are the candidates for the threat table. Entities of a colony answer this from the shared colony scan.
+     *
+     * @param level the level to search.
+     * @param area  the area.
+     * @return a new list of the entities.
+     */
+    default List<LivingEntity> getThreatCandidates(final Level level, final AABB area)
+    {
+        return level.getEntitiesOfClass(LivingEntity.class, area);
+    }
 }
@@ -0,0 +1,246 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemVariantKey;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Aggregated content of the loaded containers of a building, kept up to date by the containers themselves.
+ * <p>
+ * Containers push their new content on every change, so count queries only touch the aggregated totals instead of fetching and scanning every container. Changes which can not be
+ * tracked exactly (containers loading, unloading or being added) invalidate the index, the owner rebuilds it on the next query. Server thread only.
+ */
+public final class ContainerContentIndex
+{
+    /**
+     * Last known content by container position.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> contents = new HashMap<>();
+
+    /**
+     * Summed content of all containers as storages holding the total amount, grouped by item so lookups ignoring damage or components only check the variants of one item.
+     */
+    private final Map<Item, Map<ItemVariantKey, ItemStorage>> totals = new HashMap<>();
+
+    /**
+     * Whether the index reflects the current containers.
+     */
+    private boolean valid = false;
+
+    /**
+     * Check if the index can be used as is.
+     *
+     * @return false if it has to be rebuilt.
+     */
+    public boolean isValid()
+    {
+        return valid;
+    }
+
+    /**
+     * Marks the index as outdated, it gets rebuilt on the next query.
+     */
+    public void invalidate()
+    {
+        valid = false;
+    }
+
+    /**
+     * Clears the index to start a rebuild, call {@link #markValid()} once all loaded containers are added.
+     */
+    public void clear()
+    {
+        contents.clear();
+        totals.clear();
+        valid = false;
+    }
+
+    /**
+     * Marks a rebuild as finished.
+     */
+    public void markValid()
+    {
+        valid = true;
+    }
+
+    /**
+     * Adds a container during a rebuild.
+     *
+     * @param pos     the container position.
+     * @param content the current content.
+     */
+    public void add(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        remove(pos);
+        // Container content keys are distinct variants already, no need to compare them again
+        final Map<ItemStorage, Integer> copy = new IdentityHashMap<>(content);
+        contents.put(pos, copy);
+        apply(copy, 1);
+    }
+
+    /**
+     * Updates the content of a tracked container. Containers the index does not know about are ignored, they get picked up by the next rebuild.
+     *
+     * @param pos     the container position.
+     * @param content the new content.
+     */
+    public void update(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        if (valid && contents.containsKey(pos))
+        {
+            add(pos, content);
+        }
+    }
+
+    /**
+     * Stops tracking a container.
+     *
+     * @param pos the container position.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> previous = contents.remove(pos);
+        if (previous != null)
+        {
+            apply(previous, -1);
+        }
+    }
+
+    /**
+     * Count the items matching the storage, respecting its ignore damage and ignore components flags.
+     *
+     * @param storage the storage to match.
+     * @return the total amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemVariantKey, ItemStorage> variants = totals.get(storage.getItem());
+        if (variants == null)
+        {
+            return 0;
+        }
+
+        if (!storage.ignoreDamageValue() && !storage.ignoreNBT())
+        {
+            final ItemStorage total = variants.get(ItemVariantKey.lookup(storage));
+            return total == null ? 0 : total.getAmount();
+        }
+
+        int count = 0;
+        for (final ItemStorage total : variants.values())
+        {
+            if (total.equals(storage))
+            {
+                count += total.getAmount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the items matching the predicate.
+     *
+     * @param predicate the predicate.
+     * @return the total amount.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map<ItemVariantKey, ItemStorage> variants : totals.values())
+        {
+            for (final ItemStorage total : variants.values())
+            {
+                if (predicate.test(total.getItemStack()))
+                {
+                    count += total.getAmount();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the summed amount of every distinct stored item matching the predicate.
+     *
+     * @param predicate the predicate.
+     * @return a new map of the matching items and their total amounts, the keys are distinct variants.
+     */
+    public Map<ItemStorage, Integer> getMatching(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Map<ItemStorage, Integer> matching = new IdentityHashMap<>();
+        for (final Map<ItemVariantKey, ItemStorage> variants : totals.values())
+        {
+            for (final ItemStorage total : variants.values())
+            {
+                if (predicate.test(total.getItemStack()))
+                {
+                    matching.put(total, total.getAmount());
+                }
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Get the positions of the containers holding items matching the predicate.
+     *
+     * @param predicate the predicate.
+     * @return a new set of container positions.
+     */
+    public Set<BlockPos> getPositions(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> positions = new HashSet<>();
+        for (final Map.Entry<BlockPos, Map<ItemStorage, Integer>> container : contents.entrySet())
+        {
+            for (final ItemStorage storage : container.getValue().keySet())
+            {
+                if (predicate.test(storage.getItemStack()))
+                {
+                    positions.add(container.getKey());
+                    break;
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Adds or subtracts the content of one container from the totals.
+     *
+     * @param content the container content.
+     * @param sign    1 to add, -1 to subtract.
+     */
+    private void apply(final Map<ItemStorage, Integer> content, final int sign)
+    {
+        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        {
+            final Item item = entry.getKey().getItem();
+            final ItemVariantKey lookupKey = ItemVariantKey.lookup(entry.getKey());
+            final Map<ItemVariantKey, ItemStorage> variants = totals.computeIfAbsent(item, k -> new HashMap<>());
+
+            ItemStorage total = variants.get(lookupKey);
+            if (total == null)
+            {
+                final ItemVariantKey key = ItemVariantKey.of(entry.getKey());
+                total = new ItemStorage(key.toStack(), 0, entry.getKey().ignoreDamageValue(), entry.getKey().ignoreNBT());
+                variants.put(key, total);
+            }
+
+            total.setAmount(total.getAmount() + sign * entry.getValue());
+            if (total.getAmount() <= 0)
+            {
+                variants.remove(lookupKey);
+                if (variants.isEmpty())
+                {
+                    totals.remove(item);
+                }
+            }
+        }
+    }
+}
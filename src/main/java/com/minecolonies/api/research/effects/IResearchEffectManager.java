@@ -27,6 +27,15 @@ public interface IResearchEffectManager
      */
      double getEffectStrength(final ResourceLocation id);
 
+    /**
+     * Get the research effect strength for a pre-resolved effect handle,
+     * or zero, if no matching effect is present. Prefer this in code which runs every tick or action.
+     *
+     * @param handle the handle of the effect.
+     * @return the strength of the effect, 1 by default for researches effects which do not have values configured, or zero if it isn't present.
+     */
+    double getEffectStrength(@NotNull final ResearchEffectHandle handle);
+
     /**
      * Apply the effect to the research effects class.
      *
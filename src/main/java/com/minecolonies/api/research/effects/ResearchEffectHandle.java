@@ -0,0 +1,104 @@
+package com.minecolonies.api.research.effects;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A research effect id resolved to a dense integer index, so effect managers can keep their strengths in an array.
+ * <p>
+ * Indexes are handed out when the global research tree loads an effect or when a handle is first requested, and stay the same until the game closes. Hot call sites keep a
+ * handle in a constant instead of looking up the {@link ResourceLocation} on every read.
+ */
+public final class ResearchEffectHandle
+{
+    /**
+     * All handles by effect id.
+     */
+    private static final Map<ResourceLocation, ResearchEffectHandle> HANDLES = new ConcurrentHashMap<>();
+
+    /**
+     * The next free index.
+     */
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    /**
+     * The effect id.
+     */
+    private final ResourceLocation id;
+
+    /**
+     * The index of the effect.
+     */
+    private final int index;
+
+    private ResearchEffectHandle(final ResourceLocation id, final int index)
+    {
+        this.id = id;
+        this.index = index;
+    }
+
+    /**
+     * Get the handle of an effect id, assigning a new index if the id has none yet.
+     *
+     * @param id the effect id.
+     * @return the handle.
+     */
+    @NotNull
+    public static ResearchEffectHandle of(@NotNull final ResourceLocation id)
+    {
+        return HANDLES.computeIfAbsent(id, key -> new ResearchEffectHandle(key, NEXT_INDEX.getAndIncrement()));
+    }
+
+    /**
+     * Get the handle of an effect id if it has one.
+     *
+     * @param id the effect id.
+     * @return the handle or null if no effect with this id was ever loaded or requested.
+     */
+    @Nullable
+    public static ResearchEffectHandle get(@NotNull final ResourceLocation id)
+    {
+        return HANDLES.get(id);
+    }
+
+    /**
+     * Get the amount of assigned indexes, the size an array needs to hold every handle.
+     *
+     * @return the amount.
+     */
+    public static int count()
+    {
+        return NEXT_INDEX.get();
+    }
+
+    /**
+     * Get the effect id.
+     *
+     * @return the id.
+     */
+    public ResourceLocation getId()
+    {
+        return id;
+    }
+
+    /**
+     * Get the index of the effect.
+     *
+     * @return the index.
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
+    @Override
+    public String toString()
+    {
+        return id + "#" + index;
+    }
+}
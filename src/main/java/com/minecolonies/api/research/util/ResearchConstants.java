@@ -1,6 +1,7 @@
 package com.minecolonies.api.research.util;
 
 import com.ldtteam.blockui.Color;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.constant.Constants;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -185,6 +186,43 @@ public final class ResearchConstants
     public static final ResourceLocation SIFTER_IRON       = new ResourceLocation(Constants.MOD_ID, "effects/sifterironunlock");
     public static final ResourceLocation SIFTER_DIAMOND    = new ResourceLocation(Constants.MOD_ID, "effects/sifterdiamondunlock");
 
+    /**
+     * Pre-resolved handles of the effects read every tick or action, for array lookups in the ResearchEffectManager.
+     */
+    public static final ResearchEffectHandle ARCHER_ARMOR_HANDLE      = ResearchEffectHandle.of(ARCHER_ARMOR);
+    public static final ResearchEffectHandle ARCHER_DAMAGE_HANDLE     = ResearchEffectHandle.of(ARCHER_DAMAGE);
+    public static final ResearchEffectHandle ARCHER_USE_ARROWS_HANDLE = ResearchEffectHandle.of(ARCHER_USE_ARROWS);
+    public static final ResearchEffectHandle ARMOR_DURABILITY_HANDLE  = ResearchEffectHandle.of(ARMOR_DURABILITY);
+    public static final ResearchEffectHandle ARROW_PIERCE_HANDLE      = ResearchEffectHandle.of(ARROW_PIERCE);
+    public static final ResearchEffectHandle BLOCK_ATTACKS_HANDLE     = ResearchEffectHandle.of(BLOCK_ATTACKS);
+    public static final ResearchEffectHandle BLOCK_BREAK_SPEED_HANDLE = ResearchEffectHandle.of(BLOCK_BREAK_SPEED);
+    public static final ResearchEffectHandle BLOCK_PLACE_SPEED_HANDLE = ResearchEffectHandle.of(BLOCK_PLACE_SPEED);
+    public static final ResearchEffectHandle DOUBLE_ARROWS_HANDLE     = ResearchEffectHandle.of(DOUBLE_ARROWS);
+    public static final ResearchEffectHandle DRUID_USE_POTIONS_HANDLE = ResearchEffectHandle.of(DRUID_USE_POTIONS);
+    public static final ResearchEffectHandle FIRE_RES_HANDLE          = ResearchEffectHandle.of(FIRE_RES);
+    public static final ResearchEffectHandle FLEEING_DAMAGE_HANDLE    = ResearchEffectHandle.of(FLEEING_DAMAGE);
+    public static final ResearchEffectHandle FLEEING_SPEED_HANDLE     = ResearchEffectHandle.of(FLEEING_SPEED);
+    public static final ResearchEffectHandle GUARD_CRIT_HANDLE        = ResearchEffectHandle.of(GUARD_CRIT);
+    public static final ResearchEffectHandle HAPPINESS_HANDLE         = ResearchEffectHandle.of(HAPPINESS);
+    public static final ResearchEffectHandle KNIGHT_TAUNT_HANDLE      = ResearchEffectHandle.of(KNIGHT_TAUNT);
+    public static final ResearchEffectHandle KNIGHT_WHIRLWIND_HANDLE  = ResearchEffectHandle.of(KNIGHT_WHIRLWIND);
+    public static final ResearchEffectHandle LEVELING_HANDLE          = ResearchEffectHandle.of(LEVELING);
+    public static final ResearchEffectHandle MASKS_HANDLE             = ResearchEffectHandle.of(MASKS);
+    public static final ResearchEffectHandle MELEE_ARMOR_HANDLE       = ResearchEffectHandle.of(MELEE_ARMOR);
+    public static final ResearchEffectHandle MELEE_DAMAGE_HANDLE      = ResearchEffectHandle.of(MELEE_DAMAGE);
+    public static final ResearchEffectHandle RAILS_HANDLE             = ResearchEffectHandle.of(RAILS);
+    public static final ResearchEffectHandle REGENERATION_HANDLE      = ResearchEffectHandle.of(REGENERATION);
+    public static final ResearchEffectHandle RETREAT_HANDLE           = ResearchEffectHandle.of(RETREAT);
+    public static final ResearchEffectHandle SATLIMIT_HANDLE          = ResearchEffectHandle.of(SATLIMIT);
+    public static final ResearchEffectHandle SATURATION_HANDLE        = ResearchEffectHandle.of(SATURATION);
+    public static final ResearchEffectHandle SHIELD_USAGE_HANDLE      = ResearchEffectHandle.of(SHIELD_USAGE);
+    public static final ResearchEffectHandle SLEEP_LESS_HANDLE        = ResearchEffectHandle.of(SLEEP_LESS);
+    public static final ResearchEffectHandle TOOL_DURABILITY_HANDLE   = ResearchEffectHandle.of(TOOL_DURABILITY);
+    public static final ResearchEffectHandle VACCINES_HANDLE          = ResearchEffectHandle.of(VACCINES);
+    public static final ResearchEffectHandle VINES_HANDLE             = ResearchEffectHandle.of(VINES);
+    public static final ResearchEffectHandle WORKING_IN_RAIN_HANDLE   = ResearchEffectHandle.of(WORKING_IN_RAIN);
+    public static final ResearchEffectHandle WORK_LONGER_HANDLE       = ResearchEffectHandle.of(WORK_LONGER);
+
     /**
      * Predicate for selecting any fire-related damage
      */
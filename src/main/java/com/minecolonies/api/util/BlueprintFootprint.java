@@ -0,0 +1,182 @@
+package com.minecolonies.api.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ldtteam.structurize.api.RotationMirror;
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.storage.StructurePackMeta;
+import com.ldtteam.structurize.storage.StructurePacks;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Corners of a rotated and mirrored blueprint relative to its anchor, so placement and claim checks can work without loading the blueprint again.
+ * <p>
+ * Footprints are cached by structure pack, blueprint path and rotation/mirror. Entries remember the structure pack instance they were loaded from, a reloaded or replaced pack
+ * gets a new instance which makes its old entries stale.
+ *
+ * @param min the minimum corner relative to the anchor.
+ * @param max the maximum corner relative to the anchor.
+ */
+public record BlueprintFootprint(BlockPos min, BlockPos max)
+{
+    /**
+     * Maximum amount of cached footprints.
+     */
+    private static final int CACHE_SIZE = 2048;
+
+    /**
+     * Cached footprints.
+     */
+    private static final Cache<FootprintKey, CachedFootprint> cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    /**
+     * Calculate the footprint of a blueprint.
+     *
+     * @param blueprint the blueprint, gets rotated.
+     * @param rotMir    the rotation and mirror.
+     * @param world     the world.
+     * @return the footprint.
+     */
+    public static BlueprintFootprint of(@NotNull final Blueprint blueprint, final RotationMirror rotMir, final Level world)
+    {
+        final Tuple<BlockPos, BlockPos> corners = ColonyUtils.calculateCorners(BlockPos.ZERO, world, blueprint, rotMir);
+        return new BlueprintFootprint(corners.getA(), corners.getB());
+    }
+
+    /**
+     * Get the cached footprint of a blueprint, without loading it.
+     *
+     * @param pack   the structure pack.
+     * @param path   the blueprint path.
+     * @param rotMir the rotation and mirror.
+     * @return the footprint or null if not cached.
+     */
+    @Nullable
+    public static BlueprintFootprint getCached(final String pack, final String path, final RotationMirror rotMir)
+    {
+        final FootprintKey key = new FootprintKey(pack, path, rotMir);
+        final CachedFootprint cached = cache.getIfPresent(key);
+        if (cached == null)
+        {
+            return null;
+        }
+
+        if (cached.pack() != StructurePacks.getStructurePack(pack))
+        {
+            cache.invalidate(key);
+            return null;
+        }
+        return cached.footprint();
+    }
+
+    /**
+     * Get the footprint of a blueprint, loading the blueprint if it is not cached.
+     *
+     * @param pack   the structure pack.
+     * @param path   the blueprint path.
+     * @param rotMir the rotation and mirror.
+     * @param world  the world.
+     * @return the footprint or null if the blueprint does not exist.
+     */
+    @Nullable
+    public static BlueprintFootprint get(final String pack, final String path, final RotationMirror rotMir, final Level world)
+    {
+        final BlueprintFootprint cached = getCached(pack, path, rotMir);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final Blueprint blueprint = StructurePacks.getBlueprint(pack, path, world.registryAccess());
+        if (blueprint == null)
+        {
+            return null;
+        }
+        return cache(pack, path, blueprint, rotMir, world);
+    }
+
+    /**
+     * Calculate and cache the footprint of an already loaded blueprint.
+     *
+     * @param pack      the structure pack.
+     * @param path      the blueprint path.
+     * @param blueprint the blueprint, gets rotated.
+     * @param rotMir    the rotation and mirror.
+     * @param world     the world.
+     * @return the footprint.
+     */
+    public static BlueprintFootprint cache(final String pack, final String path, @NotNull final Blueprint blueprint, final RotationMirror rotMir, final Level world)
+    {
+        final BlueprintFootprint footprint = of(blueprint, rotMir, world);
+        final StructurePackMeta packMeta = StructurePacks.getStructurePack(pack);
+        if (packMeta != null)
+        {
+            cache.put(new FootprintKey(pack, path, rotMir), new CachedFootprint(packMeta, footprint));
+        }
+        return footprint;
+    }
+
+    /**
+     * Drops all cached footprints.
+     */
+    public static void clearCache()
+    {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Get the world corners of the footprint placed at a position, equal to {@link ColonyUtils#calculateCorners}.
+     *
+     * @param pos the anchor position.
+     * @return the corners.
+     */
+    public Tuple<BlockPos, BlockPos> getCorners(final BlockPos pos)
+    {
+        return new Tuple<>(pos.offset(min), pos.offset(max));
+    }
+
+    /**
+     * Get the chunks the footprint placed at a position covers, leaving out the outermost block on each side so buildings may touch a chunk without needing it.
+     *
+     * @param pos the anchor position.
+     * @return the chunk keys, in x then z order.
+     */
+    public LongSet getChunks(final BlockPos pos)
+    {
+        final LongSet chunks = new LongLinkedOpenHashSet();
+        final int minX = pos.getX() + min.getX() + 1;
+        final int maxX = pos.getX() + max.getX();
+        final int minZ = pos.getZ() + min.getZ() + 1;
+        final int maxZ = pos.getZ() + max.getZ();
+
+        for (int x = minX; x < maxX; x += 16)
+        {
+            for (int z = minZ; z < maxZ; z += 16)
+            {
+                chunks.add(ChunkPos.asLong(x >> 4, z >> 4));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Cache key of a footprint.
+     */
+    private record FootprintKey(String pack, String path, RotationMirror rotMir)
+    {
+    }
+
+    /**
+     * Cached footprint with the structure pack instance it was loaded from.
+     */
+    private record CachedFootprint(StructurePackMeta pack, BlueprintFootprint footprint)
+    {
+    }
+}
@@ -7,7 +7,7 @@ import net.minecraft.world.item.ItemStack;
 
 import javax.annotation.Nullable;
 
-import static com.minecolonies.api.research.util.ResearchConstants.SATURATION;
+import static com.minecolonies.api.research.util.ResearchConstants.SATURATION_HANDLE;
 import static com.minecolonies.api.util.constant.Constants.MAX_BUILDING_LEVEL;
 
 /**
@@ -70,7 +70,7 @@ public class FoodUtils
     {
         final FoodProperties itemFood = foodStack.getItem().getFoodProperties(foodStack, citizen);
         final int housingLevel = citizen.getCitizenData().getHomeBuilding() == null ? 0 : citizen.getCitizenData().getHomeBuilding().getBuildingLevel();
-        final double researchBonus = citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION);
+        final double researchBonus = citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION_HANDLE);
         return getFoodValue(foodStack, itemFood, housingLevel, researchBonus);
     }
 }
@@ -164,6 +164,10 @@ public final class TranslationConstants
     @NonNls
     public static final String COLONY_SIZE_CHANGE                                                   = "com.minecolonies.coremod.colonysizechange";
     @NonNls
+    public static final String COLONY_CLAIM_PROGRESS                                                = "com.minecolonies.coremod.colonyclaimprogress";
+    @NonNls
+    public static final String COLONY_CLAIM_DONE                                                    = "com.minecolonies.coremod.colonyclaimdone";
+    @NonNls
     public static final String COM_MINECOLONIES_COREMOD_STATUS_WORKER_GOINGTOHUT                    = "com.minecolonies.coremod.status.worker.goingtohut";
     @NonNls
     public static final String COM_MINECOLONIES_COREMOD_STATUS_HERDER_BREEDING                      = "com.minecolonies.coremod.status.herder.breeding";
@@ -606,6 +610,10 @@ public final class TranslationConstants
     @NonNls
     public static final String MESSAGE_PERMISSION_SCEPTER_REMOVE_BLOCK_SUCCESS    = "com.minecolonies.coremod.item.permissionscepter.removeblock.success";
     @NonNls
+    public static final String MESSAGE_PERMISSION_SCEPTER_ADD_BATCH_SUCCESS       = "com.minecolonies.coremod.item.permissionscepter.addbatch.success";
+    @NonNls
+    public static final String MESSAGE_PERMISSION_SCEPTER_REMOVE_BATCH_SUCCESS    = "com.minecolonies.coremod.item.permissionscepter.removebatch.success";
+    @NonNls
     public static final String MESSAGE_SCROLL_REGISTERED                          = "minecolonies.scroll.registered";
     @NonNls
     public static final String MESSAGE_SCROLL_NO_PERMISSION                       = "minecolonies.scroll.nopermission";
@@ -419,13 +419,19 @@ public class WindowPermissionsPage extends AbstractWindowTownHall
 
             if (row < freeBlocks.size())
             {
-                new ChangeFreeToInteractBlockMessage(building.getColony(), freeBlocks.get(row), ChangeFreeToInteractBlockMessage.MessageType.REMOVE_BLOCK).sendToServer();
+                new ChangeFreeToInteractBlockMessage(building.getColony(),
+                  Collections.emptyList(),
+                  List.of(freeBlocks.get(row)),
+                  ChangeFreeToInteractBlockMessage.MessageType.REMOVE_BLOCK).sendToServer();
                 building.getColony().removeFreeBlock(freeBlocks.get(row));
             }
             else if (row < freeBlocks.size() + freePositions.size())
             {
                 final BlockPos freePos = freePositions.get(row - freeBlocks.size());
-                new ChangeFreeToInteractBlockMessage(building.getColony(), freePos, ChangeFreeToInteractBlockMessage.MessageType.REMOVE_BLOCK).sendToServer();
+                new ChangeFreeToInteractBlockMessage(building.getColony(),
+                  List.of(freePos),
+                  Collections.emptyList(),
+                  ChangeFreeToInteractBlockMessage.MessageType.REMOVE_BLOCK).sendToServer();
                 building.getColony().removeFreePosition(freePos);
             }
             fillFreeBlockList();
@@ -492,6 +498,8 @@ public class WindowPermissionsPage extends AbstractWindowTownHall
     {
         final TextField input = findPaneOfTypeByID(INPUT_BLOCK_NAME, TextField.class);
         final String inputText = input.getText();
+        final List<Block> blocks = new ArrayList<>();
+        final List<BlockPos> positions = new ArrayList<>();
 
         try
         {
@@ -500,7 +508,7 @@ public class WindowPermissionsPage extends AbstractWindowTownHall
             if (block != null && !block.defaultBlockState().isAir())
             {
                 building.getColony().addFreeBlock(block);
-                new ChangeFreeToInteractBlockMessage(building.getColony(), block, ChangeFreeToInteractBlockMessage.MessageType.ADD_BLOCK).sendToServer();
+                blocks.add(block);
             }
         }
         catch (final ResourceLocationException e)
@@ -512,8 +520,13 @@ public class WindowPermissionsPage extends AbstractWindowTownHall
 
         if (pos != null)
         {
-            new ChangeFreeToInteractBlockMessage(building.getColony(), pos, ChangeFreeToInteractBlockMessage.MessageType.ADD_BLOCK).sendToServer();
             building.getColony().addFreePosition(pos);
+            positions.add(pos);
+        }
+
+        if (!blocks.isEmpty() || !positions.isEmpty())
+        {
+            new ChangeFreeToInteractBlockMessage(building.getColony(), positions, blocks, ChangeFreeToInteractBlockMessage.MessageType.ADD_BLOCK).sendToServer();
         }
 
         fillFreeBlockList();
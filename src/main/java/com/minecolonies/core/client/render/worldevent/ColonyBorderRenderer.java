@@ -10,32 +10,80 @@ import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.claim.IChunkClaimData;
-import com.minecolonies.core.MineColonies;
-import com.minecolonies.core.util.MutableChunkPos;
+import com.minecolonies.api.util.Log;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.ByteBufferBuilder;
 import com.mojang.blaze3d.vertex.MeshData;
-import com.mojang.blaze3d.vertex.Tesselator;
 import com.mojang.blaze3d.vertex.VertexBuffer;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.renderer.GameRenderer;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Renders the claimed chunk borders and the ticketed chunks of the nearest colony while holding the build tool.
+ * <p>
+ * Border geometry is built per colony and region of {@link #REGION_SIZE} chunks around the player, and only rebuilt when the player enters another region, or the claims or
+ * tickets of a colony change. The finer grid on the borders in line with the player is a small separate mesh which follows the player. Claims are copied on the render thread,
+ * the tesselation runs on a worker thread and the render thread only uploads the finished mesh. The previous mesh is drawn until its replacement is ready.
+ */
 public class ColonyBorderRenderer
 {
     private static final int RENDER_DIST_THRESHOLD = 3;
     private static final int CHUNK_SIZE = 16;
     private static final int PLAYER_CHUNK_STEP = CHUNK_SIZE / 4;
 
-    private static VertexBuffer colonies           = null;
-    private static VertexBuffer chunktickets       = null;
-    private static ChunkPos                     lastPlayerChunkPos = null;
-    private static IColonyView lastColony = null;
+    /**
+     * Region edge length in chunks as a bit shift, 8 chunks.
+     */
+    private static final int REGION_SHIFT = 3;
+    private static final int REGION_SIZE  = 1 << REGION_SHIFT;
+
+    /**
+     * Initial vertex storage of a mesh, grows as needed.
+     */
+    private static final int INITIAL_MESH_BYTES = 64 * 1024;
+
+    /**
+     * Worker building the border meshes.
+     */
+    private static final ExecutorService MESH_EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Colony Border Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((t, e) -> Log.getLogger().error("Minecolonies colony border worker errored:", e));
+        return thread;
+    });
+
+    /**
+     * Claim change counter, part of every mesh key so changed claims or tickets rebuild the meshes.
+     */
+    private static int claimVersion = 0;
+
+    /**
+     * Region meshes of the claims and the chunk tickets.
+     */
+    private static final MeshSlot colonies    = new MeshSlot();
+    private static final MeshSlot chunktickets = new MeshSlot();
+
+    /**
+     * Player aligned border grid meshes of the claims and the chunk tickets.
+     */
+    private static final MeshSlot colonyGrid  = new MeshSlot();
+    private static final MeshSlot ticketGrid  = new MeshSlot();
 
     static void render(final WorldEventContext ctx)
     {
@@ -45,133 +93,198 @@ public class ColonyBorderRenderer
         }
 
         final ChunkPos playerChunkPos = new ChunkPos(ctx.clientPlayer.blockPosition());
+        final int playerRenderDist = Math.max(ctx.clientRenderDist - RENDER_DIST_THRESHOLD, 2);
+        final boolean useColonyColour = IMinecoloniesAPI.getInstance().getConfig().getClient().colonyteamborders.get();
 
-        if (lastColony != ctx.nearestColony || !lastPlayerChunkPos.equals(playerChunkPos))
+        // Regions are centered on their middle chunk, the crop covers the render distance from anywhere within the region
+        final ChunkPos regionCenter = new ChunkPos(((playerChunkPos.x >> REGION_SHIFT) << REGION_SHIFT) + REGION_SIZE / 2,
+          ((playerChunkPos.z >> REGION_SHIFT) << REGION_SHIFT) + REGION_SIZE / 2);
+        final int regionRadius = playerRenderDist + REGION_SIZE / 2;
+
+        final boolean tickets = Screen.hasControlDown();
+        final MeshSlot regionSlot = tickets ? chunktickets : colonies;
+        final MeshSlot gridSlot = tickets ? ticketGrid : colonyGrid;
+
+        final MeshKey regionKey = new MeshKey(ctx.nearestColony.getID(), claimVersion, regionCenter.toLong(), regionRadius, useColonyColour, tickets);
+        if (!regionKey.equals(regionSlot.key))
+        {
+            regionSlot.request(regionKey, snapshot(ctx, tickets, regionCenter, regionCenter, regionRadius, null, useColonyColour));
+        }
+
+        final MeshKey gridKey = new MeshKey(ctx.nearestColony.getID(), claimVersion, playerChunkPos.toLong(), playerRenderDist, useColonyColour, tickets);
+        if (!gridKey.equals(gridSlot.key))
         {
-            lastColony = ctx.nearestColony;
-            lastPlayerChunkPos = playerChunkPos;
+            gridSlot.request(gridKey, snapshot(ctx, tickets, playerChunkPos, playerChunkPos, playerRenderDist, playerChunkPos, useColonyColour));
+        }
 
-            final Map<ChunkPos, Integer> coloniesMap = new HashMap<>();
-            final Map<ChunkPos, Integer> chunkticketsMap = new HashMap<>();
-            final int nearestColonyId = ctx.nearestColony.getID();
-            final int playerRenderDist = Math.max(ctx.clientRenderDist - RENDER_DIST_THRESHOLD, 2);
-            final int range = Math.max(ctx.clientRenderDist, MineColonies.getConfig().getServer().maxColonySize.get());
+        regionSlot.render(ctx);
+        gridSlot.render(ctx);
+    }
 
-            for (int chunkX = -range; chunkX <= range; chunkX++)
+    /**
+     * Notifies the renderer that claims or chunk tickets of a colony changed.
+     */
+    public static void onClaimsChanged()
+    {
+        claimVersion++;
+    }
+
+    /**
+     * Copy the chunk owners needed for a mesh, on the render thread.
+     *
+     * @param ctx             the render context.
+     * @param tickets         whether to copy the ticketed chunks of the nearest colony instead of the claims.
+     * @param origin          the chunk the mesh is positioned relative to.
+     * @param cropCenter      the center of the drawn area.
+     * @param cropRadius      the radius of the drawn area, exclusive.
+     * @param playerChunkPos  the player chunk to copy only its rows and columns for the player grid, null for the full area.
+     * @param useColonyColour whether to use the team colours of the colonies.
+     * @return the snapshot.
+     */
+    private static BorderSnapshot snapshot(
+      final WorldEventContext ctx,
+      final boolean tickets,
+      final ChunkPos origin,
+      final ChunkPos cropCenter,
+      final int cropRadius,
+      @Nullable final ChunkPos playerChunkPos,
+      final boolean useColonyColour)
+    {
+        final IColonyView nearestColony = ctx.nearestColony;
+        final int nearestColonyId = nearestColony.getID();
+        final Set<Long> ticketedChunks = nearestColony.getTicketedChunks();
+        final Long2IntOpenHashMap owners = new Long2IntOpenHashMap();
+        owners.defaultReturnValue(-1);
+
+        // One extra ring for the neighbour checks of the outermost chunks
+        for (int chunkX = cropCenter.x - cropRadius; chunkX <= cropCenter.x + cropRadius; chunkX++)
+        {
+            for (int chunkZ = cropCenter.z - cropRadius; chunkZ <= cropCenter.z + cropRadius; chunkZ++)
             {
-                for (int chunkZ = -range; chunkZ <= range; chunkZ++)
+                if (playerChunkPos != null && Math.abs(chunkX - playerChunkPos.x) > 1 && Math.abs(chunkZ - playerChunkPos.z) > 1)
                 {
-                    final LevelChunk chunk = ctx.clientLevel.getChunk(playerChunkPos.x + chunkX, playerChunkPos.z + chunkZ);
-                    if (chunk.isEmpty()) { continue; }
-                    final ChunkPos chunkPos = chunk.getPos();
+                    continue;
+                }
 
-                    final IChunkClaimData cap = IColonyManager.getInstance().getClaimData(ctx.nearestColony.getDimension(), chunkPos);;
+                final long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                if (tickets)
+                {
+                    owners.put(chunkKey, ticketedChunks.contains(chunkKey) ? nearestColonyId : 0);
+                }
+                else
+                {
+                    final IChunkClaimData cap = IColonyManager.getInstance().getClaimData(nearestColony.getDimension(), new ChunkPos(chunkX, chunkZ));
                     if (cap != null)
                     {
-                        coloniesMap.put(chunkPos, cap.getOwningColony());
-                    }
-
-                    if (ctx.nearestColony.getTicketedChunks().contains(chunkPos.toLong()))
-                    {
-                        chunkticketsMap.put(chunkPos, nearestColonyId);
-                    }
-                    else
-                    {
-                        chunkticketsMap.put(chunkPos, 0);
+                        owners.put(chunkKey, cap.getOwningColony());
                     }
                 }
             }
+        }
 
-            if (colonies != null)
+        final Int2ObjectMap<IColour> colours = new Int2ObjectOpenHashMap<>();
+        for (final int colonyId : owners.values())
+        {
+            if (colonyId == 0 || colours.containsKey(colonyId))
             {
-                colonies.close();
+                continue;
             }
-            if (chunktickets != null)
+
+            if (useColonyColour)
             {
-                chunktickets.close();
+                final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(colonyId, ctx.clientLevel.dimension());
+                final ChatFormatting team = colony != null ? colony.getTeamColonyColor()
+                                              : colonyId == nearestColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
+                colours.put(colonyId, new ColourARGB(team.getColor() | 0xff000000).asQuartet());
+            }
+            else if (colonyId == nearestColonyId)
+            {
+                colours.put(colonyId, new ColourQuartet(255, 255, 255, 255));
+            }
+            else
+            {
+                colours.put(colonyId, new ColourQuartet(255, 70, 70, 255));
             }
-            colonies = draw(ctx, coloniesMap, nearestColonyId, playerChunkPos, playerRenderDist);
-            chunktickets = draw(ctx, chunkticketsMap, nearestColonyId, playerChunkPos, playerRenderDist);
-        }
-
-        final VertexBuffer p = Screen.hasControlDown() ? chunktickets : colonies;
-        if (p == null)
-        {
-            return;
         }
 
-        ctx.pushPoseCameraToPos(lastPlayerChunkPos.getWorldPosition());
-        ctx.pushShaderMvMatrixFromPose();
-        WorldRenderMacros.LINES.setupRenderState();
-        p.bind();
-        p.drawWithShader(RenderSystem.getModelViewMatrix(), RenderSystem.getProjectionMatrix(), GameRenderer.getPositionColorShader());
-        VertexBuffer.unbind();
-        WorldRenderMacros.LINES.clearRenderState();
-        ctx.popShaderMvMatrix();
-        ctx.popPose();
+        return new BorderSnapshot(owners,
+          colours,
+          nearestColonyId,
+          origin,
+          cropCenter,
+          cropRadius,
+          playerChunkPos,
+          ctx.clientLevel.getMinBuildHeight(),
+          ctx.clientLevel.getMaxBuildHeight());
     }
 
-    private static VertexBuffer draw(final WorldEventContext ctx,
-        final Map<ChunkPos, Integer> mapToDraw,
-        final int playerColonyId,
-        final ChunkPos playerChunkPos,
-        final int playerRenderDist)
+    /**
+     * Build the mesh of a snapshot, on the worker thread.
+     *
+     * @param snapshot the snapshot.
+     * @return the built mesh.
+     */
+    private static BuiltMesh tesselate(final BorderSnapshot snapshot)
     {
-        final MutableChunkPos mutableChunkPos = new MutableChunkPos(0, 0);
-        final Map<Integer, IColour> colonyColours = new HashMap<>();
-        final boolean useColonyColour = IMinecoloniesAPI.getInstance().getConfig().getClient().colonyteamborders.get();
-
-        final BufferBuilder bufferbuilder = Tesselator.getInstance().begin(WorldRenderMacros.LINES.mode(), WorldRenderMacros.LINES.format());
+        final ByteBufferBuilder bytes = new ByteBufferBuilder(INITIAL_MESH_BYTES);
+        final BufferBuilder bufferbuilder = new BufferBuilder(bytes, WorldRenderMacros.LINES.mode(), WorldRenderMacros.LINES.format());
         final ColouredVertexConsumer buf = new ColouredVertexConsumer(bufferbuilder);
-        mapToDraw.forEach((chunkPos, colonyId) -> {
-            if (colonyId == 0 || chunkPos.x <= playerChunkPos.x - playerRenderDist || chunkPos.x >= playerChunkPos.x + playerRenderDist
-                || chunkPos.z <= playerChunkPos.z - playerRenderDist || chunkPos.z >= playerChunkPos.z + playerRenderDist)
-            {
-                return;
-            }
+        final Long2IntOpenHashMap owners = snapshot.owners();
+        final ChunkPos origin = snapshot.origin();
+        final ChunkPos cropCenter = snapshot.cropCenter();
+        final ChunkPos playerChunkPos = snapshot.playerChunkPos();
+        final int minY = snapshot.minY();
+        final int maxY = snapshot.maxY();
 
-            final boolean isPlayerChunkX = colonyId == playerColonyId && chunkPos.x == playerChunkPos.x;
-            final boolean isPlayerChunkZ = colonyId == playerColonyId && chunkPos.z == playerChunkPos.z;
-            final float minX = chunkPos.getMinBlockX() - playerChunkPos.getMinBlockX();
-            final float maxX = chunkPos.getMaxBlockX() - playerChunkPos.getMinBlockX() + 1.0f;
-            final float minZ = chunkPos.getMinBlockZ() - playerChunkPos.getMinBlockZ();
-            final float maxZ = chunkPos.getMaxBlockZ() - playerChunkPos.getMinBlockZ() + 1.0f;
-            final int minY = ctx.clientLevel.getMinBuildHeight();
-            final int maxY = ctx.clientLevel.getMaxBuildHeight();
-            final int testedColonyId = colonyId;
-
-            if (useColonyColour)
-            {
-                buf.defaultColor = colonyColours.computeIfAbsent(colonyId, id ->
-                {
-                    final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(id, ctx.clientLevel.dimension());
-                    final ChatFormatting team = colony != null ? colony.getTeamColonyColor()
-                            : id == playerColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
-                    return new ColourARGB(team.getColor() | 0xff000000).asQuartet();
-                });
-            }
-            else if (colonyId == playerColonyId)
+        for (final Long2IntMap.Entry entry : owners.long2IntEntrySet())
+        {
+            final int colonyId = entry.getIntValue();
+            final int chunkX = ChunkPos.getX(entry.getLongKey());
+            final int chunkZ = ChunkPos.getZ(entry.getLongKey());
+            if (colonyId == 0 || Math.abs(chunkX - cropCenter.x) >= snapshot.cropRadius() || Math.abs(chunkZ - cropCenter.z) >= snapshot.cropRadius())
             {
-                buf.defaultColor = new ColourQuartet(255, 255, 255, 255);
+                continue;
             }
-            else
+
+            final boolean isPlayerChunkX = playerChunkPos != null && colonyId == snapshot.nearestColonyId() && chunkX == playerChunkPos.x;
+            final boolean isPlayerChunkZ = playerChunkPos != null && colonyId == snapshot.nearestColonyId() && chunkZ == playerChunkPos.z;
+            if (playerChunkPos != null && !isPlayerChunkX && !isPlayerChunkZ)
             {
-                buf.defaultColor = new ColourQuartet(255, 70, 70, 255);
+                continue;
             }
 
-            mutableChunkPos.setX(chunkPos.x);
-            mutableChunkPos.setZ(chunkPos.z - 1);
-            final boolean north = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
-
-            mutableChunkPos.setZ(chunkPos.z + 1);
-            final boolean south = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+            final float minX = (chunkX - origin.x) * CHUNK_SIZE;
+            final float maxX = minX + CHUNK_SIZE;
+            final float minZ = (chunkZ - origin.z) * CHUNK_SIZE;
+            final float maxZ = minZ + CHUNK_SIZE;
+            buf.defaultColor = snapshot.colours().get(colonyId);
 
-            mutableChunkPos.setX(chunkPos.x + 1);
-            mutableChunkPos.setZ(chunkPos.z);
-            final boolean east = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+            final boolean north = owners.get(ChunkPos.asLong(chunkX, chunkZ - 1)) != colonyId;
+            final boolean south = owners.get(ChunkPos.asLong(chunkX, chunkZ + 1)) != colonyId;
+            final boolean east = owners.get(ChunkPos.asLong(chunkX + 1, chunkZ)) != colonyId;
+            final boolean west = owners.get(ChunkPos.asLong(chunkX - 1, chunkZ)) != colonyId;
 
-            mutableChunkPos.setX(chunkPos.x - 1);
-            final boolean west = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+            if (playerChunkPos != null)
+            {
+                // player grid, the coarse lines of these sides are part of the region mesh
+                if (north && isPlayerChunkX)
+                {
+                    addFineXSide(buf, minX, maxX, minZ, minY, maxY);
+                }
+                if (south && isPlayerChunkX)
+                {
+                    addFineXSide(buf, minX, maxX, maxZ, minY, maxY);
+                }
+                if (west && isPlayerChunkZ)
+                {
+                    addFineZSide(buf, minX, minZ, maxZ, minY, maxY);
+                }
+                if (east && isPlayerChunkZ)
+                {
+                    addFineZSide(buf, maxX, minZ, maxZ, minY, maxY);
+                }
+                continue;
+            }
 
             // vert lines
             if (north || west)
@@ -196,131 +309,251 @@ public class ColonyBorderRenderer
             }
 
             // horizontal lines
-            if (north)
+            for (int y = minY + CHUNK_SIZE; y < maxY; y += CHUNK_SIZE)
             {
-                if (isPlayerChunkX)
+                if (north)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(minX + shift, minY, minZ).setDefaultColor();
-                        buf.addVertex(minX + shift, maxY, minZ).setDefaultColor();
-                    }
-                    for (int y = minY + PLAYER_CHUNK_STEP; y < maxY; y += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(minX, y, minZ).setDefaultColor();
-                        buf.addVertex(maxX, y, minZ).setDefaultColor();
-                    }
+                    buf.addVertex(minX, y, minZ).setDefaultColor();
+                    buf.addVertex(maxX, y, minZ).setDefaultColor();
                 }
-                else
+                if (south)
                 {
-                    for (int y = minY + CHUNK_SIZE; y < maxY; y += CHUNK_SIZE)
-                    {
-                        buf.addVertex(minX, y, minZ).setDefaultColor();
-                        buf.addVertex(maxX, y, minZ).setDefaultColor();
-                    }
+                    buf.addVertex(minX, y, maxZ).setDefaultColor();
+                    buf.addVertex(maxX, y, maxZ).setDefaultColor();
                 }
-            }
-            if (south)
-            {
-                if (isPlayerChunkX)
+                if (west)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(minX + shift, minY, maxZ).setDefaultColor();
-                        buf.addVertex(minX + shift, maxY, maxZ).setDefaultColor();
-                    }
-                    for (int y = minY + PLAYER_CHUNK_STEP; y < maxY; y += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(minX, y, maxZ).setDefaultColor();
-                        buf.addVertex(maxX, y, maxZ).setDefaultColor();
-                    }
+                    buf.addVertex(minX, y, minZ).setDefaultColor();
+                    buf.addVertex(minX, y, maxZ).setDefaultColor();
                 }
-                else
+                if (east)
                 {
-                    for (int y = minY + CHUNK_SIZE; y < maxY; y += CHUNK_SIZE)
-                    {
-                        buf.addVertex(minX, y, maxZ).setDefaultColor();
-                        buf.addVertex(maxX, y, maxZ).setDefaultColor();
-                    }
+                    buf.addVertex(maxX, y, minZ).setDefaultColor();
+                    buf.addVertex(maxX, y, maxZ).setDefaultColor();
                 }
             }
-            if (west)
+        }
+
+        return new BuiltMesh(bytes, bufferbuilder.build(), origin);
+    }
+
+    /**
+     * Add the fine grid of a border side along the x axis.
+     */
+    private static void addFineXSide(final ColouredVertexConsumer buf, final float minX, final float maxX, final float z, final int minY, final int maxY)
+    {
+        for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+        {
+            buf.addVertex(minX + shift, minY, z).setDefaultColor();
+            buf.addVertex(minX + shift, maxY, z).setDefaultColor();
+        }
+        for (int y = minY + PLAYER_CHUNK_STEP; y < maxY; y += PLAYER_CHUNK_STEP)
+        {
+            buf.addVertex(minX, y, z).setDefaultColor();
+            buf.addVertex(maxX, y, z).setDefaultColor();
+        }
+    }
+
+    /**
+     * Add the fine grid of a border side along the z axis.
+     */
+    private static void addFineZSide(final ColouredVertexConsumer buf, final float x, final float minZ, final float maxZ, final int minY, final int maxY)
+    {
+        for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+        {
+            buf.addVertex(x, minY, minZ + shift).setDefaultColor();
+            buf.addVertex(x, maxY, minZ + shift).setDefaultColor();
+        }
+        for (int y = minY + PLAYER_CHUNK_STEP; y < maxY; y += PLAYER_CHUNK_STEP)
+        {
+            buf.addVertex(x, y, minZ).setDefaultColor();
+            buf.addVertex(x, y, maxZ).setDefaultColor();
+        }
+    }
+
+    /**
+     * Cleanup on logout.
+     */
+    public static void cleanup()
+    {
+        colonies.close();
+        chunktickets.close();
+        colonyGrid.close();
+        ticketGrid.close();
+    }
+
+    /**
+     * Identifies the content of a mesh.
+     */
+    private record MeshKey(int colonyId, int claimVersion, long center, int radius, boolean useColonyColour, boolean tickets)
+    {
+    }
+
+    /**
+     * Chunk owners copied for one mesh, owners are -1 for unknown chunks.
+     */
+    private record BorderSnapshot(
+      Long2IntOpenHashMap owners,
+      Int2ObjectMap<IColour> colours,
+      int nearestColonyId,
+      ChunkPos origin,
+      ChunkPos cropCenter,
+      int cropRadius,
+      @Nullable ChunkPos playerChunkPos,
+      int minY,
+      int maxY)
+    {
+    }
+
+    /**
+     * Finished mesh waiting for its upload.
+     *
+     * @param bytes  the vertex storage, freed after the upload.
+     * @param mesh   the mesh or null if nothing is drawn.
+     * @param origin the chunk the mesh is positioned relative to.
+     */
+    private record BuiltMesh(ByteBufferBuilder bytes, @Nullable MeshData mesh, ChunkPos origin)
+    {
+        /**
+         * Frees the mesh without uploading it.
+         */
+        private void discard()
+        {
+            if (mesh != null)
             {
-                if (isPlayerChunkZ)
-                {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(minX, minY, minZ + shift).setDefaultColor();
-                        buf.addVertex(minX, maxY, minZ + shift).setDefaultColor();
-                    }
-                    for (int y = minY + PLAYER_CHUNK_STEP; y < maxY; y += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(minX, y, minZ).setDefaultColor();
-                        buf.addVertex(minX, y, maxZ).setDefaultColor();
-                    }
-                }
-                else
-                {
-                    for (int y = minY + CHUNK_SIZE; y < maxY; y += CHUNK_SIZE)
-                    {
-                        buf.addVertex(minX, y, minZ).setDefaultColor();
-                        buf.addVertex(minX, y, maxZ).setDefaultColor();
-                    }
-                }
+                mesh.close();
             }
-            if (east)
+            bytes.close();
+        }
+    }
+
+    /**
+     * One drawn mesh, with its pending replacement. Render thread only.
+     */
+    private static final class MeshSlot
+    {
+        /**
+         * Key of the latest requested mesh.
+         */
+        @Nullable
+        private MeshKey key;
+
+        /**
+         * Mesh being built for the latest request.
+         */
+        @Nullable
+        private CompletableFuture<BuiltMesh> pending;
+
+        /**
+         * The uploaded mesh and its origin.
+         */
+        @Nullable
+        private VertexBuffer buffer;
+        @Nullable
+        private ChunkPos     bufferOrigin;
+
+        /**
+         * Requests a new mesh, replacing a still pending one.
+         *
+         * @param key      the key of the mesh.
+         * @param snapshot the data to build it from.
+         */
+        private void request(@NotNull final MeshKey key, @NotNull final BorderSnapshot snapshot)
+        {
+            this.key = key;
+            discardPending();
+            pending = CompletableFuture.supplyAsync(() -> tesselate(snapshot), MESH_EXECUTOR);
+        }
+
+        /**
+         * Uploads a finished mesh and draws the current one.
+         *
+         * @param ctx the render context.
+         */
+        private void render(final WorldEventContext ctx)
+        {
+            if (pending != null && pending.isDone())
             {
-                if (isPlayerChunkZ)
+                final CompletableFuture<BuiltMesh> done = pending;
+                pending = null;
+                try
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(maxX, minY, minZ + shift).setDefaultColor();
-                        buf.addVertex(maxX, maxY, minZ + shift).setDefaultColor();
-                    }
-                    for (int y = minY + PLAYER_CHUNK_STEP; y < maxY; y += PLAYER_CHUNK_STEP)
-                    {
-                        buf.addVertex(maxX, y, minZ).setDefaultColor();
-                        buf.addVertex(maxX, y, maxZ).setDefaultColor();
-                    }
+                    upload(done.join());
                 }
-                else
+                catch (final CompletionException e)
                 {
-                    for (int y = minY + CHUNK_SIZE; y < maxY; y += CHUNK_SIZE)
-                    {
-                        buf.addVertex(maxX, y, minZ).setDefaultColor();
-                        buf.addVertex(maxX, y, maxZ).setDefaultColor();
-                    }
+                    Log.getLogger().error("Failed to build colony border mesh", e.getCause());
                 }
             }
-        });
 
-        final MeshData renderedBuffer = bufferbuilder.build();
-        if (renderedBuffer == null)
+            if (buffer == null)
+            {
+                return;
+            }
+
+            ctx.pushPoseCameraToPos(bufferOrigin.getWorldPosition());
+            ctx.pushShaderMvMatrixFromPose();
+            WorldRenderMacros.LINES.setupRenderState();
+            buffer.bind();
+            buffer.drawWithShader(RenderSystem.getModelViewMatrix(), RenderSystem.getProjectionMatrix(), GameRenderer.getPositionColorShader());
+            VertexBuffer.unbind();
+            WorldRenderMacros.LINES.clearRenderState();
+            ctx.popShaderMvMatrix();
+            ctx.popPose();
+        }
+
+        /**
+         * Replaces the drawn mesh.
+         *
+         * @param built the finished mesh.
+         */
+        private void upload(final BuiltMesh built)
         {
-            return null;
+            closeBuffer();
+            if (built.mesh() != null)
+            {
+                buffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+                buffer.bind();
+                buffer.upload(built.mesh());
+                VertexBuffer.unbind();
+                bufferOrigin = built.origin();
+            }
+            built.bytes().close();
         }
-        // create bytebuffer copy since buffer builder uses slice
-        final VertexBuffer vertexBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
-        vertexBuffer.bind();
-        vertexBuffer.upload(renderedBuffer);
-        VertexBuffer.unbind();
-        return vertexBuffer;
-    }
 
-    /**
-     * Cleanup on logout.
-     */
-    public static void cleanup()
-    {
-        if (colonies != null)
+        /**
+         * Frees the pending mesh once it is finished.
+         */
+        private void discardPending()
+        {
+            if (pending != null)
+            {
+                pending.thenAccept(BuiltMesh::discard);
+                pending = null;
+            }
+        }
+
+        /**
+         * Frees the drawn mesh.
+         */
+        private void closeBuffer()
         {
-            colonies.close();
+            if (buffer != null)
+            {
+                buffer.close();
+                buffer = null;
+                bufferOrigin = null;
+            }
         }
-        if (chunktickets != null)
+
+        /**
+         * Frees everything and forgets the request.
+         */
+        private void close()
         {
-            chunktickets.close();
+            discardPending();
+            closeBuffer();
+            key = null;
         }
-        lastColony = null;
-        lastPlayerChunkPos = null;
     }
 }
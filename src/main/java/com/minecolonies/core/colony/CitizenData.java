@@ -889,6 +889,7 @@ public class CitizenData implements ICitizenData
 
         homeBuilding = building;
         markDirty(0);
+        onStateChanged();
 
         if (getEntity().isPresent() && getEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -950,6 +951,7 @@ public class CitizenData implements ICitizenData
         getEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
         markDirty(0);
+        onStateChanged();
     }
 
     @Override
@@ -1205,6 +1207,18 @@ public class CitizenData implements ICitizenData
         {
             colony.updateHasChilds();
         }
+        onStateChanged();
+    }
+
+    /**
+     * Tell the citizen manager that the job, home or age changed, which its colony wide counts depend on.
+     */
+    private void onStateChanged()
+    {
+        if (colony != null && colony.getCitizenManager() != null)
+        {
+            colony.getCitizenManager().onCitizenStateChanged();
+        }
     }
 
     @Override
@@ -2007,10 +2021,10 @@ public class CitizenData implements ICitizenData
 
         if (colony != null)
         {
-            final IBuilding tavern = colony.getBuildingManager().getFirstBuildingMatching(b -> b.getBuildingType() == ModBuildings.tavern.get());
-            if (tavern != null)
+            final List<IBuilding> taverns = colony.getBuildingManager().getBuildingsOfType(ModBuildings.tavern.get());
+            if (!taverns.isEmpty())
             {
-                return tavern.getStandingPosition();
+                return taverns.get(0).getStandingPosition();
             }
             else if (colony.getBuildingManager().getTownHall() != null)
             {
@@ -28,6 +28,7 @@ import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.colony.ColonyProfiler.Section;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.modules.SettingsModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
@@ -44,6 +45,8 @@ import com.minecolonies.core.quests.QuestManager;
 import com.minecolonies.core.util.BackUpHelper;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
@@ -118,8 +121,6 @@ public class Colony implements IColony
      */
     public Set<Long> ticketedChunks = new HashSet<>();
 
-    private boolean ticketedChunksDirty = true;
-
     /**
      * List of chunks that have to be force loaded.
      */
@@ -170,6 +171,16 @@ public class Colony implements IColony
      */
     private final IEventManager eventManager;
 
+    /**
+     * Shared entity sensing of the colony.
+     */
+    private final IThreatScanManager threatScanManager;
+
+    /**
+     * Tick timing of the colony.
+     */
+    private final ColonyProfiler profiler = new ColonyProfiler();
+
     /**
      * Reproduction manager of the colony.
      */
@@ -211,14 +222,22 @@ public class Colony implements IColony
     private final IResearchManager researchManager;
 
     /**
-     * The Positions which players can freely interact.
+     * The Positions which players can freely interact, packed with {@link BlockPos#asLong()}.
      */
-    private ImmutableSet<BlockPos> freePositions = ImmutableSet.of();
+    private final LongOpenHashSet freePositions = new LongOpenHashSet();
 
     /**
      * The Blocks which players can freely interact with.
      */
-    private ImmutableSet<Block> freeBlocks = ImmutableSet.of();
+    private final Set<Block> freeBlocks = new ReferenceOpenHashSet<>();
+
+    /**
+     * Immutable copies of the free positions and blocks handed out by the getters, dropped on change and recreated on the next get.
+     */
+    @Nullable
+    private ImmutableSet<BlockPos> freePositionsSnapshot = null;
+    @Nullable
+    private ImmutableSet<Block>    freeBlocksSnapshot    = null;
 
     /**
      * Colony permission event handler.
@@ -362,6 +381,7 @@ public class Colony implements IColony
         this.visitorManager = new VisitorManager(this);
         this.raidManager = new RaidManager(this);
         this.eventManager = new EventManager(this);
+        this.threatScanManager = new ThreatScanManager(this);
         this.reproductionManager = new ReproductionManager(this);
         this.eventDescManager = new EventDescriptionManager(this);
         this.packageManager = new ColonyPackageManager(this);
@@ -384,17 +404,17 @@ public class Colony implements IColony
             colonyStateMachine.setCurrentDelay(20 * 60 * 5);
         });
 
-        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3));
+        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, () -> profiler.profile(Section.STATE, this::updateState), UPDATE_STATE_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, () -> profiler.profile(Section.STATE, this::updateState), UPDATE_STATE_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, () -> profiler.profile(Section.STATE, this::updateState), UPDATE_STATE_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> profiler.profile(Section.CITIZEN_DATA, citizenManager::tickCitizenData), () -> ACTIVE, TICKS_SECOND * 3));
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> profiler.profile(Section.SUBSCRIBERS, this::updateSubscribers), () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> profiler.profile(Section.REQUESTS, this::tickRequests), () -> ACTIVE, UPDATE_RS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> profiler.profile(Section.DAYTIME, this::checkDayTime), () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> profiler.profile(Section.WAYPOINTS, this::updateWayPoints), () -> ACTIVE, CHECK_WAYPOINT_EVERY));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> profiler.profile(Section.SLOW_TICK, this::worldTickSlow), () -> ACTIVE, MAX_TICKRATE));
+        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> profiler.profile(Section.UNLOADED_TICK, this::worldTickUnloaded), () -> UNLOADED, MAX_TICKRATE));
     }
 
     /**
@@ -454,16 +474,43 @@ public class Colony implements IColony
      */
     private boolean worldTickSlow()
     {
+        long start = System.nanoTime();
         buildingManager.cleanUpBuildings(this);
+        profiler.record(Section.CLEANUP, start);
+
+        start = System.nanoTime();
         citizenManager.onColonyTick(this);
+        profiler.record(Section.CITIZENS, start);
+
+        start = System.nanoTime();
         visitorManager.onColonyTick(this);
+        profiler.record(Section.VISITORS, start);
+
         updateAttackingPlayers();
+
+        start = System.nanoTime();
         eventManager.onColonyTick(this);
+        profiler.record(Section.EVENTS, start);
+
+        start = System.nanoTime();
         buildingManager.onColonyTick(this);
+        profiler.record(Section.BUILDINGS, start);
+
+        start = System.nanoTime();
         graveManager.onColonyTick(this);
+        profiler.record(Section.GRAVES, start);
+
+        start = System.nanoTime();
         workManager.onColonyTick(this);
+        profiler.record(Section.WORK, start);
+
+        start = System.nanoTime();
         reproductionManager.onColonyTick(this);
+        profiler.record(Section.REPRODUCTION, start);
+
+        start = System.nanoTime();
         questManager.onColonyTick();
+        profiler.record(Section.QUESTS, start);
 
         final long currTime = System.currentTimeMillis();
         if (lastOnlineTime != 0)
@@ -526,7 +573,6 @@ public class Colony implements IColony
                         }
                     }
                     ticketedChunks.clear();
-                    ticketedChunksDirty = true;
                 }
             }
         }
@@ -544,7 +590,6 @@ public class Colony implements IColony
             if (!ticketedChunks.contains(chunkPos) && buildingManager.keepChunkColonyLoaded(chunk))
             {
                 ticketedChunks.add(chunkPos);
-                ticketedChunksDirty = true;
                 world.getChunkSource().addRegionTicket(KEEP_LOADED_TYPE, chunk.getPos(), 2, chunk.getPos(), true);
             }
         }
@@ -758,24 +803,23 @@ public class Colony implements IColony
         }
 
         // Free blocks
-        final Set<Block> tempFreeBlocks = new HashSet<>();
+        freeBlocks.clear();
         final ListTag freeBlockTagList = compound.getList(TAG_FREE_BLOCKS, Tag.TAG_STRING);
         for (int i = 0; i < freeBlockTagList.size(); ++i)
         {
-            tempFreeBlocks.add(BuiltInRegistries.BLOCK.get(ResourceLocation.parse(freeBlockTagList.getString(i))));
+            freeBlocks.add(BuiltInRegistries.BLOCK.get(ResourceLocation.parse(freeBlockTagList.getString(i))));
         }
-        freeBlocks = ImmutableSet.copyOf(tempFreeBlocks);
+        freeBlocksSnapshot = null;
 
-        final Set<BlockPos> tempFreePositions = new HashSet<>();
         // Free positions
+        freePositions.clear();
         final ListTag freePositionTagList = compound.getList(TAG_FREE_POSITIONS, Tag.TAG_COMPOUND);
         for (int i = 0; i < freePositionTagList.size(); ++i)
         {
             final CompoundTag blockTag = freePositionTagList.getCompound(i);
-            final BlockPos block = BlockPosUtil.read(blockTag, TAG_FREE_POSITIONS);
-            tempFreePositions.add(block);
+            freePositions.add(BlockPosUtil.read(blockTag, TAG_FREE_POSITIONS).asLong());
         }
-        freePositions = ImmutableSet.copyOf(tempFreePositions);
+        freePositionsSnapshot = null;
 
         packageManager.setLastContactInHours(compound.getInt(TAG_ABANDONED));
 
@@ -930,10 +974,10 @@ public class Colony implements IColony
 
         // Free positions
         @NotNull final ListTag freePositionsTagList = new ListTag();
-        for (@NotNull final BlockPos pos : freePositions)
+        for (final long pos : freePositions)
         {
             @NotNull final CompoundTag wayPointCompound = new CompoundTag();
-            BlockPosUtil.write(wayPointCompound, TAG_FREE_POSITIONS, pos);
+            BlockPosUtil.write(wayPointCompound, TAG_FREE_POSITIONS, BlockPos.of(pos));
             freePositionsTagList.add(wayPointCompound);
         }
         compound.put(TAG_FREE_POSITIONS, freePositionsTagList);
@@ -1069,7 +1113,16 @@ public class Colony implements IColony
      */
     public Set<BlockPos> getFreePositions()
     {
-        return freePositions;
+        if (freePositionsSnapshot == null)
+        {
+            final ImmutableSet.Builder<BlockPos> builder = ImmutableSet.builderWithExpectedSize(freePositions.size());
+            for (final long pos : freePositions)
+            {
+                builder.add(BlockPos.of(pos));
+            }
+            freePositionsSnapshot = builder.build();
+        }
+        return freePositionsSnapshot;
     }
 
     /**
@@ -1079,7 +1132,33 @@ public class Colony implements IColony
      */
     public Set<Block> getFreeBlocks()
     {
-        return freeBlocks;
+        if (freeBlocksSnapshot == null)
+        {
+            freeBlocksSnapshot = ImmutableSet.copyOf(freeBlocks);
+        }
+        return freeBlocksSnapshot;
+    }
+
+    /**
+     * Check if a position can be freely interacted with.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean isFreePosition(@NotNull final BlockPos pos)
+    {
+        return !freePositions.isEmpty() && freePositions.contains(pos.asLong());
+    }
+
+    /**
+     * Check if a block can be freely interacted with.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public boolean isFreeBlock(@NotNull final Block block)
+    {
+        return freeBlocks.contains(block);
     }
 
     /**
@@ -1089,11 +1168,31 @@ public class Colony implements IColony
      */
     public void addFreePosition(@NotNull final BlockPos pos)
     {
-        ImmutableSet.Builder<BlockPos> builder = ImmutableSet.builder();
-        builder.addAll(freePositions);
-        builder.add(pos);
-        freePositions = builder.build();
-        markDirty();
+        if (freePositions.add(pos.asLong()))
+        {
+            freePositionsSnapshot = null;
+            markDirty();
+        }
+    }
+
+    /**
+     * Add new free to interact positions.
+     *
+     * @param positions positions to add.
+     */
+    public void addFreePositions(@NotNull final Collection<BlockPos> positions)
+    {
+        boolean changed = false;
+        for (final BlockPos pos : positions)
+        {
+            changed |= freePositions.add(pos.asLong());
+        }
+
+        if (changed)
+        {
+            freePositionsSnapshot = null;
+            markDirty();
+        }
     }
 
     /**
@@ -1103,11 +1202,25 @@ public class Colony implements IColony
      */
     public void addFreeBlock(@NotNull final Block block)
     {
-        ImmutableSet.Builder<Block> builder = ImmutableSet.builder();
-        builder.addAll(freeBlocks);
-        builder.add(block);
-        freeBlocks = builder.build();
-        markDirty();
+        if (freeBlocks.add(block))
+        {
+            freeBlocksSnapshot = null;
+            markDirty();
+        }
+    }
+
+    /**
+     * Add new free to interact blocks.
+     *
+     * @param blocks blocks to add.
+     */
+    public void addFreeBlocks(@NotNull final Collection<Block> blocks)
+    {
+        if (freeBlocks.addAll(blocks))
+        {
+            freeBlocksSnapshot = null;
+            markDirty();
+        }
     }
 
     /**
@@ -1117,16 +1230,31 @@ public class Colony implements IColony
      */
     public void removeFreePosition(@NotNull final BlockPos pos)
     {
-        ImmutableSet.Builder<BlockPos> builder = ImmutableSet.builder();
-        for (final BlockPos tempPos : freePositions)
+        if (freePositions.remove(pos.asLong()))
         {
-            if (!pos.equals(tempPos))
-            {
-                builder.add(tempPos);
-            }
+            freePositionsSnapshot = null;
+            markDirty();
+        }
+    }
+
+    /**
+     * Remove free to interact positions.
+     *
+     * @param positions positions to remove.
+     */
+    public void removeFreePositions(@NotNull final Collection<BlockPos> positions)
+    {
+        boolean changed = false;
+        for (final BlockPos pos : positions)
+        {
+            changed |= freePositions.remove(pos.asLong());
+        }
+
+        if (changed)
+        {
+            freePositionsSnapshot = null;
+            markDirty();
         }
-        freePositions = builder.build();
-        markDirty();
     }
 
     /**
@@ -1136,16 +1264,25 @@ public class Colony implements IColony
      */
     public void removeFreeBlock(@NotNull final Block block)
     {
-        ImmutableSet.Builder<Block> builder = ImmutableSet.builder();
-        for (final Block tempBlock : freeBlocks)
+        if (freeBlocks.remove(block))
         {
-            if (block != tempBlock)
-            {
-                builder.add(tempBlock);
-            }
+            freeBlocksSnapshot = null;
+            markDirty();
+        }
+    }
+
+    /**
+     * Remove free to interact blocks.
+     *
+     * @param blocks blocks to remove.
+     */
+    public void removeFreeBlocks(@NotNull final Collection<Block> blocks)
+    {
+        if (freeBlocks.removeAll(blocks))
+        {
+            freeBlocksSnapshot = null;
+            markDirty();
         }
-        freeBlocks = builder.build();
-        markDirty();
     }
 
     /**
@@ -1166,7 +1303,9 @@ public class Colony implements IColony
             return;
         }
 
+        final long start = System.nanoTime();
         colonyStateMachine.tick();
+        profiler.record(Section.TICK, start);
     }
 
     /**
@@ -1584,6 +1723,22 @@ public class Colony implements IColony
         return eventManager;
     }
 
+    @Override
+    public IThreatScanManager getThreatScanManager()
+    {
+        return threatScanManager;
+    }
+
+    /**
+     * Get the tick timing of the colony.
+     *
+     * @return the profiler.
+     */
+    public ColonyProfiler getProfiler()
+    {
+        return profiler;
+    }
+
     @Override
     public IStatisticsManager getStatisticsManager()
     {
@@ -1940,16 +2095,6 @@ public class Colony implements IColony
         return CitizenNameListener.nameFileMap.getOrDefault(nameStyle, CitizenNameListener.nameFileMap.get("default"));
     }
 
-    /**
-     * Check if we need to update the view's chunk ticket info
-     *
-     * @return true if dirty.
-     */
-    public boolean isTicketedChunksDirty()
-    {
-        return ticketedChunksDirty;
-    }
-
     @Override
     public int getDay()
     {
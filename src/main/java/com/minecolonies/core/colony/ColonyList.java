@@ -3,8 +3,11 @@ package com.minecolonies.core.colony;
 import com.google.common.annotations.VisibleForTesting;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.util.Log;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -16,6 +19,8 @@ import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 /**
  * Data structure for storing colonies, optimized for performance.
+ * <p>
+ * Colonies are additionally indexed in a grid by their center, which answers closest colony queries without checking every colony.
  *
  * @param <T> Type of IColony (Colony or ColonyView)
  * @author Colton
@@ -30,6 +35,21 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
 
     private int size = 0;
 
+    /**
+     * Grid cell size of the spatial index, as bit shift of block coordinates (512 blocks).
+     */
+    private static final int CELL_SHIFT = 9;
+
+    /**
+     * Colonies by grid cell of their center.
+     */
+    private final Long2ObjectOpenHashMap<List<T>> cells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Center each colony got indexed with, by colony id.
+     */
+    private final Int2ObjectOpenHashMap<BlockPos> indexedCenters = new Int2ObjectOpenHashMap<>();
+
     /**
      * Creates a new Colony, adds it to the list, and returns it.
      *
@@ -37,6 +57,7 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
      * @param position The position for the Colony center.
      * @return The newly created Colony.
      */
+    @SuppressWarnings(UNCHECKED)
     public Colony create(final ServerLevel world, final String name, final BlockPos position)
     {
         final int colonyID = getNextColonyID();
@@ -54,6 +75,7 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         final Colony colony = new Colony(colonyID, name, world, position);
         size++;
         list[colony.getID()] = colony;
+        index((T) colony);
         return colony;
     }
 
@@ -107,6 +129,7 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         topID = colony.getID();
 
         list[colony.getID()] = colony;
+        index(colony);
     }
 
     /**
@@ -149,6 +172,7 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
             Log.getLogger().warn("Tried to remove colony with id={}, but it didn't exist.", id);
         }
 
+        unindex(id);
         size--;
         list[id] = null;
 
@@ -166,11 +190,146 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         Arrays.fill(list, null);
 
         nullIndices.clear();
+        cells.clear();
+        indexedCenters.clear();
 
         topID = 0;
         size = 0;
     }
 
+    /**
+     * Updates the spatial index after the center of a colony changed.
+     *
+     * @param colony the colony.
+     */
+    public void updateCenter(final T colony)
+    {
+        if (get(colony.getID()) != colony || Objects.equals(indexedCenters.get(colony.getID()), colony.getCenter()))
+        {
+            return;
+        }
+
+        unindex(colony.getID());
+        index(colony);
+    }
+
+    /**
+     * Get the colony with the closest center to the given position, measured horizontally.
+     *
+     * @param pos the position.
+     * @return the closest colony or null if there are none.
+     */
+    @Nullable
+    public T getClosest(@NotNull final BlockPos pos)
+    {
+        if (cells.isEmpty())
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+
+        T closest = null;
+        long closestDist = Long.MAX_VALUE;
+        for (int ring = 0; ; ring++)
+        {
+            // Once a ring has more cells than there are occupied cells, checking all occupied cells is cheaper.
+            if (ring * 8 > cells.size())
+            {
+                for (final List<T> cell : cells.values())
+                {
+                    for (final T colony : cell)
+                    {
+                        final long dist = colony.getDistanceSquared(pos);
+                        if (dist < closestDist)
+                        {
+                            closest = colony;
+                            closestDist = dist;
+                        }
+                    }
+                }
+                return closest;
+            }
+
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                for (int z = cellZ - ring; z <= cellZ + ring; z++)
+                {
+                    if (Math.abs(x - cellX) != ring && Math.abs(z - cellZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    final List<T> cell = cells.get(ChunkPos.asLong(x, z));
+                    if (cell == null)
+                    {
+                        continue;
+                    }
+
+                    for (final T colony : cell)
+                    {
+                        final long dist = colony.getDistanceSquared(pos);
+                        if (dist < closestDist)
+                        {
+                            closest = colony;
+                            closestDist = dist;
+                        }
+                    }
+                }
+            }
+
+            // Every center in the next ring is at least this far away.
+            final long nextRingDist = (long) ring << CELL_SHIFT;
+            if (closest != null && closestDist <= nextRingDist * nextRingDist)
+            {
+                return closest;
+            }
+        }
+    }
+
+    /**
+     * Adds a colony to the spatial index.
+     *
+     * @param colony the colony.
+     */
+    private void index(final T colony)
+    {
+        final BlockPos center = colony.getCenter();
+        if (center == null)
+        {
+            return;
+        }
+
+        indexedCenters.put(colony.getID(), center);
+        cells.computeIfAbsent(ChunkPos.asLong(center.getX() >> CELL_SHIFT, center.getZ() >> CELL_SHIFT), key -> new ArrayList<>()).add(colony);
+    }
+
+    /**
+     * Removes a colony from the spatial index.
+     *
+     * @param id the colony id.
+     */
+    private void unindex(final int id)
+    {
+        final BlockPos center = indexedCenters.remove(id);
+        if (center == null)
+        {
+            return;
+        }
+
+        final long key = ChunkPos.asLong(center.getX() >> CELL_SHIFT, center.getZ() >> CELL_SHIFT);
+        final List<T> cell = cells.get(key);
+        if (cell != null)
+        {
+            cell.removeIf(colony -> colony.getID() == id);
+            if (cell.isEmpty())
+            {
+                cells.remove(key);
+            }
+        }
+    }
+
     /**
      * Get the top colony id.
      *
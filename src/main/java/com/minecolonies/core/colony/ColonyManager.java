@@ -465,26 +465,8 @@ public final class ColonyManager implements IColonyManager
             return getColonyView(owningColony, w.dimension());
         }
 
-        @Nullable IColonyView closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        if (colonyViews.containsKey(w.dimension()))
-        {
-            for (@NotNull final IColonyView c : colonyViews.get(w.dimension()))
-            {
-                if (c.getDimension() == w.dimension() && c.getCenter() != null)
-                {
-                    final long dist = c.getDistanceSquared(pos);
-                    if (dist < closestDist)
-                    {
-                        closestColony = c;
-                        closestDist = dist;
-                    }
-                }
-            }
-        }
-
-        return closestColony;
+        final ColonyList<IColonyView> views = colonyViews.get(w.dimension());
+        return views == null ? null : views.getClosest(pos);
     }
 
     @Override
@@ -497,23 +479,18 @@ public final class ColonyManager implements IColonyManager
             return getColonyByWorld(owningColony, w);
         }
 
-        @Nullable IColony closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull final IColony c : getColonies(w))
+        if (!(w instanceof final ServerLevel serverLevel))
         {
-            if (c.getDimension() == w.dimension())
-            {
-                final long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
+            return null;
         }
 
-        return closestColony;
+        final IServerColonySaveData cap = getColonySaveData(serverLevel);
+        if (cap == null)
+        {
+            Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
+            return null;
+        }
+        return cap.getClosestColony(pos);
     }
 
     @Override
@@ -689,6 +666,8 @@ public final class ColonyManager implements IColonyManager
             {
                 BackUpHelper.backupColonyData(world.registryAccess());
             }
+            // The server may exit right after the world unloaded, finish writing first.
+            BackUpHelper.waitForPendingBackups();
 
             try
             {
@@ -724,6 +703,7 @@ public final class ColonyManager implements IColonyManager
             }
         }
         view.handleColonyViewMessage(colonyData, isNewSubscription);
+        colonyViews.get(dim).updateCenter(view);
 
         try
         {
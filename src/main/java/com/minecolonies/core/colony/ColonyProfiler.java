@@ -0,0 +1,286 @@
+package com.minecolonies.core.colony;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Always on tick timing of one colony, a histogram per ticked section. Server thread only.
+ * <p>
+ * Recording a section is two {@link System#nanoTime()} calls and a few array writes, so it stays enabled. Durations are kept in power of two microsecond buckets, percentiles are
+ * reported as the upper bound of their bucket.
+ */
+public class ColonyProfiler
+{
+    /**
+     * Amount of histogram buckets, the last one holds everything from about 4 seconds up.
+     */
+    private static final int BUCKETS = 23;
+
+    /**
+     * Ticked sections of a colony.
+     */
+    public enum Section
+    {
+        TICK("tick"),
+        STATE("state"),
+        CITIZEN_DATA("citizenData"),
+        SUBSCRIBERS("subscribers"),
+        REQUESTS("requests"),
+        DAYTIME("daytime"),
+        WAYPOINTS("waypoints"),
+        SLOW_TICK("slowTick"),
+        UNLOADED_TICK("unloadedTick"),
+        CLEANUP("cleanup"),
+        CITIZENS("citizenManager"),
+        VISITORS("visitorManager"),
+        EVENTS("eventManager"),
+        BUILDINGS("buildingManager"),
+        GRAVES("graveManager"),
+        WORK("workManager"),
+        REPRODUCTION("reproductionManager"),
+        QUESTS("questManager");
+
+        /**
+         * Name in reports.
+         */
+        private final String id;
+
+        Section(final String id)
+        {
+            this.id = id;
+        }
+
+        /**
+         * Get the name of the section in reports.
+         *
+         * @return the name.
+         */
+        public String getId()
+        {
+            return id;
+        }
+    }
+
+    /**
+     * Histograms, indexed by section ordinal and bucket.
+     */
+    private final long[][] buckets = new long[Section.values().length][BUCKETS];
+
+    /**
+     * Totals, indexed by section ordinal.
+     */
+    private final long[] counts  = new long[Section.values().length];
+    private final long[] totalNs = new long[Section.values().length];
+    private final long[] maxNs   = new long[Section.values().length];
+
+    /**
+     * Start of the recording.
+     */
+    private long since = System.currentTimeMillis();
+
+    /**
+     * Record a section run.
+     *
+     * @param section the section.
+     * @param startNs the {@link System#nanoTime()} the section started at.
+     */
+    public void record(@NotNull final Section section, final long startNs)
+    {
+        final long duration = System.nanoTime() - startNs;
+        final int index = section.ordinal();
+        counts[index]++;
+        totalNs[index] += duration;
+        if (duration > maxNs[index])
+        {
+            maxNs[index] = duration;
+        }
+        buckets[index][bucketOf(duration)]++;
+    }
+
+    /**
+     * Run and record a ticking transition condition.
+     *
+     * @param section   the section.
+     * @param condition the condition.
+     * @return the result of the condition.
+     */
+    public boolean profile(@NotNull final Section section, @NotNull final BooleanSupplier condition)
+    {
+        final long start = System.nanoTime();
+        try
+        {
+            return condition.getAsBoolean();
+        }
+        finally
+        {
+            record(section, start);
+        }
+    }
+
+    /**
+     * Run and record a ticking transition state supplier.
+     *
+     * @param section  the section.
+     * @param supplier the supplier.
+     * @param <T>      the type of the result.
+     * @return the result of the supplier.
+     */
+    public <T> T profile(@NotNull final Section section, @NotNull final Supplier<T> supplier)
+    {
+        final long start = System.nanoTime();
+        try
+        {
+            return supplier.get();
+        }
+        finally
+        {
+            record(section, start);
+        }
+    }
+
+    /**
+     * Get the amount of recorded runs of a section.
+     *
+     * @param section the section.
+     * @return the count.
+     */
+    public long getCount(@NotNull final Section section)
+    {
+        return counts[section.ordinal()];
+    }
+
+    /**
+     * Get the total time spent in a section.
+     *
+     * @param section the section.
+     * @return the time in milliseconds.
+     */
+    public double getTotalMs(@NotNull final Section section)
+    {
+        return totalNs[section.ordinal()] / 1.0E6D;
+    }
+
+    /**
+     * Get the average duration of a section.
+     *
+     * @param section the section.
+     * @return the time in milliseconds.
+     */
+    public double getAverageMs(@NotNull final Section section)
+    {
+        final long count = counts[section.ordinal()];
+        return count == 0 ? 0 : totalNs[section.ordinal()] / (count * 1.0E6D);
+    }
+
+    /**
+     * Get the longest duration of a section.
+     *
+     * @param section the section.
+     * @return the time in milliseconds.
+     */
+    public double getMaxMs(@NotNull final Section section)
+    {
+        return maxNs[section.ordinal()] / 1.0E6D;
+    }
+
+    /**
+     * Estimate a percentile of the duration of a section.
+     *
+     * @param section    the section.
+     * @param percentile the percentile, between 0 and 1.
+     * @return the upper bound of the bucket containing the percentile in milliseconds.
+     */
+    public double getPercentileMs(@NotNull final Section section, final double percentile)
+    {
+        final long count = counts[section.ordinal()];
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        final long target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++)
+        {
+            seen += buckets[section.ordinal()][bucket];
+            if (seen >= target)
+            {
+                return Math.min((1L << bucket) / 1.0E3D, getMaxMs(section));
+            }
+        }
+        return getMaxMs(section);
+    }
+
+    /**
+     * Get the time the recording started.
+     *
+     * @return the epoch milliseconds.
+     */
+    public long getSince()
+    {
+        return since;
+    }
+
+    /**
+     * Clears all recorded timings.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < counts.length; i++)
+        {
+            counts[i] = 0;
+            totalNs[i] = 0;
+            maxNs[i] = 0;
+            Arrays.fill(buckets[i], 0);
+        }
+        since = System.currentTimeMillis();
+    }
+
+    /**
+     * Write the recorded timings as json.
+     *
+     * @return a new json object with an entry per section.
+     */
+    public JsonObject toJson()
+    {
+        final JsonObject sections = new JsonObject();
+        for (final Section section : Section.values())
+        {
+            final int index = section.ordinal();
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("count", counts[index]);
+            entry.addProperty("totalMs", getTotalMs(section));
+            entry.addProperty("avgMs", getAverageMs(section));
+            entry.addProperty("p50Ms", getPercentileMs(section, 0.5D));
+            entry.addProperty("p95Ms", getPercentileMs(section, 0.95D));
+            entry.addProperty("p99Ms", getPercentileMs(section, 0.99D));
+            entry.addProperty("maxMs", getMaxMs(section));
+
+            final JsonArray histogram = new JsonArray();
+            for (final long bucket : buckets[index])
+            {
+                histogram.add(bucket);
+            }
+            entry.add("histogramLog2Us", histogram);
+            sections.add(section.getId(), entry);
+        }
+        return sections;
+    }
+
+    /**
+     * Get the histogram bucket of a duration, bucket n holds durations below 2^n microseconds.
+     *
+     * @param durationNs the duration in nanoseconds.
+     * @return the bucket index.
+     */
+    private static int bucketOf(final long durationNs)
+    {
+        final long micros = durationNs / 1000;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+}
@@ -25,6 +25,7 @@ import com.minecolonies.api.util.ColonyUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Utils;
 import com.minecolonies.core.client.render.worldevent.ColonyBlueprintRenderer;
+import com.minecolonies.core.client.render.worldevent.ColonyBorderRenderer;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
@@ -38,6 +39,7 @@ import com.minecolonies.core.network.messages.PermissionsMessage;
 import com.minecolonies.core.network.messages.server.colony.ColonyFlagChangeMessage;
 import com.minecolonies.core.network.messages.server.colony.TownHallRenameMessage;
 import com.minecolonies.core.quests.QuestManager;
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.ChatFormatting;
@@ -52,11 +54,9 @@ import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.DyeColor;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BannerPatternLayers;
-import net.minecraft.world.level.block.entity.BannerPatterns;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.scores.PlayerTeam;
@@ -81,6 +81,22 @@ public final class ColonyView implements IColonyView
      */
     private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
 
+    /**
+     * Colony view sections, each one is only sent when its content changed since the previous update.
+     */
+    private static final int SECTION_GENERAL           = 0;
+    private static final int SECTION_FREE_INTERACTIONS = 1;
+    private static final int SECTION_STATE             = 2;
+    private static final int SECTION_WAYPOINTS         = 3;
+    private static final int SECTION_RAID              = 4;
+    private static final int SECTION_STYLE             = 5;
+    private static final int SECTION_DIPLOMACY         = 6;
+    private static final int SECTION_TICKETS           = 7;
+    private static final int SECTION_CLAIMS            = 8;
+    private static final int SECTION_GRAVES            = 9;
+    private static final int SECTION_QUESTS            = 10;
+    private static final int VIEW_SECTION_COUNT        = 11;
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, IWorkOrderView>   workOrders  = new HashMap<>();
@@ -274,59 +290,55 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Serialize the sections of a colony view which are only sent when their content changed.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link RegistryFriendlyByteBuf} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
-     */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull RegistryFriendlyByteBuf buf, boolean hasNewSubscribers)
-    {
-        //  General Attributes
-        buf.writeUtf(colony.getName());
-        buf.writeUtf(colony.getDimension().location().toString());
-        buf.writeBlockPos(colony.getCenter());
-        //  Citizenry
-        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
-        buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
-
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
-        {
-            buf.writeUtf(BuiltInRegistries.BLOCK.getKey(block).toString());
-        }
-
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            buf.writeBlockPos(block);
-        }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
-
-        buf.writeInt(waypoints.size());
-        for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+     * @param colony the colony to write data about.
+     * @return the encoded sections, indexed by section.
+     */
+    public static byte[][] serializeSections(@NotNull final Colony colony)
+    {
+        final byte[][] sections = new byte[VIEW_SECTION_COUNT][];
+        for (int section = 0; section < VIEW_SECTION_COUNT; section++)
         {
-            buf.writeBlockPos(block.getKey());
-            buf.writeInt(Block.getId(block.getValue()));
+            final RegistryFriendlyByteBuf sectionBuf = new RegistryFriendlyByteBuf(Unpooled.buffer(), colony.getWorld().registryAccess());
+            serializeSection(colony, section, sectionBuf);
+            sections[section] = Arrays.copyOf(sectionBuf.array(), sectionBuf.writerIndex());
         }
+        return sections;
+    }
 
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeUtf(colony.getTextureStyleId());
-
-        buf.writeUtf(colony.getNameStyle());
-        buf.writeInt(CitizenNameListener.nameFileMap.size());
-        for (final String nameFileIndex : CitizenNameListener.nameFileMap.keySet())
+    /**
+     * Populate a network packet representing a ColonyView, either fully or with the sections which changed since the previously sent ones.
+     *
+     * @param colony           Colony to write data about.
+     * @param buf              {@link RegistryFriendlyByteBuf} to write data in.
+     * @param sections         the current sections, from {@link #serializeSections(Colony)}.
+     * @param previousSections the sections the receivers already know, null for a full sync.
+     * @return the amount of bytes left out because their section did not change.
+     */
+    public static int serializeNetworkData(
+      @NotNull final Colony colony,
+      @NotNull final RegistryFriendlyByteBuf buf,
+      @NotNull final byte[][] sections,
+      @Nullable final byte[][] previousSections)
+    {
+        final boolean fullSync = previousSections == null;
+        int skippedBytes = 0;
+        for (int section = 0; section < VIEW_SECTION_COUNT; section++)
         {
-            buf.writeUtf(nameFileIndex);
+            if (fullSync || !Arrays.equals(sections[section], previousSections[section]))
+            {
+                buf.writeBoolean(true);
+                buf.writeBytes(sections[section]);
+            }
+            else
+            {
+                buf.writeBoolean(false);
+                skippedBytes += sections[section].length;
+            }
         }
-        //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
+        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || fullSync))
         {
             final int preSize = buf.writerIndex();
             buf.writeBoolean(true);
@@ -342,19 +354,128 @@ public final class ColonyView implements IColonyView
             buf.writeBoolean(false);
         }
 
-        buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
-        for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+        colony.getStatisticsManager().serialize(buf, fullSync);
+        return skippedBytes;
+    }
+
+    /**
+     * Write one colony view section.
+     *
+     * @param colony  the colony to write data about.
+     * @param section the section index.
+     * @param buf     the buffer to write to.
+     */
+    private static void serializeSection(@NotNull final Colony colony, final int section, @NotNull final RegistryFriendlyByteBuf buf)
+    {
+        switch (section)
         {
-            buf.writeBlockPos(block);
-        }
+            case SECTION_GENERAL ->
+            {
+                buf.writeUtf(colony.getName());
+                buf.writeUtf(colony.getDimension().location().toString());
+                buf.writeBlockPos(colony.getCenter());
+                //  Citizenry
+                buf.writeInt(colony.getCitizenManager().getMaxCitizens());
+                buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+                //  Citizens are sent as a separate packet
+            }
+            case SECTION_FREE_INTERACTIONS ->
+            {
+                final Set<Block> freeBlocks = colony.getFreeBlocks();
+                final Set<BlockPos> freePos = colony.getFreePositions();
 
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
-        Utils.serializeCodecMess(BannerPatternLayers.STREAM_CODEC, buf, colony.getColonyFlag());
-        buf.writeLong(colony.getMercenaryUseTime());
+                buf.writeInt(freeBlocks.size());
+                for (final Block block : freeBlocks)
+                {
+                    buf.writeUtf(BuiltInRegistries.BLOCK.getKey(block).toString());
+                }
 
-        buf.writeUtf(colony.getStructurePack());
-        buf.writeBoolean(colony.getRaiderManager().isRaided());
-        buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+                buf.writeInt(freePos.size());
+                for (final BlockPos block : freePos)
+                {
+                    buf.writeBlockPos(block);
+                }
+            }
+            case SECTION_STATE ->
+            {
+                buf.writeDouble(colony.getOverallHappiness());
+                buf.writeBoolean(colony.hasWarehouse());
+                buf.writeInt(colony.getLastContactInHours());
+                buf.writeUtf(colony.getTextureStyleId());
+
+                buf.writeUtf(colony.getNameStyle());
+                buf.writeInt(CitizenNameListener.nameFileMap.size());
+                for (final String nameFileIndex : CitizenNameListener.nameFileMap.keySet())
+                {
+                    buf.writeUtf(nameFileIndex);
+                }
+                buf.writeInt(colony.getDay());
+            }
+            case SECTION_WAYPOINTS ->
+            {
+                final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
+                buf.writeInt(waypoints.size());
+                for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+                {
+                    buf.writeBlockPos(block.getKey());
+                    buf.writeInt(Block.getId(block.getValue()));
+                }
+            }
+            case SECTION_RAID ->
+            {
+                buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
+                for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+                {
+                    buf.writeBlockPos(block);
+                }
+                buf.writeBoolean(colony.getRaiderManager().isRaided());
+                buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+            }
+            case SECTION_STYLE ->
+            {
+                buf.writeInt(colony.getTeamColonyColor().ordinal());
+                Utils.serializeCodecMess(BannerPatternLayers.STREAM_CODEC, buf, colony.getColonyFlag());
+                buf.writeLong(colony.getMercenaryUseTime());
+                buf.writeUtf(colony.getStructurePack());
+            }
+            case SECTION_DIPLOMACY -> serializeDiplomacy(colony, buf);
+            case SECTION_TICKETS ->
+            {
+                buf.writeInt(colony.getTicketedChunks().size());
+                for (final long pos : colony.getTicketedChunks())
+                {
+                    buf.writeLong(pos);
+                }
+            }
+            case SECTION_CLAIMS ->
+            {
+                final Long2ObjectMap<ChunkClaimData> colonyClaimData = colony.getClaimData();
+                buf.writeInt(colonyClaimData.size());
+                for (final Long2ObjectMap.Entry<ChunkClaimData> entry : colonyClaimData.long2ObjectEntrySet())
+                {
+                    buf.writeLong(entry.getLongKey());
+                    buf.writeNbt(entry.getValue().serializeNBT(buf.registryAccess()));
+                }
+            }
+            case SECTION_GRAVES ->
+            {
+                final CompoundTag graveTag = new CompoundTag();
+                colony.getGraveManager().write(graveTag);
+                buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
+            }
+            case SECTION_QUESTS -> buf.writeNbt(colony.getQuestManager().serializeNBT(buf.registryAccess()));
+            default -> throw new IllegalArgumentException("Unknown colony view section: " + section);
+        }
+    }
+
+    /**
+     * Write the allies and feuds of a colony.
+     *
+     * @param colony the colony to write data about.
+     * @param buf    the buffer to write to.
+     */
+    private static void serializeDiplomacy(@NotNull final Colony colony, @NotNull final RegistryFriendlyByteBuf buf)
+    {
         // ToDo: rework ally system
         final List<IColony> allies = new ArrayList<>();
         for (final ColonyPlayer player : colony.getPermissions().getFilteredPlayers(Rank::isColonyManager))
@@ -406,34 +527,6 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeUtf(col.getDimension().location().toString());
         }
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
-
-        final Long2ObjectMap<ChunkClaimData> colonyClaimData = colony.getClaimData();
-        buf.writeInt(colonyClaimData.size());
-        for (final Long2ObjectMap.Entry<ChunkClaimData> entry : colonyClaimData.long2ObjectEntrySet())
-        {
-            buf.writeLong(entry.getLongKey());
-            buf.writeNbt(entry.getValue().serializeNBT(buf.registryAccess()));
-        }
-
-        final CompoundTag graveTag = new CompoundTag();
-        colony.getGraveManager().write(graveTag);
-        buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
-        colony.getStatisticsManager().serialize(buf, hasNewSubscribers);
-        buf.writeNbt(colony.getQuestManager().serializeNBT(buf.registryAccess()));
-        buf.writeInt(colony.getDay());
     }
 
     /**
@@ -502,6 +595,30 @@ public final class ColonyView implements IColonyView
         freeBlocks.remove(block);
     }
 
+    @Override
+    public void addFreePositions(@NotNull final Collection<BlockPos> positions)
+    {
+        freePositions.addAll(positions);
+    }
+
+    @Override
+    public void addFreeBlocks(@NotNull final Collection<Block> blocks)
+    {
+        freeBlocks.addAll(blocks);
+    }
+
+    @Override
+    public void removeFreePositions(@NotNull final Collection<BlockPos> positions)
+    {
+        freePositions.removeAll(positions);
+    }
+
+    @Override
+    public void removeFreeBlocks(@NotNull final Collection<Block> blocks)
+    {
+        freeBlocks.removeAll(blocks);
+    }
+
     @Override
     public void setCanBeAutoDeleted(final boolean canBeDeleted)
     {
@@ -772,16 +889,6 @@ public final class ColonyView implements IColonyView
     @Override
     public void handleColonyViewMessage(@NotNull final RegistryFriendlyByteBuf buf, final boolean isNewSubscription)
     {
-        this.colonyFlag = new BannerPatternLayers.Builder().add(Utils.getRegistryValue(BannerPatterns.BASE, this.getWorld()), DyeColor.WHITE).build();
-
-        //  General Attributes
-        name = buf.readUtf(32767);
-        dimensionId = ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(buf.readUtf(32767)));
-        center = buf.readBlockPos();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
-
         if (isNewSubscription)
         {
             citizens.clear();
@@ -789,39 +896,13 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-        nameFileIds.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
-        {
-            freeBlocks.add(BuiltInRegistries.BLOCK.get(ResourceLocation.parse((buf.readUtf(32767)))));
-        }
-
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
-        {
-            freePositions.add(buf.readBlockPos());
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
-
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
+        // Sections which did not change since the last update are left out
+        for (int section = 0; section < VIEW_SECTION_COUNT; section++)
         {
-            wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.textureStyle = buf.readUtf(32767);
-
-        this.nameStyle = buf.readUtf(32767);
-        final int nameFileIdSize = buf.readInt();
-        for (int i = 0; i < nameFileIdSize; i++)
-        {
-            nameFileIds.add(buf.readUtf(32767));
+            if (buf.readBoolean())
+            {
+                deserializeSection(section, buf, isNewSubscription);
+            }
         }
 
         if (buf.readBoolean())
@@ -833,83 +914,159 @@ public final class ColonyView implements IColonyView
             this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
         }
 
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(buf.readBlockPos());
-        }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
-        this.colonyFlag =  Utils.deserializeCodecMess(BannerPatternLayers.STREAM_CODEC, buf);
-        this.mercenaryLastUseTime = buf.readLong();
-
-        this.style = buf.readUtf(32767);
-        if (isNewSubscription
-              && StructurePacks.hasPack(this.style)
-              && RenderingCache.getOrCreateBlueprintPreviewData("blueprint").getBlueprint() == null
-              && Minecraft.getInstance().player != null
-              && this.isCoordInColony(getWorld(), Minecraft.getInstance().player.blockPosition())
-        )
+        this.statisticManager.deserialize(buf);
+    }
+
+    /**
+     * Read one colony view section.
+     *
+     * @param section           the section index.
+     * @param buf               the buffer to read from.
+     * @param isNewSubscription whether this is a new subscription of not.
+     */
+    @OnlyIn(Dist.CLIENT)
+    private void deserializeSection(final int section, @NotNull final RegistryFriendlyByteBuf buf, final boolean isNewSubscription)
+    {
+        switch (section)
         {
-            StructurePacks.selectedPack = StructurePacks.getStructurePack(this.style);
-        }
+            case SECTION_GENERAL ->
+            {
+                name = buf.readUtf(32767);
+                dimensionId = ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(buf.readUtf(32767)));
+                center = buf.readBlockPos();
+                //  Citizenry
+                citizenCount = buf.readInt();
+                citizenCountWithEmptyGuardTowers = buf.readInt();
+            }
+            case SECTION_FREE_INTERACTIONS ->
+            {
+                freePositions.clear();
+                freeBlocks.clear();
 
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
+                final int blockListSize = buf.readInt();
+                for (int i = 0; i < blockListSize; i++)
+                {
+                    freeBlocks.add(BuiltInRegistries.BLOCK.get(ResourceLocation.parse((buf.readUtf(32767)))));
+                }
 
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
+                final int posListSize = buf.readInt();
+                for (int i = 0; i < posListSize; i++)
+                {
+                    freePositions.add(buf.readBlockPos());
+                }
+            }
+            case SECTION_STATE ->
+            {
+                this.overallHappiness = buf.readDouble();
+                this.hasColonyWarehouse = buf.readBoolean();
+                this.lastContactInHours = buf.readInt();
+                this.textureStyle = buf.readUtf(32767);
+
+                this.nameStyle = buf.readUtf(32767);
+                nameFileIds.clear();
+                final int nameFileIdSize = buf.readInt();
+                for (int i = 0; i < nameFileIdSize; i++)
+                {
+                    nameFileIds.add(buf.readUtf(32767));
+                }
+                this.day = buf.readInt();
+            }
+            case SECTION_WAYPOINTS ->
+            {
+                wayPoints.clear();
+                final int wayPointListSize = buf.readInt();
+                for (int i = 0; i < wayPointListSize; i++)
+                {
+                    wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+                }
+            }
+            case SECTION_RAID ->
+            {
+                lastSpawnPoints.clear();
+                final int barbSpawnListSize = buf.readInt();
+                for (int i = 0; i < barbSpawnListSize; i++)
+                {
+                    lastSpawnPoints.add(buf.readBlockPos());
+                }
+                Collections.reverse(lastSpawnPoints);
 
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
-        {
-            allies.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              buf.readBoolean(),
-              ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(buf.readUtf(32767)))));
-        }
+                this.isUnderRaid = buf.readBoolean();
+                this.spiesEnabled = buf.readBoolean();
+            }
+            case SECTION_STYLE ->
+            {
+                this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
+                this.colonyFlag = Utils.deserializeCodecMess(BannerPatternLayers.STREAM_CODEC, buf);
+                this.mercenaryLastUseTime = buf.readLong();
+
+                this.style = buf.readUtf(32767);
+                if (isNewSubscription
+                      && StructurePacks.hasPack(this.style)
+                      && RenderingCache.getOrCreateBlueprintPreviewData("blueprint").getBlueprint() == null
+                      && Minecraft.getInstance().player != null
+                      && this.isCoordInColony(getWorld(), Minecraft.getInstance().player.blockPosition())
+                )
+                {
+                    StructurePacks.selectedPack = StructurePacks.getStructurePack(this.style);
+                }
+            }
+            case SECTION_DIPLOMACY ->
+            {
+                this.allies = new ArrayList<>();
+                this.feuds = new ArrayList<>();
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
-        {
-            feuds.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              false,
-              ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(buf.readUtf(32767)))));
-        }
+                final int noOfAllies = buf.readInt();
+                for (int i = 0; i < noOfAllies; i++)
+                {
+                    allies.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      buf.readBoolean(),
+                      ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(buf.readUtf(32767)))));
+                }
 
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
-        {
-            ticketedChunks = new HashSet<>(ticketChunkCount);
-            for (int i = 0; i < ticketChunkCount; i++)
+                final int noOfFeuds = buf.readInt();
+                for (int i = 0; i < noOfFeuds; i++)
+                {
+                    feuds.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      false,
+                      ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(buf.readUtf(32767)))));
+                }
+            }
+            case SECTION_TICKETS ->
             {
-                ticketedChunks.add(buf.readLong());
+                final int ticketChunkCount = buf.readInt();
+                ticketedChunks = new HashSet<>(ticketChunkCount);
+                for (int i = 0; i < ticketChunkCount; i++)
+                {
+                    ticketedChunks.add(buf.readLong());
+                }
+                ColonyBorderRenderer.onClaimsChanged();
             }
-        }
-
-        final Long2ObjectMap<ChunkClaimData> colonyClaimData = new Long2ObjectOpenHashMap<>();
-        int size = buf.readInt();
-        for (int i = 0; i < size; i++)
-        {
-            final ChunkClaimData chunkClaimData = new ChunkClaimData();
-            final long pos = buf.readLong();
-            chunkClaimData.deserializeNBT(buf.registryAccess(), buf.readNbt());
-            colonyClaimData.put(pos, chunkClaimData);
-        }
+            case SECTION_CLAIMS ->
+            {
+                final Long2ObjectMap<ChunkClaimData> colonyClaimData = new Long2ObjectOpenHashMap<>();
+                int size = buf.readInt();
+                for (int i = 0; i < size; i++)
+                {
+                    final ChunkClaimData chunkClaimData = new ChunkClaimData();
+                    final long pos = buf.readLong();
+                    chunkClaimData.deserializeNBT(buf.registryAccess(), buf.readNbt());
+                    colonyClaimData.put(pos, chunkClaimData);
+                }
 
-        if (Minecraft.getInstance().getSingleplayerServer() == null)
-        {
-            IColonyManager.getInstance().addClaimData(this, colonyClaimData);
+                if (Minecraft.getInstance().getSingleplayerServer() == null)
+                {
+                    IColonyManager.getInstance().addClaimData(this, colonyClaimData);
+                }
+                ColonyBorderRenderer.onClaimsChanged();
+            }
+            case SECTION_GRAVES -> this.graveManager.read(buf.readNbt());
+            case SECTION_QUESTS -> this.questManager.deserializeNBT(buf.registryAccess(), buf.readNbt());
+            default -> throw new IllegalArgumentException("Unknown colony view section: " + section);
         }
-
-        this.graveManager.read(buf.readNbt());
-        this.statisticManager.deserialize(buf);
-        this.questManager.deserializeNBT(buf.registryAccess(), buf.readNbt());
-        this.day = buf.readInt();
     }
 
     /**
@@ -1494,6 +1651,12 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    @Override
+    public IThreatScanManager getThreatScanManager()
+    {
+        return null;
+    }
+
     @Override
     public IReproductionManager getReproductionManager()
     {
@@ -5,8 +5,6 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.ldtteam.structurize.api.RotationMirror;
-import com.ldtteam.structurize.blueprints.v1.Blueprint;
-import com.ldtteam.structurize.storage.StructurePacks;
 import com.ldtteam.structurize.util.BlockUtils;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockHut;
@@ -1023,17 +1021,13 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
 
         try
         {
-            final Blueprint blueprint = StructurePacks.getBlueprint(getStructurePack(), getBlueprintPath(), te.getLevel().registryAccess());
-            if (blueprint == null)
+            final BlueprintFootprint footprint = BlueprintFootprint.get(getStructurePack(), getBlueprintPath(), getRotationMirror(), colony.getWorld());
+            if (footprint == null)
             {
                 setCorners(getPosition(), getPosition());
                 return;
             }
-            final Tuple<BlockPos, BlockPos> corners
-              = ColonyUtils.calculateCorners(this.getPosition(),
-              colony.getWorld(),
-              blueprint,
-              getRotationMirror());
+            final Tuple<BlockPos, BlockPos> corners = footprint.getCorners(this.getPosition());
             this.setCorners(corners.getA(), corners.getB());
 
             if (te != null)
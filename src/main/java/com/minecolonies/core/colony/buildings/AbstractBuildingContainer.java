@@ -5,8 +5,10 @@ import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.inventory.ContainerContentIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.core.tileentities.TileEntityRack;
 import com.minecolonies.core.blocks.BlockMinecoloniesRack;
@@ -55,6 +57,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     protected AbstractTileEntityColonyBuilding tileEntity;
 
+    /**
+     * Aggregated content of the loaded containers.
+     */
+    private final ContainerContentIndex contentIndex = new ContainerContentIndex();
+
     /**
      * Priority of the building in the pickUpList. This is the unscaled value (mainly for a more intuitive GUI).
      */
@@ -126,13 +133,20 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     @Override
     public void addContainerPosition(@NotNull final BlockPos pos)
     {
-        containerList.add(pos);
+        if (containerList.add(pos))
+        {
+            contentIndex.invalidate();
+        }
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
         containerList.remove(pos);
+        if (!pos.equals(getPosition()))
+        {
+            contentIndex.remove(pos);
+        }
     }
 
     @Override
@@ -143,6 +157,32 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
         return list;
     }
 
+    @Override
+    public ContainerContentIndex getContentIndex()
+    {
+        if (!contentIndex.isValid())
+        {
+            contentIndex.clear();
+            final Level world = colony.getWorld();
+            for (final BlockPos pos : getContainers())
+            {
+                if (WorldUtil.isBlockLoaded(world, pos) && world.getBlockEntity(pos) instanceof TileEntityRack rack)
+                {
+                    rack.trackContentIn(contentIndex);
+                    contentIndex.add(pos, rack.getAllContent());
+                }
+            }
+            contentIndex.markValid();
+        }
+        return contentIndex;
+    }
+
+    @Override
+    public void invalidateContentIndex()
+    {
+        contentIndex.invalidate();
+    }
+
     @Override
     public void registerBlockPosition(@NotNull final BlockState blockState, @NotNull final BlockPos pos, @NotNull final Level world)
     {
@@ -210,6 +250,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     public void setTileEntity(final AbstractTileEntityColonyBuilding te)
     {
         tileEntity = te;
+        contentIndex.invalidate();
         if (te != null && te.isOutdated())
         {
             safeUpdateTEDataFromSchematic();
@@ -113,6 +113,11 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
      */
     private boolean recipesDirty = true;
 
+    /**
+     * Items reserved by the pending crafting tasks of the workers.
+     */
+    private final CraftingReservationLedger ledger = new CraftingReservationLedger();
+
     /**
      * Create a new module.
      * @param jobEntry the entry of the job.
@@ -252,6 +257,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 }
             }
         }
+        ledger.markDirty();
     }
 
     @Override
@@ -322,103 +328,83 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> getRequiredItemsAndAmount()
     {
-        final Map<ItemStorage, Tuple<Integer, Boolean>> requiredItems = new HashMap<>();
-        for (final Tuple<IRecipeStorage, Integer> recipeStorage : getPendingRequestQueueExcluding(null))
-        {
-            for (final ItemStorage itemStorage : recipeStorage.getA().getCleanedInput())
-            {
-                int amount = itemStorage.getAmount() * recipeStorage.getB();
-                if (requiredItems.containsKey(itemStorage))
-                {
-                    amount += requiredItems.get(itemStorage).getA();
-                }
-                requiredItems.put(itemStorage, new Tuple<>(amount, false));
-            }
-
-            final ItemStorage output = new ItemStorage(recipeStorage.getA().getPrimaryOutput());
-            int amount = output.getAmount() * recipeStorage.getB();
-            if (requiredItems.containsKey(output))
-            {
-                amount += requiredItems.get(output).getA();
-            }
-            requiredItems.put(output, new Tuple<>(amount, false));
-        }
-
-        return new HashMap<>(requiredItems.entrySet()
-                               .stream()
-                               .collect(Collectors.toMap(key -> (stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, key.getKey().getItemStack(), false, true)), Map.Entry::getValue)));
+        return getLedger().getRequired();
     }
 
     @Override
     public Map<ItemStorage, Integer> reservedStacksExcluding(@Nullable final IRequest<? extends IDeliverable> request)
     {
-        final Map<ItemStorage, Integer> recipeOutputs = new HashMap<>();
-        for (final Tuple<IRecipeStorage, Integer> recipeStorage : getPendingRequestQueueExcluding(request))
+        final CraftingReservationLedger currentLedger = getLedger();
+        if (request == null)
         {
-            for (final ItemStorage itemStorage : recipeStorage.getA().getCleanedInput())
-            {
-                int amount = itemStorage.getAmount() * recipeStorage.getB();
-                if (recipeOutputs.containsKey(itemStorage))
-                {
-                    amount += recipeOutputs.get(itemStorage);
-                }
-                recipeOutputs.put(itemStorage, amount);
-            }
+            return currentLedger.getReservedExcluding(Collections.emptySet());
         }
-        return recipeOutputs;
+        return currentLedger.getReservedExcluding(getAncestors(building.getColony().getRequestManager(), request));
     }
 
     /**
-     * Get a list of all recipeStorages of the pending requests in the crafters queues.
-     * @param excluded ignore this request (and its parents).
-     * @return the list.
+     * Get the reservation ledger of the pending requests in the crafters queues, rebuilding it if the queues or recipes changed or one of its requests is gone.
+     * @return the ledger.
      */
-    private List<Tuple<IRecipeStorage, Integer>> getPendingRequestQueueExcluding(@Nullable final IRequest<? extends IDeliverable> excluded)
+    private CraftingReservationLedger getLedger()
     {
-        final List<Tuple<IRecipeStorage, Integer>> recipes = new ArrayList<>();
+        final List<AbstractJobCrafter<?, ?>> jobs = new ArrayList<>();
         for (final ICitizenData citizen : building.getAllAssignedCitizen())
         {
-            if (citizen.getJob() instanceof AbstractJobCrafter)
+            if (citizen.getJob() instanceof AbstractJobCrafter<?, ?> job)
             {
-                final List<IToken<?>> assignedTasks = new ArrayList<>(citizen.getJob(AbstractJobCrafter.class).getAssignedTasks());
-                assignedTasks.addAll(citizen.getJob(AbstractJobCrafter.class).getTaskQueue());
+                jobs.add(job);
+            }
+        }
 
-                for (final IToken<?> taskToken : assignedTasks)
+        final IRequestManager requestManager = building.getColony().getRequestManager();
+        if (ledger.isCurrent(jobs, requestManager))
+        {
+            return ledger;
+        }
+
+        final List<CraftingReservationLedger.Entry> entries = new ArrayList<>();
+        for (final AbstractJobCrafter<?, ?> job : jobs)
+        {
+            final List<IToken<?>> assignedTasks = new ArrayList<>(job.getAssignedTasksFromDataStore());
+            assignedTasks.addAll(job.getTaskQueue());
+
+            for (final IToken<?> taskToken : assignedTasks)
+            {
+                final IRequest<?> request = requestManager.getRequestForToken(taskToken);
+                if (request == null || !(request.getRequest() instanceof PublicCrafting crafting))
                 {
-                    final IRequest<? extends PublicCrafting> request = (IRequest<? extends PublicCrafting>) building.getColony().getRequestManager().getRequestForToken(taskToken);
-                    if (request == null || (excluded != null && anyChildRequestIs(building.getColony().getRequestManager(), request, excluded)))
-                    {
-                        continue;
-                    }
+                    continue;
+                }
 
-                    final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(request.getRequest().getRecipeID());
-                    if (holdsRecipe(request.getRequest().getRecipeID()) && recipeStorage != null)
-                    {
-                        recipes.add(new Tuple<>(recipeStorage, request.getRequest().getCount()));
-                    }
+                final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(crafting.getRecipeID());
+                if (holdsRecipe(crafting.getRecipeID()) && recipeStorage != null)
+                {
+                    entries.add(new CraftingReservationLedger.Entry(taskToken, recipeStorage, crafting.getCount()));
                 }
             }
         }
-        return recipes;
+
+        ledger.rebuild(jobs, entries);
+        return ledger;
     }
 
-    private static boolean anyChildRequestIs(@NotNull final IRequestManager requestManager,
-                                             @NotNull final IRequest<?> parent,
-                                             @NotNull final IRequest<?> target)
+    /**
+     * Get the tokens of all parents of a request, up to the root of its chain.
+     * @param requestManager the request manager.
+     * @param request the request.
+     * @return the parent tokens.
+     */
+    private static Set<IToken<?>> getAncestors(@NotNull final IRequestManager requestManager, @NotNull final IRequest<?> request)
     {
-        return parent.getChildren().stream().anyMatch(childToken ->
+        final Set<IToken<?>> ancestors = new HashSet<>();
+        IToken<?> parent = request.getParent();
+        while (parent != null && ancestors.add(parent))
         {
-            final IRequest<?> childRequest = requestManager.getRequestForToken(childToken);
-            if (childRequest == target)
-            {
-                return true;
-            }
-            else if (childRequest != null)
-            {
-                return anyChildRequestIs(requestManager, childRequest, target);
-            }
-            return false;
-        });
+            final IRequest<?> parentRequest = requestManager.getRequestForToken(parent);
+            parent = parentRequest == null ? null : parentRequest.getParent();
+        }
+        return ancestors;
     }
 
     @Override
@@ -573,6 +559,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     {
         recipes.clear();
         recipesDirty = true;
+        ledger.markDirty();
     }
 
     @Override
@@ -742,6 +729,8 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public IRecipeStorage getFirstFulfillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
+        List<IItemHandler> handlers = null;
+        Map<ItemStorage, Integer> reserved = null;
         for (final IToken<?> token : recipes)
         {
             if (disabledRecipes.contains(token))
@@ -752,13 +741,18 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
             if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
             {
-                final Set<IItemHandler> handlers = new HashSet<>();
-                for (final ICitizenData workerEntity : building.getAllAssignedCitizen())
+                if (handlers == null)
                 {
-                    handlers.add(workerEntity.getInventory());
+                    final Set<IItemHandler> workerHandlers = new HashSet<>();
+                    for (final ICitizenData workerEntity : building.getAllAssignedCitizen())
+                    {
+                        workerHandlers.add(workerEntity.getInventory());
+                    }
+                    handlers = new ArrayList<>(workerHandlers);
+                    reserved = considerReservation ? reservedStacks() : Collections.emptyMap();
                 }
                 IRecipeStorage toTest = storage.getRecipeType() instanceof MultiOutputRecipe ? storage.getClassicForMultiOutput(stackPredicate) : storage;
-                if (toTest.canFullFillRecipe(count, considerReservation ? reservedStacks() : Collections.emptyMap(), new ArrayList<>(handlers), building))
+                if (toTest.canFullFillRecipe(count, reserved, new ArrayList<>(handlers), building))
                 {
                     return toTest;
                 }
@@ -843,6 +837,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         if (recipes.contains(oldRecipe))
         {
             recipesDirty = true;
+            ledger.markDirty();
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
@@ -864,6 +859,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        ledger.markDirty();
     }
 
     @Override
@@ -872,6 +868,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         if (!recipes.contains(token))
         {
             recipesDirty = true;
+            ledger.markDirty();
             if(atTop)
             {
                 recipes.add(0, token);
@@ -925,6 +922,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         {
             disabledRecipes.add(key);
         }
+        ledger.markDirty();
         markDirty();
     }
 
@@ -0,0 +1,188 @@
+package com.minecolonies.core.colony.buildings.modules;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.core.colony.jobs.AbstractJobCrafter;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The items reserved by the pending crafting tasks of a building's workers, summed up once instead of on every query.
+ * <p>
+ * The ledger is rebuilt when a worker's task version changes, when the assigned workers or the recipes of the module change, and as soon as one of its requests no
+ * longer resolves, which covers requests leaving the request system without the worker being told.
+ */
+final class CraftingReservationLedger
+{
+    /**
+     * One pending crafting task.
+     *
+     * @param token   the request token.
+     * @param storage the recipe of the request.
+     * @param count   the amount of crafts requested.
+     */
+    record Entry(IToken<?> token, IRecipeStorage storage, int count)
+    {
+    }
+
+    /**
+     * The pending tasks.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Summed recipe inputs of all pending tasks.
+     */
+    private final Object2IntMap<ItemStorage> reserved = new Object2IntOpenHashMap<>();
+
+    /**
+     * Summed recipe inputs and outputs of all pending tasks, as required item predicates.
+     */
+    private final Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> required = new HashMap<>();
+
+    /**
+     * Task version of each worker job at the last rebuild.
+     */
+    private final Reference2IntMap<AbstractJobCrafter<?, ?>> versions = new Reference2IntOpenHashMap<>();
+
+    /**
+     * Whether the recipes of the module changed since the last rebuild.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Mark the ledger outdated.
+     */
+    void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Check if the ledger still matches the tasks of the workers.
+     *
+     * @param jobs           the crafter jobs of the assigned workers.
+     * @param requestManager the request manager the tasks belong to.
+     * @return true if it does not need a rebuild.
+     */
+    boolean isCurrent(@NotNull final Collection<AbstractJobCrafter<?, ?>> jobs, @NotNull final IRequestManager requestManager)
+    {
+        if (dirty || jobs.size() != versions.size())
+        {
+            return false;
+        }
+
+        for (final AbstractJobCrafter<?, ?> job : jobs)
+        {
+            if (!versions.containsKey(job) || versions.getInt(job) != job.getTaskVersion())
+            {
+                return false;
+            }
+        }
+
+        for (final Entry entry : entries)
+        {
+            if (requestManager.getRequestForToken(entry.token()) == null)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replace the pending tasks and sum them up again.
+     *
+     * @param jobs       the crafter jobs of the assigned workers.
+     * @param newEntries the pending tasks of these jobs.
+     */
+    void rebuild(@NotNull final Collection<AbstractJobCrafter<?, ?>> jobs, @NotNull final List<Entry> newEntries)
+    {
+        versions.clear();
+        for (final AbstractJobCrafter<?, ?> job : jobs)
+        {
+            versions.put(job, job.getTaskVersion());
+        }
+
+        entries.clear();
+        entries.addAll(newEntries);
+
+        reserved.clear();
+        final Map<ItemStorage, Integer> requiredItems = new HashMap<>();
+        for (final Entry entry : entries)
+        {
+            for (final ItemStorage itemStorage : entry.storage().getCleanedInput())
+            {
+                final int amount = itemStorage.getAmount() * entry.count();
+                reserved.mergeInt(itemStorage, amount, Integer::sum);
+                requiredItems.merge(itemStorage, amount, Integer::sum);
+            }
+
+            final ItemStorage output = new ItemStorage(entry.storage().getPrimaryOutput());
+            requiredItems.merge(output, output.getAmount() * entry.count(), Integer::sum);
+        }
+
+        required.clear();
+        for (final Map.Entry<ItemStorage, Integer> item : requiredItems.entrySet())
+        {
+            final ItemStack stack = item.getKey().getItemStack();
+            required.put(toTest -> ItemStackUtils.compareItemStacksIgnoreStackSize(toTest, stack, false, true), new Tuple<>(item.getValue(), false));
+        }
+
+        dirty = false;
+    }
+
+    /**
+     * Get the items required by the pending tasks, inputs and primary outputs.
+     *
+     * @return a new map of item predicates to amount and whether to keep the rest.
+     */
+    Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> getRequired()
+    {
+        return new HashMap<>(required);
+    }
+
+    /**
+     * Get the inputs reserved by the pending tasks, leaving out some of them.
+     *
+     * @param excludedTokens tokens of the tasks to leave out.
+     * @return a new map of items to amount.
+     */
+    Map<ItemStorage, Integer> getReservedExcluding(@NotNull final Set<IToken<?>> excludedTokens)
+    {
+        final Map<ItemStorage, Integer> result = new HashMap<>(reserved);
+        if (excludedTokens.isEmpty())
+        {
+            return result;
+        }
+
+        for (final Entry entry : entries)
+        {
+            if (excludedTokens.contains(entry.token()))
+            {
+                for (final ItemStorage itemStorage : entry.storage().getCleanedInput())
+                {
+                    result.computeIfPresent(itemStorage, (key, amount) -> amount - itemStorage.getAmount() * entry.count());
+                }
+            }
+        }
+        result.values().removeIf(amount -> amount <= 0);
+        return result;
+    }
+}
@@ -52,6 +52,11 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
      */
     private int progress = 0;
 
+    /**
+     * Incremented whenever the assigned tasks or the task queue change, see {@link #getTaskVersion()}.
+     */
+    private int taskVersion = 0;
+
     /**
      * Instantiates the job for the crafter.
      *
@@ -119,6 +124,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         {
             setupRsDataStore();
         }
+        taskVersion++;
 
         if (compound.contains(NbtTagConstants.TAG_PROGRESS))
         {
@@ -193,6 +199,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         while (request == null)
         {
             getTaskQueueFromDataStore().remove(getTaskQueueFromDataStore().peekFirst());
+            taskVersion++;
             request = (IRequest<R>) getColony().getRequestManager().getRequestForToken(getTaskQueueFromDataStore().peekFirst());
         }
 
@@ -207,6 +214,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
     public void addRequest(@NotNull final IToken<?> token)
     {
         getTaskQueueFromDataStore().add(token);
+        taskVersion++;
     }
 
     /**
@@ -241,11 +249,13 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         {
             getAssignedTasksFromDataStore().remove(token);
         }
+        taskVersion++;
     }
 
     public void onTaskBeingScheduled(@NotNull final IToken<?> token)
     {
         getAssignedTasksFromDataStore().add(token);
+        taskVersion++;
     }
 
     public void onTaskBeingResolved(@NotNull final IToken<?> token)
@@ -269,6 +279,16 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         return ImmutableList.copyOf(getAssignedTasksFromDataStore());
     }
 
+    /**
+     * Get the version of the assigned tasks and the task queue, which changes whenever a task is added or removed through this job.
+     *
+     * @return the version.
+     */
+    public int getTaskVersion()
+    {
+        return taskVersion;
+    }
+
     /**
      * Get the max crafting count for the current recipe.
      *
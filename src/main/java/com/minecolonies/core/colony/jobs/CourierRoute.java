@@ -0,0 +1,164 @@
+package com.minecolonies.core.colony.jobs;
+
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The task queue of a courier resolved into route segments, so scoring and grouping of deliveries does not look every queued token up in the request manager again.
+ * <p>
+ * The segments are rebuilt whenever the queue differs from the one they were resolved for, which also covers changes made to the data store from outside the job. Also
+ * tracks when tokens were queued and the trips finished, for the courier metrics.
+ */
+final class CourierRoute
+{
+    /**
+     * One resolved queue entry.
+     *
+     * @param token          the request token.
+     * @param request        the request, null if it no longer exists.
+     * @param source         where the courier picks the items up.
+     * @param target         where the courier brings the items.
+     * @param startWareHouse the warehouse which contains the start of a delivery.
+     */
+    record Segment(IToken<?> token, @Nullable IRequest<?> request, @Nullable BlockPos source, @Nullable BlockPos target, @Nullable IWareHouse startWareHouse)
+    {
+    }
+
+    /**
+     * The queue the segments were resolved for.
+     */
+    private final List<IToken<?>> resolvedQueue = new ArrayList<>();
+
+    /**
+     * The segments, in queue order.
+     */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Game time at which the queued tokens were added, tokens from before a reload have none.
+     */
+    private final Object2LongMap<IToken<?>> queuedAt = new Object2LongOpenHashMap<>();
+
+    /**
+     * Finished trip metrics.
+     */
+    private long   trips;
+    private double tripLength;
+    private long   latencySamples;
+    private long   latencyTicks;
+
+    /**
+     * Get the segments of a queue, resolving them again if the queue changed.
+     *
+     * @param queue    the current task queue.
+     * @param resolver resolves a token into its segment.
+     * @return the segments in queue order.
+     */
+    List<Segment> getSegments(@NotNull final Collection<IToken<?>> queue, @NotNull final Function<IToken<?>, Segment> resolver)
+    {
+        if (!resolvedQueue.equals(queue))
+        {
+            resolvedQueue.clear();
+            resolvedQueue.addAll(queue);
+            segments.clear();
+            for (final IToken<?> token : resolvedQueue)
+            {
+                segments.add(resolver.apply(token));
+            }
+
+            if (!queuedAt.isEmpty())
+            {
+                final Set<IToken<?>> queued = new HashSet<>(resolvedQueue);
+                queuedAt.keySet().removeIf(token -> !queued.contains(token));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Remember when a token got queued.
+     *
+     * @param token    the token.
+     * @param gameTime the current game time.
+     */
+    void onQueued(@NotNull final IToken<?> token, final long gameTime)
+    {
+        queuedAt.putIfAbsent(token, gameTime);
+    }
+
+    /**
+     * Record a finished trip.
+     *
+     * @param token    the token of the finished request.
+     * @param source   where the trip started, null if unknown.
+     * @param target   where the trip ended, null if unknown.
+     * @param gameTime the current game time.
+     */
+    void onFinished(@NotNull final IToken<?> token, @Nullable final BlockPos source, @Nullable final BlockPos target, final long gameTime)
+    {
+        if (source != null && target != null)
+        {
+            trips++;
+            tripLength += Math.sqrt(source.distSqr(target));
+        }
+
+        if (queuedAt.containsKey(token))
+        {
+            latencySamples++;
+            latencyTicks += gameTime - queuedAt.removeLong(token);
+        }
+    }
+
+    /**
+     * Get the amount of finished trips with a known length.
+     *
+     * @return the amount.
+     */
+    long getTrips()
+    {
+        return trips;
+    }
+
+    /**
+     * Get the summed length of the finished trips.
+     *
+     * @return the length in blocks.
+     */
+    double getTripLength()
+    {
+        return tripLength;
+    }
+
+    /**
+     * Get the amount of finished requests with a known queue time.
+     *
+     * @return the amount.
+     */
+    long getLatencySamples()
+    {
+        return latencySamples;
+    }
+
+    /**
+     * Get the summed time finished requests spent in the queue.
+     *
+     * @return the time in ticks.
+     */
+    long getLatencyTicks()
+    {
+        return latencyTicks;
+    }
+}
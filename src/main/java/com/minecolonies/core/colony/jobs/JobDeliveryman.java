@@ -35,6 +35,7 @@ import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -61,6 +62,11 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     private int ongoingDeliveries;
 
+    /**
+     * The task queue resolved into route segments, rebuilt when the queue changes.
+     */
+    private final CourierRoute route = new CourierRoute();
+
     /**
      * Instantiates the job for the deliveryman.
      *
@@ -283,6 +289,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         }
 
         getTaskQueueFromDataStore().add(Math.max(0, insertionIndex + offset), token);
+        route.onQueued(token, getColony().getWorld().getGameTime());
     }
 
     /**
@@ -321,6 +328,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                     {
                         getColony().getRequestManager().updateRequestState(req.getId(), successful ? RequestState.RESOLVED : RequestState.FAILED);
                     }
+                    onTripFinished(req);
                     getTaskQueueFromDataStore().remove(req.getId());
                 }
             }
@@ -333,6 +341,10 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                     {
                         getColony().getRequestManager().updateRequestState(req.getId(), successful ? RequestState.RESOLVED : RequestState.FAILED);
                     }
+                    if (req != null)
+                    {
+                        onTripFinished(req);
+                    }
                     getTaskQueueFromDataStore().remove(token);
                     getDataStore().getOngoingDeliveries().remove(token);
                 }
@@ -340,6 +352,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         }
         else if (request.getRequest() instanceof Pickup)
         {
+            onTripFinished(request);
             getTaskQueueFromDataStore().remove(request.getId());
             getColony().getRequestManager().updateRequestState(current, successful ? RequestState.RESOLVED : RequestState.FAILED);
         }
@@ -357,6 +370,16 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         getCitizen().getWorkBuilding().markDirty();
     }
 
+    /**
+     * Record the trip length and queue time of a request leaving the queue.
+     *
+     * @param request the finished request.
+     */
+    private void onTripFinished(@NotNull final IRequest<?> request)
+    {
+        route.onFinished(request.getId(), getSource(request), getTarget(request), getColony().getWorld().getGameTime());
+    }
+
     /**
      * Called when a task that is being scheduled is being canceled.
      *
@@ -426,17 +449,13 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     public boolean hasSameDestinationDelivery(@NotNull final IRequest<? extends Delivery> request)
     {
-        for (final IToken<?> requestToken : getTaskQueue())
+        final Delivery newDev = request.getRequest();
+        final IWareHouse startWareHouse = findStartWareHouse(newDev);
+        for (final CourierRoute.Segment segment : getRoute())
         {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestToken);
-            if (compareRequest != null && compareRequest.getRequest() instanceof Delivery)
+            if (haveTasksSameSourceAndDest(segment, newDev, startWareHouse))
             {
-                final Delivery current = (Delivery) compareRequest.getRequest();
-                final Delivery newDev = request.getRequest();
-                if (haveTasksSameSourceAndDest(current, newDev))
-                {
-                    return true;
-                }
+                return true;
             }
         }
 
@@ -444,29 +463,62 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     }
 
     /**
-     * Check if two deliveries have the same source and destination.
+     * Check if a queued delivery has the same source and destination as another delivery.
      *
-     * @param requestA the first request.
-     * @param requestB the second request.
+     * @param segment        the queued delivery.
+     * @param delivery       the other delivery.
+     * @param startWareHouse the warehouse containing the start of the other delivery, or null.
      * @return true if so.
      */
-    private boolean haveTasksSameSourceAndDest(@NotNull final Delivery requestA, @NotNull final Delivery requestB)
+    private static boolean haveTasksSameSourceAndDest(@NotNull final CourierRoute.Segment segment, @NotNull final Delivery delivery, @Nullable final IWareHouse startWareHouse)
+    {
+        if (segment.request() != null && segment.request().getRequest() instanceof Delivery current && current.getTarget().equals(delivery.getTarget()))
+        {
+            return current.getStart().equals(delivery.getStart()) || (startWareHouse != null && startWareHouse == segment.startWareHouse());
+        }
+        return false;
+    }
+
+    /**
+     * Find the warehouse which has the start of a delivery in its racks.
+     *
+     * @param delivery the delivery.
+     * @return the warehouse or null.
+     */
+    @Nullable
+    private IWareHouse findStartWareHouse(@NotNull final Delivery delivery)
     {
-        if (requestA.getTarget().equals(requestB.getTarget()))
+        final BlockPos start = delivery.getStart().getInDimensionLocation();
+        for (final IWareHouse wareHouse : getColony().getBuildingManager().getWareHouses())
         {
-            if (requestA.getStart().equals(requestB.getStart()))
+            if (wareHouse.hasContainerPosition(start))
             {
-                return true;
+                return wareHouse;
             }
-            for (final IWareHouse wareHouse : getColony().getBuildingManager().getWareHouses())
+        }
+        return null;
+    }
+
+    /**
+     * Get the task queue resolved into route segments.
+     *
+     * @return the segments in queue order.
+     */
+    private List<CourierRoute.Segment> getRoute()
+    {
+        return route.getSegments(getTaskQueueFromDataStore(), token ->
+        {
+            final IRequest<?> request = getColony().getRequestManager().getRequestForToken(token);
+            if (request == null)
             {
-                if (wareHouse.hasContainerPosition(requestA.getStart().getInDimensionLocation()) && wareHouse.hasContainerPosition(requestB.getStart().getInDimensionLocation()))
-                {
-                    return true;
-                }
+                return new CourierRoute.Segment(token, null, null, null, null);
             }
-        }
-        return false;
+            return new CourierRoute.Segment(token,
+              request,
+              getSource(request),
+              getTarget(request),
+              request.getRequest() instanceof Delivery delivery ? findStartWareHouse(delivery) : null);
+        });
     }
 
     /**
@@ -479,19 +531,17 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     {
         final List<IRequest<? extends Delivery>> deliveryList = new ArrayList<>();
         deliveryList.add(request);
-        for (final IToken<?> requestToken : getTaskQueue())
+        final Delivery newDev = request.getRequest();
+        final IWareHouse startWareHouse = findStartWareHouse(newDev);
+        for (final CourierRoute.Segment segment : getRoute())
         {
-            if (!requestToken.equals(request.getId()))
+            if (!segment.token().equals(request.getId()) && haveTasksSameSourceAndDest(segment, newDev, startWareHouse))
             {
-                final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestToken);
+                // Only matches are looked up again, the request may have left the request system since the route was resolved
+                final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(segment.token());
                 if (compareRequest != null && compareRequest.getRequest() instanceof Delivery)
                 {
-                    final Delivery current = (Delivery) compareRequest.getRequest();
-                    final Delivery newDev = request.getRequest();
-                    if (haveTasksSameSourceAndDest(current, newDev))
-                    {
-                        deliveryList.add((IRequest<? extends Delivery>) compareRequest);
-                    }
+                    deliveryList.add((IRequest<? extends Delivery>) compareRequest);
                 }
             }
         }
@@ -507,12 +557,12 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     @NotNull
     public Tuple<Double, Integer> getScoreForDelivery(final IRequest<?> newRequest)
     {
-        final List<IToken<?>> requestTokens = getTaskQueueFromDataStore();
+        final List<CourierRoute.Segment> segments = getRoute();
 
         double totalScore = 10000;
-        int bestRequestIndex = Math.max(0, requestTokens.size());
+        int bestRequestIndex = Math.max(0, segments.size());
 
-        if (requestTokens.isEmpty())
+        if (segments.isEmpty())
         {
             // No task, compare with dman pos
             totalScore = getClosenessFactorTo(getSource(newRequest),
@@ -523,9 +573,12 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             totalScore -= ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
         }
 
-        for (int i = 0; i < requestTokens.size(); i++)
+        final BlockPos newSource = getSource(newRequest);
+        final BlockPos newTarget = getTarget(newRequest);
+        for (int i = 0; i < segments.size(); i++)
         {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestTokens.get(i));
+            final CourierRoute.Segment segment = segments.get(i);
+            final IRequest<?> compareRequest = segment.request();
             if (compareRequest == null)
             {
                 continue;
@@ -533,7 +586,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
 
             if (compareRequest.getRequest() instanceof AbstractDeliverymanRequestable)
             {
-                double score = getScoreOfRequestComparedTo(newRequest, compareRequest, i);
+                double score = getScoreOfRequestComparedTo(newRequest, newSource, newTarget, segment, i, segments.size());
 
                 if (score <= totalScore)
                 {
@@ -564,16 +617,43 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             return 100;
         }
 
+        return getScoreOfRequestComparedTo(source,
+          getSource(source),
+          getTarget(source),
+          new CourierRoute.Segment(comparing.getId(), comparing, getSource(comparing), getTarget(comparing), null),
+          comparingIndex,
+          getTaskQueueFromDataStore().size());
+    }
+
+    /**
+     * Calculates the score of a request compared to a resolved queue entry.
+     *
+     * @param source         source request
+     * @param sourceFrom     source position of the source request
+     * @param sourceTo       target position of the source request
+     * @param comparing      the resolved comparing request
+     * @param comparingIndex index of the comparing request in our taskque
+     * @param queueSize      size of our taskque
+     * @return compare score of the two requests, lower is better.
+     */
+    private static double getScoreOfRequestComparedTo(
+      final IRequest<?> source,
+      final BlockPos sourceFrom,
+      final BlockPos sourceTo,
+      final CourierRoute.Segment comparing,
+      final int comparingIndex,
+      final int queueSize)
+    {
         // Closeness compared to the existing request
-        double score = getClosenessFactorTo(getSource(source), getTarget(source), getSource(comparing), getTarget(comparing));
+        double score = getClosenessFactorTo(sourceFrom, sourceTo, comparing.source(), comparing.target());
         // Priority of the existing request in diff to priority of the newly incomming one
-        score += (((AbstractDeliverymanRequestable) comparing.getRequest()).getPriority() - ((AbstractDeliverymanRequestable) source.getRequest()).getPriority()) * 0.5;
+        score += (((AbstractDeliverymanRequestable) comparing.request().getRequest()).getPriority() - ((AbstractDeliverymanRequestable) source.getRequest()).getPriority()) * 0.5;
 
         // Additional score for alternating between pickup and delivery
-        score += getPickUpRequestScore(source, comparing);
+        score += getPickUpRequestScore(source, comparing.request());
 
         // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
+        score += queueSize - comparingIndex;
 
         return score;
     }
@@ -702,6 +782,46 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         return null;
     }
 
+    /**
+     * Get the amount of finished trips with a known length.
+     *
+     * @return the amount.
+     */
+    public long getFinishedTrips()
+    {
+        return route.getTrips();
+    }
+
+    /**
+     * Get the summed length of all finished trips.
+     *
+     * @return the length in blocks.
+     */
+    public double getTotalTripLength()
+    {
+        return route.getTripLength();
+    }
+
+    /**
+     * Get the amount of finished requests with a known queue time, requests queued before the last load have none.
+     *
+     * @return the amount.
+     */
+    public long getQueueLatencySamples()
+    {
+        return route.getLatencySamples();
+    }
+
+    /**
+     * Get the summed time finished requests spent in the queue.
+     *
+     * @return the time in ticks.
+     */
+    public long getTotalQueueLatency()
+    {
+        return route.getLatencyTicks();
+    }
+
     /**
      * Add a concurrent delivery that is going on.
      * @param requestToken the token of the request.
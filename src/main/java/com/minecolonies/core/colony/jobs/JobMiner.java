@@ -8,7 +8,7 @@ import net.minecraft.world.damagesource.DamageSource;
 import org.jetbrains.annotations.NotNull;
 
 import static com.minecolonies.api.research.util.ResearchConstants.FIRE_DAMAGE_PREDICATE;
-import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
+import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES_HANDLE;
 
 /**
  * Special miner job. Defines miner model and specialized job behaviour.
@@ -55,7 +55,7 @@ public class JobMiner extends AbstractJobStructure<EntityAIStructureMiner, JobMi
     {
         if (damageSource.typeHolder().is(FIRE_DAMAGE_PREDICATE))
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_HANDLE) > 0;
         }
 
         return super.ignoresDamage(damageSource);
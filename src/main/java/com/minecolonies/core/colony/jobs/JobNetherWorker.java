@@ -17,7 +17,7 @@ import java.util.LinkedList;
 import java.util.Queue;
 
 import static com.minecolonies.api.research.util.ResearchConstants.FIRE_DAMAGE_PREDICATE;
-import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
+import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES_HANDLE;
 
 public class JobNetherWorker extends AbstractJobCrafter<EntityAIWorkNether, JobNetherWorker>
 {
@@ -200,7 +200,7 @@ public class JobNetherWorker extends AbstractJobCrafter<EntityAIWorkNether, JobN
     {
         if (damageSource.typeHolder().is(FIRE_DAMAGE_PREDICATE))
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_HANDLE) > 0;
         }
 
         return super.ignoresDamage(damageSource);
@@ -16,7 +16,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.minecolonies.api.research.util.ResearchConstants.FIRE_DAMAGE_PREDICATE;
-import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
+import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES_HANDLE;
 
 /**
  * Special quarrier job. Defines miner model and specialized job behaviour.
@@ -104,7 +104,7 @@ public class JobQuarrier extends AbstractJobStructure<EntityAIQuarrier, JobQuarr
     {
         if (damageSource.typeHolder().is(FIRE_DAMAGE_PREDICATE))
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_HANDLE) > 0;
         }
 
         return super.ignoresDamage(damageSource);
@@ -0,0 +1,234 @@
+package com.minecolonies.core.colony.managers;
+
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
+import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Secondary indexes of the buildings of a colony, by building type, class, module class and position.
+ * <p>
+ * Class and module indexes are created on the first query for a class and kept current from then on, the type and position indexes always. Lists are replaced instead of
+ * modified, like the building map itself, so callers may iterate them while buildings get added or removed.
+ */
+final class BuildingIndex
+{
+    /**
+     * Edge length of a position index cell as a bit shift, 64 blocks.
+     */
+    private static final int CELL_SHIFT = 6;
+
+    /**
+     * Buildings by building type.
+     */
+    private final Map<BuildingEntry, List<IBuilding>> byType = new HashMap<>();
+
+    /**
+     * Buildings which are instances of a class, by queried class.
+     */
+    private final Map<Class<?>, List<IBuilding>> byClass = new HashMap<>();
+
+    /**
+     * Buildings which have a module of a class, by queried module class.
+     */
+    private final Map<Class<? extends IBuildingModule>, List<IBuilding>> byModule = new HashMap<>();
+
+    /**
+     * Buildings by position index cell.
+     */
+    private final Long2ObjectMap<List<IBuilding>> byCell = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * All buildings, for building new class and module indexes.
+     */
+    private Collection<IBuilding> buildings = List.of();
+
+    /**
+     * Rebuilds the index from scratch.
+     *
+     * @param buildings all buildings of the colony.
+     */
+    void reset(@NotNull final Collection<IBuilding> buildings)
+    {
+        this.buildings = buildings;
+        byType.clear();
+        byClass.clear();
+        byModule.clear();
+        byCell.clear();
+        for (final IBuilding building : buildings)
+        {
+            byType.put(building.getBuildingType(), with(byType.get(building.getBuildingType()), building));
+            byCell.put(cellOf(building.getPosition()), with(byCell.get(cellOf(building.getPosition())), building));
+        }
+    }
+
+    /**
+     * Adds a building.
+     *
+     * @param building  the new building.
+     * @param buildings all buildings of the colony, including the new one.
+     */
+    void add(@NotNull final IBuilding building, @NotNull final Collection<IBuilding> buildings)
+    {
+        this.buildings = buildings;
+        byType.put(building.getBuildingType(), with(byType.get(building.getBuildingType()), building));
+        byCell.put(cellOf(building.getPosition()), with(byCell.get(cellOf(building.getPosition())), building));
+        byClass.replaceAll((clazz, list) -> clazz.isInstance(building) ? with(list, building) : list);
+        byModule.replaceAll((clazz, list) -> building.hasModule(clazz) ? with(list, building) : list);
+    }
+
+    /**
+     * Removes a building.
+     *
+     * @param building  the removed building.
+     * @param buildings all remaining buildings of the colony.
+     */
+    void remove(@NotNull final IBuilding building, @NotNull final Collection<IBuilding> buildings)
+    {
+        this.buildings = buildings;
+        byType.computeIfPresent(building.getBuildingType(), (type, list) -> without(list, building));
+        byCell.computeIfPresent(cellOf(building.getPosition()), (cell, list) -> without(list, building));
+        byClass.replaceAll((clazz, list) -> without(list, building));
+        byModule.replaceAll((clazz, list) -> without(list, building));
+    }
+
+    /**
+     * Get the buildings of a building type.
+     *
+     * @param type the building type.
+     * @return the buildings, not to be modified.
+     */
+    List<IBuilding> getByType(@NotNull final BuildingEntry type)
+    {
+        return byType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Get the buildings which are instances of a class or interface.
+     *
+     * @param clazz the class.
+     * @return the buildings, not to be modified.
+     */
+    List<IBuilding> getByClass(@NotNull final Class<?> clazz)
+    {
+        return byClass.computeIfAbsent(clazz, key -> collect(key::isInstance));
+    }
+
+    /**
+     * Get the buildings which have a module of a class.
+     *
+     * @param clazz the module class.
+     * @return the buildings, not to be modified.
+     */
+    List<IBuilding> getByModule(@NotNull final Class<? extends IBuildingModule> clazz)
+    {
+        return byModule.computeIfAbsent(clazz, key -> collect(building -> building.hasModule(key)));
+    }
+
+    /**
+     * Get the buildings positioned within a box.
+     *
+     * @param box the box.
+     * @return a new list of the buildings.
+     */
+    List<IBuilding> getInBox(@NotNull final BoundingBox box)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        for (int cellX = box.minX() >> CELL_SHIFT; cellX <= box.maxX() >> CELL_SHIFT; cellX++)
+        {
+            for (int cellZ = box.minZ() >> CELL_SHIFT; cellZ <= box.maxZ() >> CELL_SHIFT; cellZ++)
+            {
+                final List<IBuilding> cell = byCell.get(ChunkPos.asLong(cellX, cellZ));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : cell)
+                {
+                    if (box.isInside(building.getPosition()))
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collect the buildings matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the matching buildings.
+     */
+    private List<IBuilding> collect(final Predicate<IBuilding> predicate)
+    {
+        final ImmutableList.Builder<IBuilding> builder = ImmutableList.builder();
+        for (final IBuilding building : buildings)
+        {
+            if (predicate.test(building))
+            {
+                builder.add(building);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the index cell of a position.
+     *
+     * @param pos the position.
+     * @return the cell key.
+     */
+    private static long cellOf(final BlockPos pos)
+    {
+        return ChunkPos.asLong(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+    }
+
+    /**
+     * Copy of a list with a building added.
+     */
+    private static List<IBuilding> with(final List<IBuilding> list, final IBuilding building)
+    {
+        if (list == null)
+        {
+            return ImmutableList.of(building);
+        }
+        return ImmutableList.<IBuilding>builder().addAll(list).add(building).build();
+    }
+
+    /**
+     * Copy of a list with a building removed, or the list itself if it does not contain it.
+     */
+    private static List<IBuilding> without(final List<IBuilding> list, final IBuilding building)
+    {
+        if (!list.contains(building))
+        {
+            return list;
+        }
+
+        final ImmutableList.Builder<IBuilding> builder = ImmutableList.builder();
+        for (final IBuilding other : list)
+        {
+            if (other != building)
+            {
+                builder.add(other);
+            }
+        }
+        return builder.build();
+    }
+}
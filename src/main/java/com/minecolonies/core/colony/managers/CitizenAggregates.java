@@ -0,0 +1,123 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.core.colony.jobs.AbstractJobGuard;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Colony wide citizen counts behind the social and security happiness factors, so a happiness pass over all citizens does not count all citizens again for each of them.
+ * <p>
+ * Jobs, homes and the citizen list change through the citizen manager and citizen data, which mark the counts dirty. Sickness and hunger change without such a hook, so
+ * the counts are also refreshed once they are older than {@link #REFRESH_TICKS}.
+ */
+public final class CitizenAggregates
+{
+    /**
+     * Max age of the counts in game ticks.
+     */
+    private static final long REFRESH_TICKS = 200;
+
+    /**
+     * Counts of the last refresh.
+     */
+    private int total;
+    private int jobless;
+    private int homeless;
+    private int sick;
+    private int hungry;
+    private int guards;
+
+    /**
+     * Game time of the last refresh.
+     */
+    private long countedAt;
+
+    /**
+     * Whether a citizen got added, removed or changed job or home since the last refresh.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Mark the counts outdated.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Recount if the counts are dirty or too old.
+     *
+     * @param citizens the citizens of the colony.
+     * @param gameTime the current game time.
+     */
+    public void refresh(@NotNull final Collection<ICitizenData> citizens, final long gameTime)
+    {
+        if (!dirty && gameTime - countedAt < REFRESH_TICKS && gameTime >= countedAt)
+        {
+            return;
+        }
+
+        total = citizens.size();
+        jobless = 0;
+        homeless = 0;
+        sick = 0;
+        hungry = 0;
+        guards = 0;
+
+        for (final ICitizenData citizen : citizens)
+        {
+            if (citizen.getJob() instanceof AbstractJobGuard)
+            {
+                guards++;
+            }
+            else if (!citizen.isChild() && citizen.getJob() == null)
+            {
+                jobless++;
+            }
+
+            if (citizen.getHomeBuilding() == null)
+            {
+                homeless++;
+            }
+
+            if (citizen.getEntity().isPresent() && citizen.getEntity().get().getCitizenDiseaseHandler().isSick())
+            {
+                sick++;
+            }
+
+            if (citizen.getSaturation() <= 1)
+            {
+                hungry++;
+            }
+        }
+
+        countedAt = gameTime;
+        dirty = false;
+    }
+
+    /**
+     * Get the share of citizens without any social problem, each jobless, homeless, sick or hungry citizen counts once per problem.
+     *
+     * @return the social factor.
+     */
+    public double getSocialFactor()
+    {
+        final double problems = jobless + homeless + sick + hungry;
+        return (total - problems) / total;
+    }
+
+    /**
+     * Get the ratio of guards to two thirds of the other citizens, capped at 2.
+     *
+     * @return the guard factor.
+     */
+    public double getGuardFactor()
+    {
+        final double guardCount = guards + 1;
+        final double workerCount = total - guards + 1;
+        return Math.min(guardCount / (workerCount * 2 / 3), 2);
+    }
+}
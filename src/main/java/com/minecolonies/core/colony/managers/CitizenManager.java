@@ -102,6 +102,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean areCitizensSleeping;
 
+    /**
+     * Colony wide citizen counts for the happiness factors.
+     */
+    private final CitizenAggregates aggregates = new CitizenAggregates();
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -176,6 +181,7 @@ public class CitizenManager implements ICitizenManager
 
         // Update child state after loading citizen data
         colony.updateHasChilds();
+        aggregates.markDirty();
     }
 
     /**
@@ -335,6 +341,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        aggregates.markDirty();
 
         return citizenData;
     }
@@ -361,6 +368,7 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(world.registryAccess(), compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        aggregates.markDirty();
         spawnOrCreateCitizen(citizenData, world, spawnPos);
 
         try
@@ -384,6 +392,7 @@ public class CitizenManager implements ICitizenManager
 
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        aggregates.markDirty();
 
         for (@NotNull final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
@@ -720,4 +729,32 @@ public class CitizenManager implements ICitizenManager
             data.onBuildingLoad();
         }
     }
+
+    @Override
+    public void onCitizenStateChanged()
+    {
+        aggregates.markDirty();
+    }
+
+    @Override
+    public double getSocialFactor()
+    {
+        refreshAggregates();
+        return aggregates.getSocialFactor();
+    }
+
+    @Override
+    public double getGuardFactor()
+    {
+        refreshAggregates();
+        return aggregates.getGuardFactor();
+    }
+
+    /**
+     * Recount the colony wide citizen counts if they are outdated.
+     */
+    private void refreshAggregates()
+    {
+        aggregates.refresh(citizens.values(), colony.getWorld() == null ? 0 : colony.getWorld().getGameTime());
+    }
 }
@@ -48,6 +48,17 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private boolean isDirty = false;
 
+    /**
+     * Colony view sections as last sent to the close subscribers, null if nothing was sent yet.
+     */
+    private byte[][] lastSentSections = null;
+
+    /**
+     * Colony view bytes sent, and the bytes which would have been sent without leaving out unchanged sections.
+     */
+    private long viewBytesSent         = 0;
+    private long viewBytesWithoutDelta = 0;
+
     /**
      * Amount of ticks passed.
      */
@@ -184,10 +195,8 @@ public class ColonyPackageManager implements IColonyPackageManager
             colony.getResearchManager().sendPackets(closeSubscribers, newSubscribers);
         }
 
-        if (newSubscribers.isEmpty())
-        {
-            isDirty = false;
-        }
+        // Everything dirty went out above, new subscribers got the full view in the same pass
+        isDirty = false;
         colony.getPermissions().clearDirty();
         colony.getBuildingManager().clearDirty();
         colony.getCitizenManager().clearDirty();
@@ -201,25 +210,74 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if (isDirty || !newSubscribers.isEmpty())
         {
-            final RegistryFriendlyByteBuf colonyFriendlyByteBuf = new RegistryFriendlyByteBuf(Unpooled.buffer(), colony.getWorld().registryAccess());
-            ColonyView.serializeNetworkData(colony, colonyFriendlyByteBuf, !newSubscribers.isEmpty());
-            final Set<ServerPlayer> players = new HashSet<>();
-            if (isDirty)
+            final byte[][] sections = ColonyView.serializeSections(colony);
+
+            // Subscribers which already have the view only get the changed sections.
+            final Set<ServerPlayer> deltaPlayers = new HashSet<>(closeSubscribers);
+            deltaPlayers.removeAll(newSubscribers);
+            if (!deltaPlayers.isEmpty())
             {
-                players.addAll(closeSubscribers);
+                final RegistryFriendlyByteBuf deltaBuf = new RegistryFriendlyByteBuf(Unpooled.buffer(), colony.getWorld().registryAccess());
+                final int skippedBytes = ColonyView.serializeNetworkData(colony, deltaBuf, sections, lastSentSections);
+                if (isDirty || skippedBytes < sectionsSize(sections))
+                {
+                    final ColonyViewMessage message = new ColonyViewMessage(colony, deltaBuf);
+                    for (final ServerPlayer player : deltaPlayers)
+                    {
+                        message.sendToPlayer(player);
+                    }
+                    viewBytesSent += (long) deltaBuf.writerIndex() * deltaPlayers.size();
+                    viewBytesWithoutDelta += (long) (deltaBuf.writerIndex() + skippedBytes) * deltaPlayers.size();
+                }
             }
-            players.addAll(newSubscribers);
 
-            final ColonyViewMessage message = new ColonyViewMessage(colony, colonyFriendlyByteBuf);
-            for (ServerPlayer player : players)
+            if (!newSubscribers.isEmpty())
             {
-                message.setIsNewSubscription(newSubscribers.contains(player));
-                message.sendToPlayer(player);
+                final RegistryFriendlyByteBuf fullBuf = new RegistryFriendlyByteBuf(Unpooled.buffer(), colony.getWorld().registryAccess());
+                ColonyView.serializeNetworkData(colony, fullBuf, sections, null);
+
+                final ColonyViewMessage message = new ColonyViewMessage(colony, fullBuf).setIsNewSubscription(true);
+                for (final ServerPlayer player : newSubscribers)
+                {
+                    message.sendToPlayer(player);
+                }
+                viewBytesSent += (long) fullBuf.writerIndex() * newSubscribers.size();
+                viewBytesWithoutDelta += (long) fullBuf.writerIndex() * newSubscribers.size();
             }
+
+            lastSentSections = sections;
         }
         colony.getRequestManager().setDirty(false);
     }
 
+    /**
+     * Total encoded size of the colony view sections.
+     *
+     * @param sections the sections.
+     * @return the size in bytes.
+     */
+    private static int sectionsSize(final byte[][] sections)
+    {
+        int size = 0;
+        for (final byte[] section : sections)
+        {
+            size += section.length;
+        }
+        return size;
+    }
+
+    @Override
+    public long getViewBytesSent()
+    {
+        return viewBytesSent;
+    }
+
+    @Override
+    public long getViewBytesWithoutDelta()
+    {
+        return viewBytesWithoutDelta;
+    }
+
     @Override
     public void sendPermissionsPackets()
     {
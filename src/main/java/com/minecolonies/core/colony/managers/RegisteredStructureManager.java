@@ -5,6 +5,8 @@ import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.*;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
+import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.buildings.registry.IBuildingDataManager;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
@@ -21,6 +23,7 @@ import com.minecolonies.core.colony.buildings.BuildingMysticalSite;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.modules.FieldsModule;
 import com.minecolonies.core.colony.buildings.modules.LivingBuildingModule;
+import com.minecolonies.core.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingBarracks;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingLibrary;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
@@ -63,6 +66,11 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @NotNull
     private ImmutableMap<BlockPos, IBuilding> buildings = ImmutableMap.of();
 
+    /**
+     * Indexes of the buildings by type, class, module and position.
+     */
+    private final BuildingIndex buildingIndex = new BuildingIndex();
+
     /**
      * List of fields of the colony.
      */
@@ -126,6 +134,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void read(@NotNull final HolderLookup.Provider provider, @NotNull final CompoundTag compound)
     {
         buildings = ImmutableMap.of();
+        buildingIndex.reset(buildings.values());
         maxChunkX = colony.getCenter().getX() >> 4;
         minChunkX = colony.getCenter().getX() >> 4;
         maxChunkZ = colony.getCenter().getZ() >> 4;
@@ -359,7 +368,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         final int randomDist = RANDOM.nextInt(4);
         if (randomDist < 1)
         {
-            building = getFirstBuildingMatching(b -> b instanceof BuildingTownHall && b.getBuildingLevel() >= 3);
+            building = townHall instanceof BuildingTownHall && townHall.getBuildingLevel() >= 3 ? townHall : null;
             if (building != null)
             {
                 return building.getPosition();
@@ -370,7 +379,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         {
             if (!isRaining && RANDOM.nextBoolean())
             {
-                building = getFirstBuildingMatching(b -> b instanceof BuildingMysticalSite && b.getBuildingLevel() >= 1);
+                building = getFirstOf(getBuildingsOfClass(BuildingMysticalSite.class), b -> b.getBuildingLevel() >= 1);
                 if (building != null)
                 {
                     return building.getPosition();
@@ -378,7 +387,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
             else
             {
-                building = getFirstBuildingMatching(b -> b instanceof BuildingLibrary && b.getBuildingLevel() >= 1);
+                building = getFirstOf(getBuildingsOfClass(BuildingLibrary.class), b -> b.getBuildingLevel() >= 1);
                 if (building != null)
                 {
                     return building.getPosition();
@@ -388,7 +397,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
 
         if (randomDist < 3)
         {
-            building = getFirstBuildingMatching(b -> b.hasModule(BuildingModules.TAVERN_VISITOR) && b.getBuildingLevel() >= 1);
+            building = getFirstOf(getBuildingsWithModule(TavernBuildingModule.class), b -> b.hasModule(BuildingModules.TAVERN_VISITOR) && b.getBuildingLevel() >= 1);
             if (building != null)
             {
                 return building.getPosition();
@@ -417,6 +426,56 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         return null;
     }
 
+    /**
+     * Get the first building of a list matching the conditions.
+     *
+     * @param candidates the buildings to check.
+     * @param predicate  the predicate matching the building.
+     * @return the building or null.
+     */
+    @Nullable
+    private static <B extends IBuilding> B getFirstOf(final List<B> candidates, final Predicate<? super B> predicate)
+    {
+        for (final B building : candidates)
+        {
+            if (predicate.test(building))
+            {
+                return building;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsOfType(@NotNull final BuildingEntry type)
+    {
+        return buildingIndex.getByType(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    @Override
+    public <B extends IBuilding> List<B> getBuildingsOfClass(@NotNull final Class<B> clazz)
+    {
+        // The index only holds instances of the class
+        return (List<B>) buildingIndex.getByClass(clazz);
+    }
+
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsWithModule(@NotNull final Class<? extends IBuildingModule> clazz)
+    {
+        return buildingIndex.getByModule(clazz);
+    }
+
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsInBox(@NotNull final BoundingBox box)
+    {
+        return buildingIndex.getInBox(box);
+    }
+
     @Override
     public void addLeisureSite(final BlockPos pos)
     {
@@ -473,19 +532,16 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public IBuilding getHouseWithSpareBed()
     {
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : buildingIndex.getByModule(LivingBuildingModule.class))
         {
-            if (building.hasModule(LivingBuildingModule.class))
+            final LivingBuildingModule module = building.getFirstModuleOccurance(LivingBuildingModule.class);
+            if (HiringMode.LOCKED.equals(module.getHiringMode()))
             {
-                final LivingBuildingModule module = building.getFirstModuleOccurance(LivingBuildingModule.class);
-                if (HiringMode.LOCKED.equals(module.getHiringMode()))
-                {
-                    continue;
-                }
-                if (module.getAssignedCitizen().size() < module.getModuleMax())
-                {
-                    return building;
-                }
+                continue;
+            }
+            if (module.getAssignedCitizen().size() < module.getModuleMax())
+            {
+                return building;
             }
         }
         return null;
@@ -624,6 +680,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
 
             buildings = builder.build();
+            buildingIndex.remove(building, buildings.values());
 
             new ColonyViewRemoveBuildingMessage(colony, building.getID()).sendToPlayer(subscribers);
 
@@ -670,9 +727,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         double distance = Double.MAX_VALUE;
         BlockPos goodCook = null;
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : getBuildingsOfClass(clazz))
         {
-            if (clazz.isInstance(building) && building.getBuildingLevel() > 0)
+            if (building.getBuildingLevel() > 0)
             {
                 final double localDistance = building.getPosition().distSqr(citizen);
                 if (localDistance < distance)
@@ -719,18 +776,26 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        return isGuardedBy(getBuildingsOfClass(IGuardBuilding.class), building) || isGuardedBy(getBuildingsOfClass(BuildingBarracks.class), building);
+    }
+
+    /**
+     * Check if a building is within the guarded region of one of the guard buildings.
+     *
+     * @param guardBuildings the guard buildings.
+     * @param building       the building to check.
+     * @return true if so.
+     */
+    private static boolean isGuardedBy(final List<? extends IBuilding> guardBuildings, final IBuilding building)
+    {
+        for (final IBuilding colonyBuilding : guardBuildings)
         {
-            if (colonyBuilding instanceof IGuardBuilding || colonyBuilding instanceof BuildingBarracks)
+            final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
+            if (guardedRegion.isInside(building.getPosition()))
             {
-                final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
-                if (guardedRegion.isInside(building.getPosition()))
-                {
-                    return true;
-                }
+                return true;
             }
         }
-
         return false;
     }
 
@@ -739,12 +804,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         final int claimRadius = guardBuilding.getClaimRadius(Math.max(guardBuilding.getBuildingLevel(), newLevel));
         final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), claimRadius);
-        for (final IBuilding building : getBuildings().values())
+        for (final IBuilding building : buildingIndex.getInBox(guardedRegion))
         {
-            if (guardedRegion.isInside(building.getPosition()))
-            {
-                building.resetGuardBuildingNear();
-            }
+            building.resetGuardBuildingNear();
         }
     }
 
@@ -795,6 +857,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        buildingIndex.add(building, buildings.values());
 
         building.markDirty();
 
@@ -877,7 +940,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         }
         else if (block instanceof BlockHutTavern)
         {
-            for (final IBuilding building : buildings.values())
+            for (final IBuilding building : buildingIndex.getByModule(TavernBuildingModule.class))
             {
                 if (building.hasModule(BuildingModules.TAVERN_VISITOR))
                 {
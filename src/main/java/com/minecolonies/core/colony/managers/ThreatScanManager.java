@@ -0,0 +1,219 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.managers.interfaces.IThreatScanManager;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared entity sensing of a colony.
+ * <p>
+ * The colony is split into cubic regions which get scanned for living entities at most once per scan interval, no matter how many guards search them. Each scanned entity is
+ * kept in the region of its position only, queries check the regions around the area and filter by bounding box.
+ */
+public class ThreatScanManager implements IThreatScanManager
+{
+    /**
+     * Region edge length as a bit shift, 32 blocks.
+     */
+    private static final int REGION_SHIFT = 5;
+
+    /**
+     * Ticks a region scan stays valid.
+     */
+    private static final int SCAN_INTERVAL = 10;
+
+    /**
+     * Ticks between drops of outdated regions.
+     */
+    private static final int PRUNE_INTERVAL = 100;
+
+    /**
+     * Distance entity positions can be outside of an area their bounding box intersects.
+     */
+    private static final double MAX_ENTITY_EXTENT = 2.0D;
+
+    /**
+     * The colony.
+     */
+    private final IColony colony;
+
+    /**
+     * Scanned regions by region key.
+     */
+    private final Long2ObjectOpenHashMap<Region> regions = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Game time of the last region prune.
+     */
+    private long lastPrune = 0;
+
+    /**
+     * Metrics.
+     */
+    private long currentTick    = 0;
+    private int  currentScans   = 0;
+    private long currentScanNs  = 0;
+    private int  lastTickScans  = 0;
+    private long lastTickScanNs = 0;
+    private long totalScans     = 0;
+    private long totalScanNs    = 0;
+    private long totalQueries   = 0;
+
+    /**
+     * Creates the manager.
+     *
+     * @param colony the colony.
+     */
+    public ThreatScanManager(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public List<LivingEntity> getEntitiesInArea(@NotNull final AABB area)
+    {
+        final Level level = colony.getWorld();
+        final List<LivingEntity> result = new ArrayList<>();
+        if (level == null)
+        {
+            return result;
+        }
+
+        final long gameTime = level.getGameTime();
+        onTick(gameTime);
+        totalQueries++;
+
+        final int minX = Mth.floor(area.minX - MAX_ENTITY_EXTENT) >> REGION_SHIFT;
+        final int minY = Mth.floor(area.minY - MAX_ENTITY_EXTENT) >> REGION_SHIFT;
+        final int minZ = Mth.floor(area.minZ - MAX_ENTITY_EXTENT) >> REGION_SHIFT;
+        final int maxX = Mth.floor(area.maxX + MAX_ENTITY_EXTENT) >> REGION_SHIFT;
+        final int maxY = Mth.floor(area.maxY + MAX_ENTITY_EXTENT) >> REGION_SHIFT;
+        final int maxZ = Mth.floor(area.maxZ + MAX_ENTITY_EXTENT) >> REGION_SHIFT;
+
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    for (final LivingEntity entity : getRegion(level, gameTime, x, y, z).entities)
+                    {
+                        if (entity.isAlive() && entity.getBoundingBox().intersects(area))
+                        {
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get an up to date scan of a region, scanning it if needed.
+     *
+     * @return the region.
+     */
+    private Region getRegion(final Level level, final long gameTime, final int x, final int y, final int z)
+    {
+        final long key = SectionPos.asLong(x, y, z);
+        Region region = regions.get(key);
+        if (region != null && gameTime - region.scannedAt < SCAN_INTERVAL && gameTime >= region.scannedAt)
+        {
+            return region;
+        }
+
+        final long start = System.nanoTime();
+        final AABB bounds = new AABB(x << REGION_SHIFT, y << REGION_SHIFT, z << REGION_SHIFT, (x + 1) << REGION_SHIFT, (y + 1) << REGION_SHIFT, (z + 1) << REGION_SHIFT);
+        final List<LivingEntity> entities = level.getEntitiesOfClass(LivingEntity.class,
+          bounds,
+          entity -> (entity.getBlockX() >> REGION_SHIFT) == x && (entity.getBlockY() >> REGION_SHIFT) == y && (entity.getBlockZ() >> REGION_SHIFT) == z);
+        region = new Region(gameTime, entities);
+        regions.put(key, region);
+
+        final long duration = System.nanoTime() - start;
+        currentScans++;
+        currentScanNs += duration;
+        totalScans++;
+        totalScanNs += duration;
+        return region;
+    }
+
+    /**
+     * Rolls the per tick metrics over and drops outdated regions.
+     *
+     * @param gameTime the current game time.
+     */
+    private void onTick(final long gameTime)
+    {
+        if (gameTime == currentTick)
+        {
+            return;
+        }
+
+        if (currentScans > 0)
+        {
+            lastTickScans = currentScans;
+            lastTickScanNs = currentScanNs;
+        }
+        currentTick = gameTime;
+        currentScans = 0;
+        currentScanNs = 0;
+
+        if (Math.abs(gameTime - lastPrune) >= PRUNE_INTERVAL)
+        {
+            lastPrune = gameTime;
+            regions.values().removeIf(region -> gameTime - region.scannedAt >= SCAN_INTERVAL || gameTime < region.scannedAt);
+        }
+    }
+
+    @Override
+    public int getLastTickScans()
+    {
+        return lastTickScans;
+    }
+
+    @Override
+    public double getLastTickScanMs()
+    {
+        return lastTickScanNs / 1.0E6D;
+    }
+
+    @Override
+    public long getTotalScans()
+    {
+        return totalScans;
+    }
+
+    @Override
+    public long getTotalQueries()
+    {
+        return totalQueries;
+    }
+
+    @Override
+    public double getTotalScanMs()
+    {
+        return totalScanNs / 1.0E6D;
+    }
+
+    /**
+     * Scan result of one region.
+     *
+     * @param scannedAt game time of the scan.
+     * @param entities  the living entities positioned in the region.
+     */
+    private record Region(long scannedAt, List<LivingEntity> entities)
+    {
+    }
+}
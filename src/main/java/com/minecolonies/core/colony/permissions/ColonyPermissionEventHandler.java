@@ -451,7 +451,7 @@ public class ColonyPermissionEventHandler
      */
     private boolean isFreeToInteractWith(@Nullable final Block block, final BlockPos pos)
     {
-        return (block != null && (colony.getFreeBlocks().contains(block) || block.defaultBlockState().is(ModTags.colonyProtectionException))) || colony.getFreePositions().contains(pos);
+        return (block != null && (colony.isFreeBlock(block) || block.defaultBlockState().is(ModTags.colonyProtectionException))) || colony.isFreePosition(pos);
     }
 
     /**
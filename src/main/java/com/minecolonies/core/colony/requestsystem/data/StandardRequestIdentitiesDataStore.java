@@ -1,7 +1,9 @@
 package com.minecolonies.core.colony.requestsystem.data;
 
 import com.google.common.collect.BiMap;
+import com.google.common.collect.ForwardingBiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
@@ -20,33 +22,33 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * A default implementation of the {@link IRequestIdentitiesDataStore} interface.
+ * <p>
+ * Keeps a secondary index from requester to request tokens, which is updated with every change of the identities map.
  */
 public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDataStore
 {
-    private       IToken<?>                     id;
-    private final BiMap<IToken<?>, IRequest<?>> map;
+    private       IToken<?>              id;
+    private final RequesterIndexedBiMap map;
 
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map)
     {
         this.id = id;
-        this.map = map;
+        this.map = new RequesterIndexedBiMap(map);
     }
 
     public StandardRequestIdentitiesDataStore()
     {
-        this.id = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
-        this.map = HashBiMap.create();
+        this(StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN), HashBiMap.create());
     }
 
     @Override
@@ -55,6 +57,13 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         return map;
     }
 
+    @Override
+    public Collection<IToken<?>> getRequestsByRequester(final IToken<?> requesterId)
+    {
+        final Set<IToken<?>> requests = map.byRequester.get(requesterId);
+        return requests == null ? Collections.emptySet() : Collections.unmodifiableSet(requests);
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -67,6 +76,141 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         this.id = id;
     }
 
+    /**
+     * Identities map which maintains the requester index. Its views are read only, so every change passes through the indexing methods.
+     */
+    private static final class RequesterIndexedBiMap extends ForwardingBiMap<IToken<?>, IRequest<?>>
+    {
+        /**
+         * The backing map.
+         */
+        private final BiMap<IToken<?>, IRequest<?>> delegate;
+
+        /**
+         * Request tokens by requester id.
+         */
+        private final Map<IToken<?>, Set<IToken<?>>> byRequester = new HashMap<>();
+
+        private RequesterIndexedBiMap(final BiMap<IToken<?>, IRequest<?>> delegate)
+        {
+            this.delegate = delegate;
+            delegate.forEach(this::index);
+        }
+
+        @Override
+        protected BiMap<IToken<?>, IRequest<?>> delegate()
+        {
+            return delegate;
+        }
+
+        @Override
+        public IRequest<?> put(final IToken<?> key, final IRequest<?> value)
+        {
+            final IRequest<?> previous = delegate.put(key, value);
+            unindex(key, previous);
+            index(key, value);
+            return previous;
+        }
+
+        @Override
+        public IRequest<?> forcePut(final IToken<?> key, final IRequest<?> value)
+        {
+            final IToken<?> previousKey = delegate.inverse().get(value);
+            final IRequest<?> previous = delegate.forcePut(key, value);
+            if (previousKey != null && !previousKey.equals(key))
+            {
+                unindex(previousKey, value);
+            }
+            unindex(key, previous);
+            index(key, value);
+            return previous;
+        }
+
+        @Override
+        public void putAll(@NotNull final Map<? extends IToken<?>, ? extends IRequest<?>> map)
+        {
+            map.forEach(this::put);
+        }
+
+        @Override
+        public IRequest<?> remove(final Object key)
+        {
+            final IRequest<?> removed = delegate.remove(key);
+            if (removed != null)
+            {
+                unindex((IToken<?>) key, removed);
+            }
+            return removed;
+        }
+
+        @Override
+        public void clear()
+        {
+            delegate.clear();
+            byRequester.clear();
+        }
+
+        @NotNull
+        @Override
+        public Set<IToken<?>> keySet()
+        {
+            return Collections.unmodifiableSet(delegate.keySet());
+        }
+
+        @NotNull
+        @Override
+        public Set<IRequest<?>> values()
+        {
+            return Collections.unmodifiableSet(delegate.values());
+        }
+
+        @NotNull
+        @Override
+        public Set<Entry<IToken<?>, IRequest<?>>> entrySet()
+        {
+            return Collections.unmodifiableSet(delegate.entrySet());
+        }
+
+        @NotNull
+        @Override
+        public BiMap<IRequest<?>, IToken<?>> inverse()
+        {
+            return Maps.unmodifiableBiMap(delegate.inverse());
+        }
+
+        /**
+         * Adds a request to the requester index.
+         *
+         * @param token   the request token.
+         * @param request the request.
+         */
+        private void index(final IToken<?> token, @Nullable final IRequest<?> request)
+        {
+            if (request != null && request.getRequester() != null)
+            {
+                byRequester.computeIfAbsent(request.getRequester().getId(), requester -> new LinkedHashSet<>()).add(token);
+            }
+        }
+
+        /**
+         * Removes a request from the requester index.
+         *
+         * @param token   the request token.
+         * @param request the request.
+         */
+        private void unindex(final IToken<?> token, @Nullable final IRequest<?> request)
+        {
+            if (request != null && request.getRequester() != null)
+            {
+                final Set<IToken<?>> requests = byRequester.get(request.getRequester().getId());
+                if (requests != null && requests.remove(token) && requests.isEmpty())
+                {
+                    byRequester.remove(request.getRequester().getId());
+                }
+            }
+        }
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestIdentitiesDataStore>
     {
 
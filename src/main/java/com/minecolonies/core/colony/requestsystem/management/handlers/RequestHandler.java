@@ -3,6 +3,7 @@ package com.minecolonies.core.colony.requestsystem.management.handlers;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IRequestHandler;
 import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
@@ -20,7 +21,6 @@ import com.minecolonies.core.colony.requestsystem.management.manager.wrapped.Wra
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
@@ -129,41 +129,20 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        List<IRequestResolver<? extends IRequestable>> resolverList = new ArrayList<>();
-        for (final TypeToken<?> requestTypeToken : requestTypes)
+        final List<List<IRequestResolver<?>>> resolversByType = new ArrayList<>();
+        for (final TypeToken<?> requestTypeToken : request.getSuperClasses())
         {
-            final Collection<IToken<?>> resolverTokens = manager.getRequestableTypeRequestResolverAssignmentDataStore()
-              .getAssignments()
-              .get(requestTypeToken);
-
-            if (resolverTokens == null)
+            final List<IRequestResolver<?>> typeResolvers = manager.getResolverHandler().getResolversForRequestType(requestTypeToken);
+            if (!typeResolvers.isEmpty())
             {
-                continue;
-            }
-
-            for (IToken<?> iToken : resolverTokens)
-            {
-                final IRequestResolver<? extends IRequestable> iRequestResolver = manager.getResolverHandler().getResolver(iToken);
-                if (requestTypes.contains(iRequestResolver.getRequestType()))
-                {
-                    resolverList.add(iRequestResolver);
-                }
+                resolversByType.add(typeResolvers);
             }
         }
 
-        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
-
-        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>(resolverList);
-
         IRequestResolver previousResolver = null;
         int previousMetric = Integer.MAX_VALUE;
         @Nullable List<IToken<?>> attemptResult = null;
-        for (@SuppressWarnings(RAWTYPES) final IRequestResolver resolver : resolvers)
+        for (@SuppressWarnings(RAWTYPES) final IRequestResolver resolver : mergeByPriority(resolversByType))
         {
             //Skip when the resolver is in the blacklist.
             if (resolverTokenBlackList.contains(resolver.getId()) || manager.getResolverHandler().isBeingRemoved(resolver.getId()))
@@ -202,7 +181,7 @@ public class RequestHandler implements IRequestHandler
                     if (tempAttemptResolveRequest != null)
                     {
                         previousResolver = resolver;
-                        previousMetric = resolver.getSuitabilityMetric(manager, request);
+                        previousMetric = currentResolverMetric;
                         attemptResult = tempAttemptResolveRequest;
                     }
                 }
@@ -217,6 +196,43 @@ public class RequestHandler implements IRequestHandler
         return null;
     }
 
+    /**
+     * Merges the priority sorted resolver lists of the request types into one list. Equal priorities keep the order of the request types, then the order within each list.
+     *
+     * @param resolversByType the resolver lists, ordered like the request types.
+     * @return the merged list.
+     */
+    private static List<IRequestResolver<?>> mergeByPriority(final List<List<IRequestResolver<?>>> resolversByType)
+    {
+        if (resolversByType.size() == 1)
+        {
+            return resolversByType.get(0);
+        }
+
+        int total = 0;
+        for (final List<IRequestResolver<?>> resolvers : resolversByType)
+        {
+            total += resolvers.size();
+        }
+
+        final List<IRequestResolver<?>> merged = new ArrayList<>(total);
+        final int[] heads = new int[resolversByType.size()];
+        while (merged.size() < total)
+        {
+            int best = -1;
+            for (int i = 0; i < heads.length; i++)
+            {
+                final List<IRequestResolver<?>> resolvers = resolversByType.get(i);
+                if (heads[i] < resolvers.size() && (best == -1 || resolvers.get(heads[i]).getPriority() > resolversByType.get(best).get(heads[best]).getPriority()))
+                {
+                    best = i;
+                }
+            }
+            merged.add(resolversByType.get(best).get(heads[best]++));
+        }
+        return merged;
+    }
+
     /**
      * Attempt to resolve a given request with a set resolver.
      *
@@ -576,12 +592,9 @@ public class RequestHandler implements IRequestHandler
     @Override
     public void removeRequester(final IRequester requester)
     {
-        for (final IRequest<?> req : new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().values()))
+        for (final IToken<?> token : new ArrayList<>(manager.getRequestIdentitiesDataStore().getRequestsByRequester(requester.getId())))
         {
-            if (req.getRequester().getId().equals(requester.getId()))
-            {
-                onRequestCancelled(req.getId());
-            }
+            onRequestCancelled(token);
         }
     }
 
@@ -623,11 +636,13 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-          .getIdentities()
-          .values()
-          .stream()
-          .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-          .collect(Collectors.toList());
+        final IRequestIdentitiesDataStore dataStore = manager.getRequestIdentitiesDataStore();
+        final Collection<IToken<?>> tokens = dataStore.getRequestsByRequester(requester.getId());
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            requests.add(dataStore.getIdentities().get(token));
+        }
+        return requests;
     }
 }
@@ -3,6 +3,7 @@ package com.minecolonies.core.colony.requestsystem.management.handlers;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IResolverHandler;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -35,6 +36,17 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Resolvers by their exact request type, sorted by priority. Filled lazily and dropped whenever a resolver gets registered or removed.
+     */
+    private final Map<TypeToken<?>, List<IRequestResolver<?>>> resolversByRequestType = new HashMap<>();
+
+    /**
+     * The assignment data store the resolver index was built from, the data stores get replaced on load.
+     */
+    @Nullable
+    private IRequestableTypeRequestResolverAssignmentDataStore indexedDataStore = null;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -86,6 +98,7 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        resolversByRequestType.clear();
 
         final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -287,10 +300,43 @@ public class ResolverHandler implements IResolverHandler
         return manager.getRequestResolverIdentitiesDataStore().getIdentities().get(token);
     }
 
+    @Override
+    public List<IRequestResolver<?>> getResolversForRequestType(final TypeToken<?> requestType)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (dataStore != indexedDataStore)
+        {
+            resolversByRequestType.clear();
+            indexedDataStore = dataStore;
+        }
+
+        return resolversByRequestType.computeIfAbsent(requestType, type -> {
+            final Collection<IToken<?>> resolverTokens = dataStore.getAssignments().get(type);
+            if (resolverTokens == null || resolverTokens.isEmpty())
+            {
+                return Collections.emptyList();
+            }
+
+            final List<IRequestResolver<?>> resolvers = new ArrayList<>();
+            for (final IToken<?> token : resolverTokens)
+            {
+                final IRequestResolver<?> resolver = getResolver(token);
+                if (type.equals(resolver.getRequestType()))
+                {
+                    resolvers.add(resolver);
+                }
+            }
+
+            resolvers.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority()));
+            return resolvers;
+        });
+    }
+
     @Override
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        resolversByRequestType.clear();
         final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
@@ -114,8 +114,20 @@ public class StandardRequestManager implements IStandardRequestManager
     private boolean enableLogging;
 
     public StandardRequestManager(@NotNull final IColony colony)
+    {
+        this(colony, IMinecoloniesAPI.getInstance().getConfig().getCommon().rsEnableDebugLogging.get());
+    }
+
+    /**
+     * Create a request manager with a fixed debug logging setting instead of the config, for request systems outside a running server.
+     *
+     * @param colony        the colony of the manager.
+     * @param enableLogging if debug logging should reach the logger.
+     */
+    public StandardRequestManager(@NotNull final IColony colony, final boolean enableLogging)
     {
         this.colony = colony;
+        this.enableLogging = enableLogging;
         this.logger = LogManager.getLogger(String.format("%s.requestsystem.%s", Constants.MOD_ID, colony.getID()));
         reset();
     }
@@ -123,7 +135,6 @@ public class StandardRequestManager implements IStandardRequestManager
     private void setup()
     {
         dataStoreManager = StandardFactoryController.getInstance().getNewInstance(TypeConstants.DATA_STORE_MANAGER);
-        enableLogging = IMinecoloniesAPI.getInstance().getConfig().getCommon().rsEnableDebugLogging.get();
 
         requestIdentitiesDataStoreId = registerDataStore(TypeConstants.REQUEST_IDENTITIES_DATA_STORE);
         requestResolverIdentitiesDataStoreId = registerDataStore(TypeConstants.REQUEST_RESOLVER_IDENTITIES_DATA_STORE);
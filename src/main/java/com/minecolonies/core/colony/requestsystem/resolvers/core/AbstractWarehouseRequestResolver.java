@@ -14,7 +14,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.INonExhaustiveDeliv
 import com.minecolonies.api.colony.requestsystem.requestable.MinimumStack;
 import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemVariantKey;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
@@ -25,6 +25,7 @@ import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingWareHouse;
 import com.minecolonies.core.tileentities.TileEntityWareHouse;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.MutableComponent;
@@ -219,7 +220,7 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
         List<IRequest<?>> deliveries = Lists.newArrayList();
         int remainingCount = completedRequest.getRequest().getCount();
 
-        final Map<ItemStorage, Integer> storages = new HashMap<>();
+        final Object2IntOpenHashMap<ItemVariantKey> storages = new Object2IntOpenHashMap<>();
 
         final int keep = completedRequest.getRequest() instanceof INonExhaustiveDeliverable ? ((INonExhaustiveDeliverable) completedRequest.getRequest()).getLeftOver() : 0;
 
@@ -234,17 +235,18 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
             int leftOver = tuple.getA().getCount();
             if (keep > 0)
             {
-                int kept = storages.getOrDefault(new ItemStorage(tuple.getA()), 0);
+                final ItemVariantKey key = ItemVariantKey.of(tuple.getA());
+                int kept = storages.getInt(key);
                 if (kept < keep)
                 {
                     if (leftOver + kept <= keep)
                     {
-                        storages.put(new ItemStorage(tuple.getA()), storages.getOrDefault(new ItemStorage(tuple.getA()), 0) + tuple.getA().getCount());
+                        storages.addTo(key, tuple.getA().getCount());
                         continue;
                     }
                     int toKeep = (leftOver + kept) - keep;
                     leftOver -= toKeep;
-                    storages.put(new ItemStorage(tuple.getA()), storages.getOrDefault(new ItemStorage(tuple.getA()), 0) + toKeep);
+                    storages.addTo(key, toKeep);
                 }
             }
 
@@ -1,22 +1,21 @@
 package com.minecolonies.core.colony.workorders;
 
-import com.ldtteam.structurize.blueprints.v1.Blueprint;
-import com.ldtteam.structurize.storage.StructurePacks;
 import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.claim.IChunkClaimData;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.util.AdvancementUtils;
-import com.minecolonies.api.util.ColonyUtils;
+import com.minecolonies.api.util.BlueprintFootprint;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
-import net.minecraft.util.Tuple;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
@@ -312,35 +311,19 @@ public class WorkManager implements IWorkManager
     private boolean isWorkOrderWithinColony(final IWorkOrder order)
     {
         final Level world = colony.getWorld();
-        final Blueprint blueprint = StructurePacks.getBlueprint(order.getStructurePack(), order.getStructurePath(), world.registryAccess());
-        final Tuple<BlockPos, BlockPos> corners
-          = ColonyUtils.calculateCorners(order.getLocation(),
-          world,
-          blueprint,
-          order.getRotationMirror());
-
-        Set<ChunkPos> chunks = new HashSet<>();
-        final int minX = Math.min(corners.getA().getX(), corners.getB().getX()) + 1;
-        final int maxX = Math.max(corners.getA().getX(), corners.getB().getX());
-
-        final int minZ = Math.min(corners.getA().getZ(), corners.getB().getZ()) + 1;
-        final int maxZ = Math.max(corners.getA().getZ(), corners.getB().getZ());
+        final BlueprintFootprint footprint = BlueprintFootprint.get(order.getStructurePack(), order.getStructurePath(), order.getRotationMirror(), world);
+        if (footprint == null)
+        {
+            return true;
+        }
 
-        for (int x = minX; x < maxX; x += 16)
+        // Claim data is kept apart from the chunks, no need to load them
+        for (final long chunk : footprint.getChunks(order.getLocation()))
         {
-            for (int z = minZ; z < maxZ; z += 16)
+            final IChunkClaimData claimData = IColonyManager.getInstance().getClaimData(world.dimension(), new ChunkPos(chunk));
+            if (claimData == null || claimData.getOwningColony() != colony.getID())
             {
-                final int chunkX = x >> 4;
-                final int chunkZ = z >> 4;
-                final ChunkPos pos = new ChunkPos(chunkX, chunkZ);
-                if (!chunks.contains(pos))
-                {
-                    chunks.add(pos);
-                    if (ColonyUtils.getOwningColony(world.getChunk(pos.x, pos.z)) != colony.getID())
-                    {
-                        return false;
-                    }
-                }
+                return false;
             }
         }
         return true;
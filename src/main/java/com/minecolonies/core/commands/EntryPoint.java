@@ -57,6 +57,7 @@ public class EntryPoint
             .addNode(new CommandColonyInfo().build())
             .addNode(new CommandColonyPrintStats().build())
             .addNode(new CommandColonyRaidsInfo().build())
+            .addNode(new CommandColonyProfile().build())
             .addNode(new CommandColonyChunks().build())
             .addNode(new CommandRSReset().build())
             .addNode(new CommandRSResetAll().build())
@@ -92,6 +93,8 @@ public class EntryPoint
             .addNode(new CommandBackup().build())
             .addNode(new CommandResetPlayerSupplies().build())
             .addNode(new CommandHelp().build())
+            .addNode(new CommandPathfindingStats().build())
+            .addNode(new CommandCitizenLodStats().build())
             .addNode(ScanCommand.build())
             .addNode(new CommandPruneWorld().build());
 
@@ -111,6 +114,8 @@ public class EntryPoint
             .addNode(new CommandBackup().build())
             .addNode(new CommandResetPlayerSupplies().build())
             .addNode(new CommandHelp().build())
+            .addNode(new CommandPathfindingStats().build())
+            .addNode(new CommandCitizenLodStats().build())
             .addNode(new CommandPruneWorld().build());
 
         // Adds all command trees to the dispatcher to register the commands.
@@ -50,7 +50,7 @@ public class CommandClaimChunks implements IMCOPCommand
 
         // Added/removed
         final boolean add = BoolArgumentType.getBool(context, ADD_ARG);
-        ChunkDataHelper.staticClaimInRange(colony, add, sender.blockPosition(), range, (ServerLevel) sender.level(), true);
+        ChunkDataHelper.staticClaimInRange(colony, add, sender.blockPosition(), range, (ServerLevel) sender.level(), true, (Player) sender);
         if (add)
         {
             MessageUtils.format(CommandTranslationConstants.COMMAND_CLAIM_SUCCESS).sendTo((Player) sender);
@@ -0,0 +1,355 @@
+package com.minecolonies.core.commands.colonycommands;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.managers.interfaces.IThreatScanManager;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.colony.ColonyProfiler;
+import com.minecolonies.core.colony.ColonyProfiler.Section;
+import com.minecolonies.core.colony.jobs.JobDeliveryman;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.citizen.CitizenLod;
+import com.minecolonies.core.entity.citizen.CitizenLodStats;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
+import com.minecolonies.core.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_COLONY_ID_NOT_FOUND;
+import static com.minecolonies.core.commands.CommandArgumentNames.COLONYID_ARG;
+
+/**
+ * Command to print, export or reset the tick timing of a colony.
+ */
+public class CommandColonyProfile implements IMCOPCommand
+{
+    private static final String HEADER_TEXT      = "Colony %d profile over %.1f minutes, %.3fms per tick on average";
+    private static final String SECTION_TEXT     = "%s: %d runs total=%.1fms avg=%.3fms p95=%.3fms max=%.3fms";
+    private static final String PATHFINDING_TEXT = "Pathfinding %s: started=%d avgWait=%.2fms maxWait=%.2fms avgRun=%.2fms";
+    private static final String VIEW_TEXT        = "View sync: %d bytes sent, %d bytes without deltas";
+    private static final String THREAT_TEXT      = "Threat scans: %d total for %d searches in %.1fms";
+    private static final String LOD_TEXT         = "Citizen AI %s: %d ticks %d skipped avg=%.3fms";
+    private static final String COURIER_TEXT     = "Couriers: %d trips avgLength=%.1f blocks avgQueueLatency=%.1f ticks";
+    private static final String EXPORT_TEXT      = "Colony profile exported to %s";
+    private static final String EXPORT_FAIL_TEXT = "Failed to export the colony profile, see the server log";
+    private static final String RESET_TEXT       = "Colony profile reset";
+
+    /**
+     * Folder of the exported reports, within the minecolonies save folder.
+     */
+    private static final String PROFILE_FOLDER = "profiles";
+
+    /**
+     * Amount of sections printed to chat, the export has all.
+     */
+    private static final int PRINTED_SECTIONS = 8;
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final Colony colony = getColony(context);
+        if (colony == null)
+        {
+            return 0;
+        }
+
+        final ColonyProfiler profiler = colony.getProfiler();
+        final double minutes = (System.currentTimeMillis() - profiler.getSince()) / 60000.0D;
+        context.getSource()
+          .sendSuccess(() -> Component.literal(String.format(HEADER_TEXT, colony.getID(), minutes, profiler.getAverageMs(Section.TICK))), false);
+
+        final List<Section> sections = new ArrayList<>(List.of(Section.values()));
+        sections.remove(Section.TICK);
+        sections.removeIf(section -> profiler.getCount(section) == 0);
+        sections.sort(Comparator.comparingDouble(profiler::getTotalMs).reversed());
+        for (final Section section : sections.subList(0, Math.min(PRINTED_SECTIONS, sections.size())))
+        {
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format(SECTION_TEXT,
+                section.getId(),
+                profiler.getCount(section),
+                profiler.getTotalMs(section),
+                profiler.getAverageMs(section),
+                profiler.getPercentileMs(section, 0.95D),
+                profiler.getMaxMs(section))), false);
+        }
+
+        final PathJobScheduler scheduler = Pathfinding.getExecutor();
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format(PATHFINDING_TEXT,
+                priority.name(),
+                scheduler.getStartedCount(priority),
+                scheduler.getAverageWaitMs(priority),
+                scheduler.getMaxWaitMs(priority),
+                scheduler.getAverageRunMs(priority))), false);
+        }
+
+        context.getSource()
+          .sendSuccess(() -> Component.literal(String.format(VIEW_TEXT,
+            colony.getPackageManager().getViewBytesSent(),
+            colony.getPackageManager().getViewBytesWithoutDelta())), false);
+
+        final IThreatScanManager scanner = colony.getThreatScanManager();
+        context.getSource()
+          .sendSuccess(() -> Component.literal(String.format(THREAT_TEXT, scanner.getTotalScans(), scanner.getTotalQueries(), scanner.getTotalScanMs())), false);
+
+        for (final CitizenLod lod : CitizenLod.values())
+        {
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format(LOD_TEXT,
+                lod.name(),
+                CitizenLodStats.getAiTicks(lod),
+                CitizenLodStats.getAiSkipped(lod),
+                CitizenLodStats.getAverageAiMs(lod))), false);
+        }
+
+        final CourierStats couriers = getCourierStats(colony);
+        context.getSource()
+          .sendSuccess(() -> Component.literal(String.format(COURIER_TEXT, couriers.trips, couriers.getAverageTripLength(), couriers.getAverageQueueLatency())), false);
+        return 1;
+    }
+
+    /**
+     * Write the profile of a colony to a json file.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful and 0 if incomplete.
+     */
+    private int executeExport(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final Colony colony = getColony(context);
+        if (colony == null)
+        {
+            return 0;
+        }
+
+        final File folder = new File(new File(context.getSource().getServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH), PROFILE_FOLDER);
+        final File file = new File(folder, String.format("colony%d-%s.json", colony.getID(), new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date())));
+        try
+        {
+            Files.createDirectories(folder.toPath());
+            Files.writeString(file.toPath(), GSON.toJson(createReport(colony)), StandardCharsets.UTF_8);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Failed to export the profile of colony {}", colony.getID(), e);
+            context.getSource().sendFailure(Component.literal(EXPORT_FAIL_TEXT));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(String.format(EXPORT_TEXT, file.getPath())), true);
+        return 1;
+    }
+
+    /**
+     * Clear the recorded profile of a colony.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful and 0 if incomplete.
+     */
+    private int executeReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final Colony colony = getColony(context);
+        if (colony == null)
+        {
+            return 0;
+        }
+
+        colony.getProfiler().reset();
+        context.getSource().sendSuccess(() -> Component.literal(RESET_TEXT), true);
+        return 1;
+    }
+
+    /**
+     * Get the colony of the command, telling the sender if it does not exist.
+     *
+     * @param context the context of the command execution
+     * @return the colony or null.
+     */
+    private static Colony getColony(final CommandContext<CommandSourceStack> context)
+    {
+        final int colonyID = IntegerArgumentType.getInteger(context, COLONYID_ARG);
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyID, context.getSource().getLevel().dimension());
+        if (!(colony instanceof Colony))
+        {
+            context.getSource().sendSuccess(() -> Component.translatableEscape(COMMAND_COLONY_ID_NOT_FOUND, colonyID), true);
+            return null;
+        }
+        return (Colony) colony;
+    }
+
+    /**
+     * Create the json report of a colony.
+     *
+     * @param colony the colony.
+     * @return the report.
+     */
+    private static JsonObject createReport(final Colony colony)
+    {
+        final ColonyProfiler profiler = colony.getProfiler();
+        final JsonObject report = new JsonObject();
+        report.addProperty("colony", colony.getID());
+        report.addProperty("name", colony.getName());
+        report.addProperty("dimension", colony.getDimension().location().toString());
+        report.addProperty("since", profiler.getSince());
+        report.addProperty("until", System.currentTimeMillis());
+        report.addProperty("citizens", colony.getCitizenManager().getCurrentCitizenCount());
+        report.addProperty("buildings", colony.getBuildingManager().getBuildings().size());
+        report.add("sections", profiler.toJson());
+
+        final PathJobScheduler scheduler = Pathfinding.getExecutor();
+        final JsonObject pathfinding = new JsonObject();
+        pathfinding.addProperty("queued", scheduler.getQueuedCount());
+        pathfinding.addProperty("superseded", scheduler.getSupersededCount());
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("queued", scheduler.getQueuedCount(priority));
+            entry.addProperty("started", scheduler.getStartedCount(priority));
+            entry.addProperty("shed", scheduler.getShedCount(priority));
+            entry.addProperty("avgWaitMs", scheduler.getAverageWaitMs(priority));
+            entry.addProperty("maxWaitMs", scheduler.getMaxWaitMs(priority));
+            entry.addProperty("avgRunMs", scheduler.getAverageRunMs(priority));
+            pathfinding.add(priority.name(), entry);
+        }
+        report.add("pathfinding", pathfinding);
+
+        final JsonObject viewSync = new JsonObject();
+        viewSync.addProperty("bytesSent", colony.getPackageManager().getViewBytesSent());
+        viewSync.addProperty("bytesWithoutDelta", colony.getPackageManager().getViewBytesWithoutDelta());
+        report.add("viewSync", viewSync);
+
+        final IThreatScanManager scanner = colony.getThreatScanManager();
+        final JsonObject threatScans = new JsonObject();
+        threatScans.addProperty("scans", scanner.getTotalScans());
+        threatScans.addProperty("queries", scanner.getTotalQueries());
+        threatScans.addProperty("totalMs", scanner.getTotalScanMs());
+        report.add("threatScans", threatScans);
+
+        final JsonObject citizenLod = new JsonObject();
+        for (final CitizenLod lod : CitizenLod.values())
+        {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("aiTicks", CitizenLodStats.getAiTicks(lod));
+            entry.addProperty("aiSkipped", CitizenLodStats.getAiSkipped(lod));
+            entry.addProperty("aiMs", CitizenLodStats.getAiMs(lod));
+            entry.addProperty("handlerRuns", CitizenLodStats.getHandlerRuns(lod));
+            entry.addProperty("handlerDeferred", CitizenLodStats.getHandlerDeferred(lod));
+            citizenLod.add(lod.name(), entry);
+        }
+        report.add("citizenLod", citizenLod);
+
+        final CourierStats stats = getCourierStats(colony);
+        final JsonObject couriers = new JsonObject();
+        couriers.addProperty("trips", stats.trips);
+        couriers.addProperty("avgTripLength", stats.getAverageTripLength());
+        couriers.addProperty("latencySamples", stats.latencySamples);
+        couriers.addProperty("avgQueueLatencyTicks", stats.getAverageQueueLatency());
+        report.add("couriers", couriers);
+        return report;
+    }
+
+    /**
+     * Sum up the trip metrics of all couriers of a colony.
+     *
+     * @param colony the colony.
+     * @return the summed metrics.
+     */
+    private static CourierStats getCourierStats(final Colony colony)
+    {
+        final CourierStats stats = new CourierStats();
+        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            final JobDeliveryman job = citizen.getJob(JobDeliveryman.class);
+            if (job != null)
+            {
+                stats.trips += job.getFinishedTrips();
+                stats.tripLength += job.getTotalTripLength();
+                stats.latencySamples += job.getQueueLatencySamples();
+                stats.latencyTicks += job.getTotalQueueLatency();
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Trip metrics summed over the couriers of a colony.
+     */
+    private static class CourierStats
+    {
+        private long   trips;
+        private double tripLength;
+        private long   latencySamples;
+        private long   latencyTicks;
+
+        private double getAverageTripLength()
+        {
+            return trips == 0 ? 0 : tripLength / trips;
+        }
+
+        private double getAverageQueueLatency()
+        {
+            return latencySamples == 0 ? 0 : (double) latencyTicks / latencySamples;
+        }
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "profile";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1))
+                  .executes(this::checkPreConditionAndExecute)
+                  .then(IMCCommand.newLiteral("export").executes(this::executeExport))
+                  .then(IMCCommand.newLiteral("reset").executes(this::executeReset)));
+    }
+}
@@ -2,6 +2,7 @@ package com.minecolonies.core.commands.colonycommands;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.managers.interfaces.IThreatScanManager;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.colony.events.raid.RaidManager;
 import com.minecolonies.core.commands.commandTypes.IMCCommand;
@@ -20,6 +21,8 @@ import static com.minecolonies.core.commands.CommandArgumentNames.COLONYID_ARG;
 
 public class CommandColonyRaidsInfo implements IMCOPCommand
 {
+    private static final String THREAT_SCAN_TEXT = "Threat scans: %d last tick in %.3fms, %d total for %d guard searches in %.1fms";
+
     /**
      * What happens when the command is executed after preConditions are successful.
      *
@@ -43,6 +46,15 @@ public class CommandColonyRaidsInfo implements IMCOPCommand
             return 0;
         }
 
+        final IThreatScanManager scanner = colony.getThreatScanManager();
+        context.getSource()
+          .sendSuccess(() -> Component.literal(String.format(THREAT_SCAN_TEXT,
+            scanner.getLastTickScans(),
+            scanner.getLastTickScanMs(),
+            scanner.getTotalScans(),
+            scanner.getTotalQueries(),
+            scanner.getTotalScanMs())), true);
+
         List<RaidManager.RaidHistory> allRaids = ((RaidManager) colony.getRaiderManager()).getAllRaids();
         for (int i = 0; i < allRaids.size(); i++)
         {
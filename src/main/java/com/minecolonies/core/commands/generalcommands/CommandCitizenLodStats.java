@@ -0,0 +1,73 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.citizen.CitizenLod;
+import com.minecolonies.core.entity.citizen.CitizenLodStats;
+import com.minecolonies.core.entity.citizen.EntityCitizen;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.api.entity.citizen.AbstractEntityCitizen.ENTITY_AI_TICKRATE;
+
+/**
+ * Command to print the citizen simulation level of detail distribution and its tick counters.
+ */
+public class CommandCitizenLodStats implements IMCOPCommand
+{
+    private static final String LOD_TEXT = "%s: citizens=%d aiEvery=%dt scanEvery=%dt aiTicks=%d skipped=%d aiTotal=%.1fms avgAi=%.3fms scans=%d deferred=%d";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final int[] citizens = new int[CitizenLod.values().length];
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+            {
+                citizen.getEntity().ifPresent(entity ->
+                {
+                    if (entity instanceof EntityCitizen entityCitizen)
+                    {
+                        citizens[entityCitizen.getSimulationLod().ordinal()]++;
+                    }
+                });
+            }
+        }
+
+        for (final CitizenLod lod : CitizenLod.values())
+        {
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format(LOD_TEXT,
+                lod.name(),
+                citizens[lod.ordinal()],
+                ENTITY_AI_TICKRATE * lod.getAiStride(),
+                20 * lod.getHandlerStride(),
+                CitizenLodStats.getAiTicks(lod),
+                CitizenLodStats.getAiSkipped(lod),
+                CitizenLodStats.getAiMs(lod),
+                CitizenLodStats.getAverageAiMs(lod),
+                CitizenLodStats.getHandlerRuns(lod),
+                CitizenLodStats.getHandlerDeferred(lod))), false);
+        }
+
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "citizenLodStats";
+    }
+}
@@ -0,0 +1,54 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
+import com.minecolonies.core.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Command to print the pathfinding queue depth and wait times.
+ */
+public class CommandPathfindingStats implements IMCOPCommand
+{
+    private static final String QUEUE_TEXT    = "Pathfinding queue: %d jobs, %d superseded";
+    private static final String PRIORITY_TEXT = "%s: queued=%d started=%d shed=%d avgWait=%.2fms maxWait=%.2fms avgRun=%.2fms";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final PathJobScheduler scheduler = Pathfinding.getExecutor();
+        context.getSource().sendSuccess(() -> Component.literal(String.format(QUEUE_TEXT, scheduler.getQueuedCount(), scheduler.getSupersededCount())), false);
+
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format(PRIORITY_TEXT,
+                priority.name(),
+                scheduler.getQueuedCount(priority),
+                scheduler.getStartedCount(priority),
+                scheduler.getShedCount(priority),
+                scheduler.getAverageWaitMs(priority),
+                scheduler.getMaxWaitMs(priority),
+                scheduler.getAverageRunMs(priority))), false);
+        }
+
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathfindingStats";
+    }
+}
@@ -296,12 +296,14 @@ public class EntityAIMournCitizen implements IStateAI
 
         if (this.graveyard == null)
         {
-            final IBuilding graveyardBuilding =
-              citizen.getCitizenColonyHandler().getColony().getBuildingManager().getFirstBuildingMatching(b -> b instanceof BuildingGraveyard && b.getFirstModuleOccurance(
-                GraveyardManagementModule.class).hasRestingCitizen(citizen.getCitizenData().getCitizenMournHandler().getDeceasedCitizens()));
-            if (graveyardBuilding != null)
+            for (final BuildingGraveyard graveyardBuilding : citizen.getCitizenColonyHandler().getColony().getBuildingManager().getBuildingsOfClass(BuildingGraveyard.class))
             {
-                this.graveyard = graveyardBuilding.getPosition();
+                if (graveyardBuilding.getFirstModuleOccurance(GraveyardManagementModule.class)
+                      .hasRestingCitizen(citizen.getCitizenData().getCitizenMournHandler().getDeceasedCitizens()))
+                {
+                    this.graveyard = graveyardBuilding.getPosition();
+                    break;
+                }
             }
         }
 
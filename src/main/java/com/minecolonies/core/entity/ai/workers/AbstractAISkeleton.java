@@ -108,6 +108,12 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
         return stateMachine.getTickRate();
     }
 
+    @Override
+    public void setTickRate(final int tickRate)
+    {
+        stateMachine.setTickRate(tickRate);
+    }
+
     /**
      * Whether the AI is allowed to be interrupted
      *
@@ -29,7 +29,7 @@ import java.util.List;
 
 import static com.minecolonies.api.entity.citizen.AbstractEntityCitizen.ENTITY_AI_TICKRATE;
 import static com.minecolonies.api.entity.citizen.VisibleCitizenStatus.*;
-import static com.minecolonies.api.research.util.ResearchConstants.WORKING_IN_RAIN;
+import static com.minecolonies.api.research.util.ResearchConstants.WORKING_IN_RAIN_HANDLE;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_SPEED;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
@@ -295,7 +295,7 @@ public class CitizenAI implements IStateAI
         }
 
         final ICitizenColonyHandler colonyHandler = citizen.getCitizenColonyHandler();
-        if (colonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN) > 0)
+        if (colonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN_HANDLE) > 0)
         {
             return true;
         }
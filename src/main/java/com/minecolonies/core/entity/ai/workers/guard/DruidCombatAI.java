@@ -38,7 +38,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.BiPredicate;
 
-import static com.minecolonies.api.research.util.ResearchConstants.DRUID_USE_POTIONS;
+import static com.minecolonies.api.research.util.ResearchConstants.DRUID_USE_POTIONS_HANDLE;
 import static com.minecolonies.api.util.constant.GuardConstants.*;
 import static com.minecolonies.core.entity.ai.workers.guard.AbstractEntityAIFight.SPEED_LEVEL_BONUS;
 
@@ -135,7 +135,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
         final ItemStack stack = Items.SPLASH_POTION.getDefaultInstance();
         boolean gotMaterial = false;
         BiPredicate<LivingEntity, MobEffect> predicate;
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS) > 0
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS_HANDLE) > 0
               && InventoryUtils.hasItemInItemHandler(user.getInventoryCitizen(), item -> item.getItem() == ModItems.magicpotion))
         {
             gotMaterial = true;
@@ -253,7 +253,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
             return true;
         }
 
-        final List<LivingEntity> entities = user.level().getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = user.getThreatCandidates(user.level(), getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -142,9 +142,9 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         user.swing(InteractionHand.MAIN_HAND);
 
         int amountOfArrows = 1;
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS) > 0)
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS_HANDLE) > 0)
         {
-            if (user.getRandom().nextDouble() < user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS))
+            if (user.getRandom().nextDouble() < user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS_HANDLE))
             {
                 amountOfArrows++;
             }
@@ -154,7 +154,7 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         {
             final AbstractArrow arrow = CombatUtils.createArrowForShooter(user);
 
-            if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARROW_PIERCE) > 0)
+            if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARROW_PIERCE_HANDLE) > 0)
             {
                 arrow.setPierceLevel((byte) 2);
             }
@@ -231,9 +231,9 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         final ItemStack heldItem = user.getItemInHand(InteractionHand.MAIN_HAND);
         damage += EnchantmentHelper.modifyDamage((ServerLevel) user.level(), heldItem, target, user.level().damageSources().mobAttack(user), 1) / 2.5;
         damage += heldItem.getEnchantmentLevel(Utils.getRegistryValue(Enchantments.POWER, user.level()));
-        damage += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_DAMAGE);
+        damage += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_DAMAGE_HANDLE);
 
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS) > 0)
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS_HANDLE) > 0)
         {
             int slot = InventoryUtils.findFirstSlotInItemHandlerWith(user.getInventoryCitizen(), item -> item.getItem() instanceof ArrowItem);
             if (slot != -1)
@@ -263,7 +263,7 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
             damage *= 2;
         }
 
-        if (ColonyConstants.rand.nextDouble() > 1 / (1 + user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(GUARD_CRIT)))
+        if (ColonyConstants.rand.nextDouble() > 1 / (1 + user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(GUARD_CRIT_HANDLE)))
         {
             damage *= 1.5;
         }
@@ -1,12 +1,13 @@
 package com.minecolonies.core.entity.ai.workers.util;
 
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.storage.ServerFutureProcessor;
 import com.ldtteam.structurize.storage.StructurePacks;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
-import com.minecolonies.api.util.ColonyUtils;
+import com.minecolonies.api.util.BlueprintFootprint;
 import com.minecolonies.core.blocks.decorative.BlockConstructionTape;
 import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
@@ -37,9 +38,15 @@ public final class ConstructionTapeHelper
      */
     public static void placeConstructionTape(@NotNull final IWorkOrder workOrder, @NotNull final Level world, final IColony colony)
     {
+        final BlueprintFootprint footprint = BlueprintFootprint.getCached(workOrder.getStructurePack(), workOrder.getStructurePath(), workOrder.getRotationMirror());
+        if (footprint != null)
+        {
+            placeConstructionTape(footprint.getCorners(workOrder.getLocation()), colony);
+            return;
+        }
+
         ServerFutureProcessor.queueBlueprint(new ServerFutureProcessor.BlueprintProcessingData(workOrder.getBlueprintFuture(world.registryAccess()), world, (blueprint -> {
-            final Tuple<BlockPos, BlockPos> corners = ColonyUtils.calculateCorners(workOrder.getLocation(), world, blueprint, workOrder.getRotationMirror());
-            placeConstructionTape(corners, colony);
+            placeConstructionTape(getCorners(workOrder, blueprint, world), colony);
         })));
     }
 
@@ -50,10 +57,20 @@ public final class ConstructionTapeHelper
      */
     public static void placeConstructionTape(@NotNull final IBuilding building)
     {
+        final BlueprintFootprint footprint = BlueprintFootprint.getCached(building.getStructurePack(), building.getBlueprintPath(), building.getRotationMirror());
+        if (footprint != null)
+        {
+            final Tuple<BlockPos, BlockPos> corners = footprint.getCorners(building.getPosition());
+            building.setCorners(corners.getA(), corners.getB());
+            placeConstructionTape(corners, building.getColony());
+            return;
+        }
+
         ServerFutureProcessor.queueBlueprint(new ServerFutureProcessor.BlueprintProcessingData(StructurePacks.getBlueprintFuture(building.getStructurePack(),
           building.getBlueprintPath(), building.getColony().getWorld().registryAccess()), building.getColony().getWorld(), (blueprint -> {
-            final Tuple<BlockPos, BlockPos> corners =
-              ColonyUtils.calculateCorners(building.getPosition(), building.getColony().getWorld(), blueprint, building.getRotationMirror());
+            final Tuple<BlockPos, BlockPos> corners = blueprint == null ? new Tuple<>(building.getPosition(), building.getPosition())
+              : BlueprintFootprint.cache(building.getStructurePack(), building.getBlueprintPath(), blueprint, building.getRotationMirror(), building.getColony().getWorld())
+                  .getCorners(building.getPosition());
             building.setCorners(corners.getA(), corners.getB());
             placeConstructionTape(corners, building.getColony());
         })));
@@ -166,12 +183,36 @@ public final class ConstructionTapeHelper
      */
     public static void removeConstructionTape(@NotNull final IWorkOrder workOrder, @NotNull final Level world)
     {
+        final BlueprintFootprint footprint = BlueprintFootprint.getCached(workOrder.getStructurePack(), workOrder.getStructurePath(), workOrder.getRotationMirror());
+        if (footprint != null)
+        {
+            removeConstructionTape(footprint.getCorners(workOrder.getLocation()), world);
+            return;
+        }
+
         ServerFutureProcessor.queueBlueprint(new ServerFutureProcessor.BlueprintProcessingData(workOrder.getBlueprintFuture(world.registryAccess()), world, (blueprint -> {
-            final Tuple<BlockPos, BlockPos> corners = ColonyUtils.calculateCorners(workOrder.getLocation(), world, blueprint, workOrder.getRotationMirror());
-            removeConstructionTape(corners, world);
+            removeConstructionTape(getCorners(workOrder, blueprint, world), world);
         })));
     }
 
+    /**
+     * Calculate the corners of a work order from its loaded blueprint and cache its footprint.
+     *
+     * @param workOrder the workOrder.
+     * @param blueprint the blueprint, may be null.
+     * @param world     the world.
+     * @return the corners.
+     */
+    private static Tuple<BlockPos, BlockPos> getCorners(@NotNull final IWorkOrder workOrder, @Nullable final Blueprint blueprint, @NotNull final Level world)
+    {
+        if (blueprint == null)
+        {
+            return new Tuple<>(workOrder.getLocation(), workOrder.getLocation());
+        }
+        return BlueprintFootprint.cache(workOrder.getStructurePack(), workOrder.getStructurePath(), blueprint, workOrder.getRotationMirror(), world)
+                 .getCorners(workOrder.getLocation());
+    }
+
     /**
      * Remove construction tape.
      *
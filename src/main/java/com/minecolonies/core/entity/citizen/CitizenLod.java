@@ -0,0 +1,93 @@
+package com.minecolonies.core.entity.citizen;
+
+import com.minecolonies.api.configuration.ServerConfiguration;
+import com.minecolonies.core.MineColonies;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Simulation level of detail of a citizen, depending on the distance to the closest player.
+ * <p>
+ * Citizens nobody is watching run their non combat AI less often. The AI is told how many ticks passed between two calls, so timed waits like block breaking and crafting
+ * delays still finish at the same game time, only the decisions in between are skipped.
+ */
+public enum CitizenLod
+{
+    /**
+     * A player is close, everything runs at full rate.
+     */
+    FULL(1, 1),
+
+    /**
+     * Players are in the area but not close.
+     */
+    REDUCED(2, 2),
+
+    /**
+     * No player within the far range.
+     */
+    DISTANT(4, 3);
+
+    /**
+     * AI state machine calls per AI tick, the AI runs every {@code aiStride} calls.
+     */
+    private final int aiStride;
+
+    /**
+     * Handler updates per item pickup and experience gathering.
+     */
+    private final int handlerStride;
+
+    CitizenLod(final int aiStride, final int handlerStride)
+    {
+        this.aiStride = aiStride;
+        this.handlerStride = handlerStride;
+    }
+
+    /**
+     * Get the amount of AI calls per actual AI tick.
+     *
+     * @return the stride, 1 for every call.
+     */
+    public int getAiStride()
+    {
+        return aiStride;
+    }
+
+    /**
+     * Get the amount of handler updates per item pickup and experience gathering scan.
+     *
+     * @return the stride, 1 for every update.
+     */
+    public int getHandlerStride()
+    {
+        return handlerStride;
+    }
+
+    /**
+     * Calculate the level of detail of an entity by the distance to the closest player.
+     *
+     * @param entity the entity.
+     * @return the level of detail.
+     */
+    public static CitizenLod of(@NotNull final Entity entity)
+    {
+        final ServerConfiguration config = MineColonies.getConfig().getServer();
+        if (!config.citizenSimulationLod.get())
+        {
+            return FULL;
+        }
+
+        if (entity.level().hasNearbyAlivePlayer(entity.getX(), entity.getY(), entity.getZ(), config.citizenLodNearRange.get()))
+        {
+            return FULL;
+        }
+
+        if (entity.level().hasNearbyAlivePlayer(entity.getX(), entity.getY(), entity.getZ(), Math.max(config.citizenLodNearRange.get(), config.citizenLodFarRange.get())))
+        {
+            return REDUCED;
+        }
+
+        return DISTANT;
+    }
+}
@@ -0,0 +1,143 @@
+package com.minecolonies.core.entity.citizen;
+
+/**
+ * Counters of the citizen simulation level of detail, indexed by {@link CitizenLod} ordinal. Server thread only.
+ */
+public final class CitizenLodStats
+{
+    /**
+     * Counters, indexed by level of detail ordinal.
+     */
+    private static final long[] aiTicks         = new long[CitizenLod.values().length];
+    private static final long[] aiSkipped       = new long[CitizenLod.values().length];
+    private static final long[] aiNs            = new long[CitizenLod.values().length];
+    private static final long[] handlerRuns     = new long[CitizenLod.values().length];
+    private static final long[] handlerDeferred = new long[CitizenLod.values().length];
+
+    private CitizenLodStats()
+    {
+        // Static counters only.
+    }
+
+    /**
+     * Count an executed AI tick.
+     *
+     * @param lod      the level of detail it ran at.
+     * @param duration the duration in nanoseconds.
+     */
+    public static void onAiTick(final CitizenLod lod, final long duration)
+    {
+        aiTicks[lod.ordinal()]++;
+        aiNs[lod.ordinal()] += duration;
+    }
+
+    /**
+     * Count a skipped AI tick.
+     *
+     * @param lod the level of detail.
+     */
+    public static void onAiSkipped(final CitizenLod lod)
+    {
+        aiSkipped[lod.ordinal()]++;
+    }
+
+    /**
+     * Count a handler update.
+     *
+     * @param lod      the level of detail.
+     * @param deferred whether the item pickup and experience scans were deferred.
+     */
+    public static void onHandlerUpdate(final CitizenLod lod, final boolean deferred)
+    {
+        if (deferred)
+        {
+            handlerDeferred[lod.ordinal()]++;
+        }
+        else
+        {
+            handlerRuns[lod.ordinal()]++;
+        }
+    }
+
+    /**
+     * Amount of executed AI ticks.
+     *
+     * @param lod the level of detail.
+     * @return the count.
+     */
+    public static long getAiTicks(final CitizenLod lod)
+    {
+        return aiTicks[lod.ordinal()];
+    }
+
+    /**
+     * Amount of skipped AI ticks.
+     *
+     * @param lod the level of detail.
+     * @return the count.
+     */
+    public static long getAiSkipped(final CitizenLod lod)
+    {
+        return aiSkipped[lod.ordinal()];
+    }
+
+    /**
+     * Total time spent in the AI.
+     *
+     * @param lod the level of detail.
+     * @return the time in milliseconds.
+     */
+    public static double getAiMs(final CitizenLod lod)
+    {
+        return aiNs[lod.ordinal()] / 1.0E6D;
+    }
+
+    /**
+     * Average duration of an executed AI tick.
+     *
+     * @param lod the level of detail.
+     * @return the time in milliseconds.
+     */
+    public static double getAverageAiMs(final CitizenLod lod)
+    {
+        final long count = aiTicks[lod.ordinal()];
+        return count == 0 ? 0 : aiNs[lod.ordinal()] / (count * 1.0E6D);
+    }
+
+    /**
+     * Amount of handler updates which ran the item pickup and experience scans.
+     *
+     * @param lod the level of detail.
+     * @return the count.
+     */
+    public static long getHandlerRuns(final CitizenLod lod)
+    {
+        return handlerRuns[lod.ordinal()];
+    }
+
+    /**
+     * Amount of handler updates which deferred the item pickup and experience scans.
+     *
+     * @param lod the level of detail.
+     * @return the count.
+     */
+    public static long getHandlerDeferred(final CitizenLod lod)
+    {
+        return handlerDeferred[lod.ordinal()];
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public static void reset()
+    {
+        for (int i = 0; i < aiTicks.length; i++)
+        {
+            aiTicks[i] = 0;
+            aiSkipped[i] = 0;
+            aiNs[i] = 0;
+            handlerRuns[i] = 0;
+            handlerDeferred[i] = 0;
+        }
+    }
+}
@@ -245,6 +245,21 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
      */
     private ITickRateStateMachine<IState> citizenAI = new TickRateStateMachine<>(CitizenAIState.IDLE, e -> {}, ENTITY_AI_TICKRATE);
 
+    /**
+     * Current simulation level of detail, updated with the handlers.
+     */
+    private CitizenLod simulationLod = CitizenLod.FULL;
+
+    /**
+     * AI calls since the last AI tick.
+     */
+    private int aiCallsSinceTick = 0;
+
+    /**
+     * Handler updates since the last item pickup and experience scan.
+     */
+    private int handlerUpdatesSinceScan = 0;
+
     /**
      * Maximum air supply
      */
@@ -293,7 +308,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onTickDecrements, () -> null, 1));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::shouldBeInactive, () -> EntityState.INACTIVE, TICKS_20));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, () -> {
-            citizenAI.tick();
+            tickCitizenAI();
             return false;
         }, () -> null, 1));
 
@@ -733,17 +748,84 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         return false;
     }
 
+    /**
+     * Ticks the citizen AI, at a lower rate for citizens no player is watching.
+     */
+    private void tickCitizenAI()
+    {
+        if (simulationLod != CitizenLod.FULL && isInCombat())
+        {
+            simulationLod = CitizenLod.FULL;
+        }
+
+        final int stride = simulationLod.getAiStride();
+        if (++aiCallsSinceTick < stride)
+        {
+            CitizenLodStats.onAiSkipped(simulationLod);
+            return;
+        }
+        aiCallsSinceTick = 0;
+
+        // Tell the state machines how much time passed, so timed waits keep their game time duration
+        final int tickRate = ENTITY_AI_TICKRATE * stride;
+        citizenAI.setTickRate(tickRate);
+        final IJob<?> job = citizenJobHandler.getColonyJob();
+        if (job != null && job.getWorkerAI() != null)
+        {
+            job.getWorkerAI().setTickRate(tickRate);
+        }
+
+        final long start = System.nanoTime();
+        citizenAI.tick();
+        CitizenLodStats.onAiTick(simulationLod, System.nanoTime() - start);
+    }
+
+    /**
+     * Check if the citizen is fighting or fleeing, which always runs at the full rate.
+     *
+     * @return true if so.
+     */
+    private boolean isInCombat()
+    {
+        return getLastHurtByMob() != null
+                 || citizenAI.getState() == CitizenAIState.FLEE
+                 || citizenJobHandler.getColonyJob() instanceof AbstractJobGuard
+                 || (citizenColonyHandler.getColony() != null && citizenColonyHandler.getColony().getRaiderManager().isRaided());
+    }
+
+    /**
+     * Get the current simulation level of detail.
+     *
+     * @return the level of detail.
+     */
+    public CitizenLod getSimulationLod()
+    {
+        return simulationLod;
+    }
+
     /**
      * Updates handlers on living tick, each 20 ticks.
      */
     private boolean onServerUpdateHandlers()
     {
-        // Every 20 ticks
-        citizenExperienceHandler.gatherXp();
-        citizenItemHandler.pickupItems();
+        simulationLod = isInCombat() ? CitizenLod.FULL : CitizenLod.of(this);
+
+        // Every 20 ticks, the scans are batched for citizens nobody watches
+        final boolean scan = ++handlerUpdatesSinceScan >= simulationLod.getHandlerStride();
+        if (scan)
+        {
+            handlerUpdatesSinceScan = 0;
+            citizenExperienceHandler.gatherXp();
+            citizenItemHandler.pickupItems();
+        }
+        CitizenLodStats.onHandlerUpdate(simulationLod, !scan);
+
         citizenData.setLastPosition(blockPosition());
         citizenDiseaseHandler.tick();
-        onLivingSoundUpdate();
+        if (simulationLod == CitizenLod.FULL)
+        {
+            onLivingSoundUpdate();
+        }
 
         final ChunkPos currentChunk = chunkPosition();
         if ((!Objects.equals(currentChunk, lastChunk)))
@@ -835,11 +917,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level().dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS_HANDLE) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS_HANDLE) > 0;
     }
 
     /**
@@ -854,11 +936,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level().dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES_HANDLE) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES_HANDLE) > 0;
     }
 
     /**
@@ -880,12 +962,12 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (getHealth() < (citizenDiseaseHandler.isSick() ? getMaxHealth() / 3 : getMaxHealth()) && getLastHurtByMob() == null)
         {
-            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_HANDLE);
             final double citizenSaturation = citizenData.getSaturation();
             final double healAmount;
             if (citizenSaturation >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_HANDLE));
             }
             else if (citizenSaturation < LOW_SATURATION)
             {
@@ -893,7 +975,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             }
             else
             {
-                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_HANDLE));
             }
 
             heal((float) healAmount);
@@ -1433,9 +1515,9 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             {
                 if (citizenJobHandler.getColonyJob() instanceof JobKnight)
                 {
-                    if (citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS) > 0)
+                    if (citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS_HANDLE) > 0)
                     {
-                        if (getRandom().nextDouble() < citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS))
+                        if (getRandom().nextDouble() < citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS_HANDLE))
                         {
                             return false;
                         }
@@ -1445,7 +1527,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
                 if (citizenData.getWorkBuilding() instanceof AbstractBuildingGuards && ((AbstractBuildingGuards) citizenData.getWorkBuilding()).shallRetrieveOnLowHealth()
                       && getHealth() < ((int) getMaxHealth() * 0.2D))
                 {
-                    damageInc *= 1 - citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_DAMAGE);
+                    damageInc *= 1 - citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_DAMAGE_HANDLE);
                 }
             }
         }
@@ -1749,11 +1831,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (citizenJobHandler.getColonyJob() instanceof JobKnight)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR_HANDLE)));
         }
         else if (citizenJobHandler.getColonyJob() instanceof JobRanger)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR_HANDLE)));
         }
         return super.getArmorValue();
     }
@@ -1868,6 +1950,17 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         return threatTable;
     }
 
+    @Override
+    public List<LivingEntity> getThreatCandidates(final Level level, final AABB area)
+    {
+        final IColony colony = citizenColonyHandler.getColony();
+        if (colony != null && colony.getWorld() == level && colony.getThreatScanManager() != null)
+        {
+            return colony.getThreatScanManager().getEntitiesInArea(area);
+        }
+        return IThreatTableEntity.super.getThreatCandidates(level, area);
+    }
+
     /**
      * Get the AI controlling the citizens behaviour
      *
@@ -14,8 +14,8 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import org.jetbrains.annotations.NotNull;
 
-import static com.minecolonies.api.research.util.ResearchConstants.MASKS;
-import static com.minecolonies.api.research.util.ResearchConstants.VACCINES;
+import static com.minecolonies.api.research.util.ResearchConstants.MASKS_HANDLE;
+import static com.minecolonies.api.research.util.ResearchConstants.VACCINES_HANDLE;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.Constants.ONE_HUNDRED_PERCENT;
 import static com.minecolonies.api.util.constant.StatisticsConstants.CITIZENS_HEALED;
@@ -128,7 +128,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
               && citizen.getRandom().nextInt(ONE_HUNDRED_PERCENT) < 1)
         {
             if (citizen.getCitizenColonyHandler().getColony() != null
-                  && (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MASKS) <= 0 || citizen.getRandom().nextBoolean()))
+                  && (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MASKS_HANDLE) <= 0 || citizen.getRandom().nextBoolean()))
             {
                 this.disease = citizen.getCitizenDiseaseHandler().getDisease();
             }
@@ -187,7 +187,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
                 hospital.onWakeUp();
             }
 
-            if (citizen.getCitizenColonyHandler().getColony() != null && citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VACCINES) > 0)
+            if (citizen.getCitizenColonyHandler().getColony() != null && citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VACCINES_HANDLE) > 0)
             {
                 immunityTicks = IMMUNITY_TIME * VACCINE_MODIFIER;
             }
@@ -8,7 +8,6 @@ import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHand
 import com.minecolonies.api.entity.citizen.happiness.*;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.core.colony.interactionhandling.StandardInteraction;
-import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -22,7 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import static com.minecolonies.api.entity.citizen.happiness.HappinessRegistry.*;
-import static com.minecolonies.api.research.util.ResearchConstants.HAPPINESS;
+import static com.minecolonies.api.research.util.ResearchConstants.HAPPINESS_HANDLE;
 import static com.minecolonies.api.research.util.ResearchConstants.TAG_ID;
 import static com.minecolonies.api.util.constant.HappinessConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.DEMANDS;
@@ -150,7 +149,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS_HANDLE));
 
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
@@ -214,36 +213,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     public static double getSocialModifier(final IColony colony)
     {
-        final double total = colony.getCitizenManager().getCitizens().size();
-        double unemployment = 0;
-        double homelessness = 0;
-        double sickPeople = 0;
-        double hungryPeople = 0;
-
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (!citizen.isChild() && citizen.getJob() == null)
-            {
-                unemployment++;
-            }
-
-            if (citizen.getHomeBuilding() == null)
-            {
-                homelessness++;
-            }
-
-            if (citizen.getEntity().isPresent() && citizen.getEntity().get().getCitizenDiseaseHandler().isSick())
-            {
-                sickPeople++;
-            }
-
-            if (citizen.getSaturation() <= 1)
-            {
-                hungryPeople++;
-            }
-        }
-
-        return (total - (unemployment + homelessness + sickPeople + hungryPeople)) / total;
+        return colony.getCitizenManager().getSocialFactor();
     }
 
     /**
@@ -254,20 +224,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     public static double getGuardFactor(final IColony colony)
     {
-        double guards = 1;
-        double workers = 1;
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (citizen.getJob() instanceof AbstractJobGuard)
-            {
-                guards++;
-            }
-            else
-            {
-                workers++;
-            }
-        }
-        return Math.min(guards / (workers * 2 / 3), 2);
+        return colony.getCitizenManager().getGuardFactor();
     }
 
     /**
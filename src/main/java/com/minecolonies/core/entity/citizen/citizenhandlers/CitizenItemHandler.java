@@ -23,8 +23,8 @@ import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static com.minecolonies.api.research.util.ResearchConstants.ARMOR_DURABILITY;
-import static com.minecolonies.api.research.util.ResearchConstants.TOOL_DURABILITY;
+import static com.minecolonies.api.research.util.ResearchConstants.ARMOR_DURABILITY_HANDLE;
+import static com.minecolonies.api.research.util.ResearchConstants.TOOL_DURABILITY_HANDLE;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_PITCH_MULTIPLIER;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_VOLUME;
@@ -236,13 +236,13 @@ public class CitizenItemHandler implements ICitizenItemHandler
         }
 
         //Check if the effect exists first, to avoid unnecessary calls to random number generator.
-        if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(TOOL_DURABILITY) > 0)
+        if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(TOOL_DURABILITY_HANDLE) > 0)
         {
             if (citizen.getRandom().nextDouble() > (1 / (1 + citizen.getCitizenColonyHandler()
                                                                .getColony()
                                                                .getResearchManager()
                                                                .getResearchEffects()
-                                                               .getEffectStrength(TOOL_DURABILITY))))
+                                                               .getEffectStrength(TOOL_DURABILITY_HANDLE))))
             {
                 return;
             }
@@ -319,13 +319,13 @@ public class CitizenItemHandler implements ICitizenItemHandler
     @Override
     public void updateArmorDamage(final double damage)
     {
-        if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARMOR_DURABILITY) > 0)
+        if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARMOR_DURABILITY_HANDLE) > 0)
         {
             if (citizen.getRandom().nextDouble() > (1 / (1 + citizen.getCitizenColonyHandler()
                                                                .getColony()
                                                                .getResearchManager()
                                                                .getResearchEffects()
-                                                               .getEffectStrength(ARMOR_DURABILITY))))
+                                                               .getEffectStrength(ARMOR_DURABILITY_HANDLE))))
             {
                 return;
             }
@@ -22,10 +22,9 @@ public class MNode implements Comparable<MNode>
     /**
      * The position of the node.
      */
-    @NotNull
-    public final int x;
-    public final int y;
-    public final int z;
+    public int x;
+    public int y;
+    public int z;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -78,6 +77,11 @@ public class MNode implements Comparable<MNode>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Position of this node within the open node heap, -1 if not queued.
+     */
+    int heapIndex = -1;
+
     /**
      * Create a Node that inherits from a parent, and has a Cost and Heuristic estimate.
      *
@@ -85,7 +89,25 @@ public class MNode implements Comparable<MNode>
      * @param cost      node cost.
      * @param heuristic heuristic estimate.
      */
-    public MNode(@Nullable final MNode parent, @NotNull final int posX, final int posY, final int posZ, final double cost, final double heuristic)
+    public MNode(@Nullable final MNode parent, final int posX, final int posY, final int posZ, final double cost, final double heuristic)
+    {
+        this.parent = parent;
+        this.x = posX;
+        this.y = posY;
+        this.z = posZ;
+        this.cost = cost;
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Resets a pooled node to the state of a freshly constructed one.
+     *
+     * @param parent    parent node arrives from.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @return this node.
+     */
+    MNode reset(@Nullable final MNode parent, final int posX, final int posY, final int posZ, final double cost, final double heuristic)
     {
         this.parent = parent;
         this.x = posX;
@@ -93,6 +115,15 @@ public class MNode implements Comparable<MNode>
         this.z = posZ;
         this.cost = cost;
         this.heuristic = heuristic;
+        this.counterAdded = 0;
+        this.visited = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.isOnRails = false;
+        this.isCornerNode = false;
+        this.isReachedByWorker = false;
+        this.heapIndex = -1;
+        return this;
     }
 
     /**
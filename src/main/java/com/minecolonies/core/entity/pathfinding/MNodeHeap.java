@@ -0,0 +1,252 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Indexed binary min-heap of open pathfinding nodes.
+ * <p>
+ * Sifting follows {@link java.util.PriorityQueue} exactly, so the heap layout and the poll order are identical to it. Every node tracks its own position in the heap, which
+ * turns removing a queued node (used when a cheaper parent is found) from a linear search into a direct O(log n) sift.
+ */
+public final class MNodeHeap
+{
+    /**
+     * Default ordering of the heap, A* score.
+     */
+    public static final Comparator<MNode> BY_SCORE = MNode::compareTo;
+
+    /**
+     * Heap storage.
+     */
+    private MNode[] queue;
+
+    /**
+     * Amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Current ordering.
+     */
+    private Comparator<MNode> comparator = BY_SCORE;
+
+    /**
+     * Create a new heap.
+     *
+     * @param initialCapacity initial storage size.
+     */
+    public MNodeHeap(final int initialCapacity)
+    {
+        queue = new MNode[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if there are no queued nodes.
+     *
+     * @return true if empty.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the node at the given heap position, iteration order matches {@link java.util.PriorityQueue#iterator()}.
+     *
+     * @param index the heap position.
+     * @return the node.
+     */
+    public MNode get(final int index)
+    {
+        return queue[index];
+    }
+
+    /**
+     * Check if the node is currently queued in this heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final MNode node)
+    {
+        return node.heapIndex >= 0 && node.heapIndex < size && queue[node.heapIndex] == node;
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node to add.
+     */
+    public void offer(@NotNull final MNode node)
+    {
+        final int index = size;
+        if (index >= queue.length)
+        {
+            queue = Arrays.copyOf(queue, queue.length + (queue.length < 64 ? queue.length + 2 : queue.length >> 1));
+        }
+        siftUp(index, node);
+        size = index + 1;
+    }
+
+    /**
+     * Remove and return the lowest node.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public MNode poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final MNode result = queue[0];
+        final int last = --size;
+        final MNode moved = queue[last];
+        queue[last] = null;
+        if (last > 0)
+        {
+            siftDown(0, moved);
+        }
+        result.heapIndex = -1;
+        return result;
+    }
+
+    /**
+     * Remove the given node from the heap if it is queued.
+     *
+     * @param node the node to remove.
+     * @return true if it was removed.
+     */
+    public boolean remove(@NotNull final MNode node)
+    {
+        if (!contains(node))
+        {
+            return false;
+        }
+
+        final int index = node.heapIndex;
+        final int last = --size;
+        if (last == index)
+        {
+            queue[index] = null;
+        }
+        else
+        {
+            final MNode moved = queue[last];
+            queue[last] = null;
+            siftDown(index, moved);
+            if (queue[index] == moved)
+            {
+                siftUp(index, moved);
+            }
+        }
+        node.heapIndex = -1;
+        return true;
+    }
+
+    /**
+     * Removes all nodes.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            queue[i].heapIndex = -1;
+            queue[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Copies the queued nodes in heap order.
+     *
+     * @return the nodes.
+     */
+    public MNode[] toArray()
+    {
+        return Arrays.copyOf(queue, size);
+    }
+
+    /**
+     * Switches the ordering of the heap, re-adding all queued nodes in their current iteration order.
+     *
+     * @param newComparator the new ordering.
+     */
+    public void reorder(@NotNull final Comparator<MNode> newComparator)
+    {
+        final MNode[] nodes = toArray();
+        clear();
+        comparator = newComparator;
+        for (final MNode node : nodes)
+        {
+            offer(node);
+        }
+    }
+
+    /**
+     * Resets the heap to its initial empty state and default ordering.
+     */
+    public void reset()
+    {
+        clear();
+        comparator = BY_SCORE;
+    }
+
+    private void siftUp(int index, final MNode node)
+    {
+        while (index > 0)
+        {
+            final int parent = (index - 1) >>> 1;
+            final MNode parentNode = queue[parent];
+            if (comparator.compare(node, parentNode) >= 0)
+            {
+                break;
+            }
+            queue[index] = parentNode;
+            parentNode.heapIndex = index;
+            index = parent;
+        }
+        queue[index] = node;
+        node.heapIndex = index;
+    }
+
+    private void siftDown(int index, final MNode node)
+    {
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int child = (index << 1) + 1;
+            MNode childNode = queue[child];
+            final int right = child + 1;
+            if (right < size && comparator.compare(childNode, queue[right]) > 0)
+            {
+                childNode = queue[child = right];
+            }
+            if (comparator.compare(node, childNode) <= 0)
+            {
+                break;
+            }
+            queue[index] = childNode;
+            childNode.heapIndex = index;
+            index = child;
+        }
+        queue[index] = node;
+        node.heapIndex = index;
+    }
+}
@@ -0,0 +1,22 @@
+package com.minecolonies.core.entity.pathfinding;
+
+/**
+ * Scheduling class of a path job, jobs of a lower ordinal are always computed first.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Fighting or fleeing entities, raids.
+     */
+    COMBAT,
+
+    /**
+     * Regular work and movement.
+     */
+    WORK,
+
+    /**
+     * Wandering and other optional movement, shed first under load.
+     */
+    IDLE
+}
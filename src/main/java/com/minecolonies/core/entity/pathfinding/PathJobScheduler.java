@@ -0,0 +1,350 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for path jobs, orders queued jobs by {@link PathJobPriority} and age.
+ * <p>
+ * A new job replaces a still queued job of the same type for the same entity, and optional jobs get shed when the queue is too deep. Shed and replaced jobs are cancelled, their
+ * results complete without a path.
+ */
+public class PathJobScheduler extends ThreadPoolExecutor
+{
+    /**
+     * Queue depth at which idle jobs get rejected.
+     */
+    private static final int SHED_IDLE_DEPTH = 500;
+
+    /**
+     * Queue depth at which work jobs get rejected, combat jobs are always accepted.
+     */
+    private static final int SHED_WORK_DEPTH = 10000;
+
+    /**
+     * Amount of cancelled jobs that may linger in the queue before it is purged.
+     */
+    private static final int PURGE_THRESHOLD = 256;
+
+    /**
+     * Submission counter, keeps ordering within a priority FIFO.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Queued jobs by entity and job type.
+     */
+    private final Map<JobKey, PathJobTask> queuedByEntity = new ConcurrentHashMap<>();
+
+    /**
+     * Metrics, indexed by priority ordinal.
+     */
+    private final AtomicInteger[] queued      = new AtomicInteger[PathJobPriority.values().length];
+    private final AtomicLong[]    started     = new AtomicLong[PathJobPriority.values().length];
+    private final AtomicLong[]    shed        = new AtomicLong[PathJobPriority.values().length];
+    private final AtomicLong[]    totalWaitNs = new AtomicLong[PathJobPriority.values().length];
+    private final AtomicLong[]    maxWaitNs   = new AtomicLong[PathJobPriority.values().length];
+    private final AtomicLong[]    totalRunNs  = new AtomicLong[PathJobPriority.values().length];
+    private final AtomicLong      superseded  = new AtomicLong();
+
+    /**
+     * Create a new scheduler.
+     *
+     * @param threads       maximum amount of worker threads.
+     * @param threadFactory the thread factory.
+     */
+    public PathJobScheduler(final int threads, final ThreadFactory threadFactory)
+    {
+        super(threads, threads, 10, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), threadFactory);
+        allowCoreThreadTimeOut(true);
+
+        for (int i = 0; i < queued.length; i++)
+        {
+            queued[i] = new AtomicInteger();
+            started[i] = new AtomicLong();
+            shed[i] = new AtomicLong();
+            totalWaitNs[i] = new AtomicLong();
+            maxWaitNs[i] = new AtomicLong();
+            totalRunNs[i] = new AtomicLong();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+    {
+        if (callable instanceof AbstractPathJob job)
+        {
+            return (RunnableFuture<T>) new PathJobTask(job);
+        }
+
+        throw new IllegalArgumentException("Only path jobs can be scheduled: " + callable);
+    }
+
+    @Override
+    public void execute(@NotNull final Runnable command)
+    {
+        if (!(command instanceof PathJobTask task))
+        {
+            throw new IllegalArgumentException("Only path jobs can be scheduled: " + command);
+        }
+
+        final int index = task.priority.ordinal();
+        queued[index].incrementAndGet();
+
+        final int depth = getQueuedCount();
+        if ((task.priority == PathJobPriority.IDLE && depth > SHED_IDLE_DEPTH) || (task.priority == PathJobPriority.WORK && depth > SHED_WORK_DEPTH))
+        {
+            shed[index].incrementAndGet();
+            task.cancel(false);
+            return;
+        }
+
+        if (task.key != null)
+        {
+            final PathJobTask previous = queuedByEntity.put(task.key, task);
+            if (previous != null && previous.cancel(false))
+            {
+                superseded.incrementAndGet();
+            }
+        }
+
+        if (getQueue().size() > depth + PURGE_THRESHOLD)
+        {
+            purge();
+        }
+
+        super.execute(task);
+    }
+
+    /**
+     * Total amount of queued jobs, excluding cancelled ones.
+     *
+     * @return the queue depth.
+     */
+    public int getQueuedCount()
+    {
+        int count = 0;
+        for (final AtomicInteger depth : queued)
+        {
+            count += depth.get();
+        }
+        return count;
+    }
+
+    /**
+     * Amount of queued jobs of the given priority, excluding cancelled ones.
+     *
+     * @param priority the priority.
+     * @return the queue depth.
+     */
+    public int getQueuedCount(final PathJobPriority priority)
+    {
+        return queued[priority.ordinal()].get();
+    }
+
+    /**
+     * Amount of started jobs of the given priority.
+     *
+     * @param priority the priority.
+     * @return the count.
+     */
+    public long getStartedCount(final PathJobPriority priority)
+    {
+        return started[priority.ordinal()].get();
+    }
+
+    /**
+     * Amount of rejected jobs of the given priority.
+     *
+     * @param priority the priority.
+     * @return the count.
+     */
+    public long getShedCount(final PathJobPriority priority)
+    {
+        return shed[priority.ordinal()].get();
+    }
+
+    /**
+     * Amount of jobs replaced by a newer job of the same entity before starting.
+     *
+     * @return the count.
+     */
+    public long getSupersededCount()
+    {
+        return superseded.get();
+    }
+
+    /**
+     * Average time jobs of the given priority waited in the queue.
+     *
+     * @param priority the priority.
+     * @return the wait time in milliseconds.
+     */
+    public double getAverageWaitMs(final PathJobPriority priority)
+    {
+        final long count = started[priority.ordinal()].get();
+        return count == 0 ? 0 : totalWaitNs[priority.ordinal()].get() / (count * 1.0E6D);
+    }
+
+    /**
+     * Longest time a job of the given priority waited in the queue.
+     *
+     * @param priority the priority.
+     * @return the wait time in milliseconds.
+     */
+    public double getMaxWaitMs(final PathJobPriority priority)
+    {
+        return maxWaitNs[priority.ordinal()].get() / 1.0E6D;
+    }
+
+    /**
+     * Average calculation time of jobs of the given priority.
+     *
+     * @param priority the priority.
+     * @return the run time in milliseconds.
+     */
+    public double getAverageRunMs(final PathJobPriority priority)
+    {
+        final long count = started[priority.ordinal()].get();
+        return count == 0 ? 0 : totalRunNs[priority.ordinal()].get() / (count * 1.0E6D);
+    }
+
+    /**
+     * Resets all collected timing and counter metrics.
+     */
+    public void resetMetrics()
+    {
+        for (int i = 0; i < started.length; i++)
+        {
+            started[i].set(0);
+            shed[i].set(0);
+            totalWaitNs[i].set(0);
+            maxWaitNs[i].set(0);
+            totalRunNs[i].set(0);
+        }
+        superseded.set(0);
+    }
+
+    /**
+     * Identifies jobs which supersede each other.
+     *
+     * @param entityId the entity id.
+     * @param jobType  the job class.
+     */
+    private record JobKey(int entityId, Class<?> jobType)
+    {
+    }
+
+    /**
+     * Queued path job.
+     */
+    private final class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        /**
+         * Scheduling class.
+         */
+        private final PathJobPriority priority;
+
+        /**
+         * Submission order.
+         */
+        private final long order;
+
+        /**
+         * Supersede key, null for jobs without entity.
+         */
+        @Nullable
+        private final JobKey key;
+
+        /**
+         * Queue entry time.
+         */
+        private final long queuedAt = System.nanoTime();
+
+        /**
+         * Whether the task left the queue, by running or cancellation.
+         */
+        private final AtomicBoolean dequeued = new AtomicBoolean(false);
+
+        private PathJobTask(final AbstractPathJob job)
+        {
+            super(job);
+            this.priority = job.getPriority();
+            this.order = sequence.getAndIncrement();
+
+            final Mob entity = job.getEntity();
+            this.key = entity == null ? null : new JobKey(entity.getId(), job.getClass());
+        }
+
+        @Override
+        public void run()
+        {
+            if (!dequeue())
+            {
+                return;
+            }
+
+            final int index = priority.ordinal();
+            final long start = System.nanoTime();
+            final long wait = start - queuedAt;
+            started[index].incrementAndGet();
+            totalWaitNs[index].addAndGet(wait);
+            maxWaitNs[index].accumulateAndGet(wait, Math::max);
+
+            super.run();
+
+            totalRunNs[index].addAndGet(System.nanoTime() - start);
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled)
+            {
+                dequeue();
+            }
+            return cancelled;
+        }
+
+        /**
+         * Removes the task from the queue metrics and the supersede tracking, once.
+         *
+         * @return true if the task was still queued.
+         */
+        private boolean dequeue()
+        {
+            if (!dequeued.compareAndSet(false, true))
+            {
+                return false;
+            }
+
+            queued[priority.ordinal()].decrementAndGet();
+            if (key != null)
+            {
+                queuedByEntity.remove(key, this);
+            }
+            return true;
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask other)
+        {
+            if (priority != other.priority)
+            {
+                return priority.compareTo(other.priority);
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+}
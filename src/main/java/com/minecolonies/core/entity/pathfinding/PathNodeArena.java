@@ -0,0 +1,176 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Node storage for a single path search: node lookup map, open node heap and the nodes themselves.
+ * <p>
+ * Pooled arenas are kept per pathfinding thread and reused by every job executed on it, so a search does not allocate nodes or grow its collections once the thread is warmed up.
+ * Nested searches (a job starting another job on the same thread) fall back to a fresh, unpooled arena.
+ */
+public final class PathNodeArena
+{
+    /**
+     * Initial amount of preallocated nodes.
+     */
+    private static final int INITIAL_NODES = 1024;
+
+    /**
+     * Maximum amount of nodes kept alive between searches, larger pools get trimmed back on release.
+     */
+    private static final int MAX_POOLED_NODES = 32768;
+
+    /**
+     * Arena of each pathfinding thread.
+     */
+    private static final ThreadLocal<PathNodeArena> THREAD_ARENA = ThreadLocal.withInitial(() -> new PathNodeArena(true));
+
+    /**
+     * All nodes handed out by this arena, reused across searches if pooled.
+     */
+    private MNode[] pool = new MNode[INITIAL_NODES];
+
+    /**
+     * Amount of nodes of the pool used by the current search.
+     */
+    private int used = 0;
+
+    /**
+     * Visited node lookup, by node key.
+     */
+    private final Int2ObjectOpenHashMap<MNode> nodes = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Open nodes.
+     */
+    private final MNodeHeap openNodes = new MNodeHeap(INITIAL_NODES);
+
+    /**
+     * Whether this arena is reused.
+     */
+    private final boolean pooled;
+
+    /**
+     * Whether a search currently uses this arena.
+     */
+    private boolean inUse = false;
+
+    private PathNodeArena(final boolean pooled)
+    {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Get an arena for a new search.
+     *
+     * @param pooling whether the thread's pooled arena may be used.
+     * @return the arena, release it once the search is done.
+     */
+    public static PathNodeArena acquire(final boolean pooling)
+    {
+        if (pooling)
+        {
+            final PathNodeArena arena = THREAD_ARENA.get();
+            if (!arena.inUse)
+            {
+                arena.inUse = true;
+                return arena;
+            }
+        }
+
+        return new PathNodeArena(false);
+    }
+
+    /**
+     * Get a node for the given position, reusing a pooled instance when possible.
+     *
+     * @param parent    parent node arrives from.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @return the node.
+     */
+    public MNode obtain(@Nullable final MNode parent, final int x, final int y, final int z, final double cost, final double heuristic)
+    {
+        if (!pooled)
+        {
+            return new MNode(parent, x, y, z, cost, heuristic);
+        }
+
+        if (used == pool.length)
+        {
+            pool = Arrays.copyOf(pool, pool.length * 2);
+        }
+
+        MNode node = pool[used];
+        if (node == null)
+        {
+            node = new MNode(parent, x, y, z, cost, heuristic);
+            pool[used] = node;
+        }
+        else
+        {
+            node.reset(parent, x, y, z, cost, heuristic);
+        }
+
+        used++;
+        return node;
+    }
+
+    /**
+     * Node lookup map of this arena.
+     *
+     * @return the map from node key to node.
+     */
+    public Int2ObjectOpenHashMap<MNode> getNodes()
+    {
+        return nodes;
+    }
+
+    /**
+     * Open node heap of this arena.
+     *
+     * @return the heap.
+     */
+    public MNodeHeap getOpenNodes()
+    {
+        return openNodes;
+    }
+
+    /**
+     * Releases the arena after a search, nodes obtained from it must no longer be used.
+     */
+    public void release()
+    {
+        if (!pooled)
+        {
+            return;
+        }
+
+        openNodes.reset();
+        if (nodes.size() > MAX_POOLED_NODES)
+        {
+            nodes.clear();
+            nodes.trim(INITIAL_NODES);
+        }
+        else
+        {
+            nodes.clear();
+        }
+
+        for (int i = 0; i < used; i++)
+        {
+            pool[i].parent = null;
+        }
+
+        if (pool.length > MAX_POOLED_NODES)
+        {
+            pool = Arrays.copyOf(pool, MAX_POOLED_NODES);
+        }
+
+        used = 0;
+        inUse = false;
+    }
+}
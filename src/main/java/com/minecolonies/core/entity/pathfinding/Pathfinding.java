@@ -5,18 +5,15 @@ import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final ArrayBlockingQueue<Runnable> jobQueue = new ArrayBlockingQueue<>(10000, false);
-    private static       ThreadPoolExecutor           executor;
+    private static PathJobScheduler executor;
 
     /**
      * Minecolonies specific thread factory.
@@ -44,11 +41,11 @@ public final class Pathfinding
      *
      * @return the threadpool executor.
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static PathJobScheduler getExecutor()
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobScheduler(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), new MinecoloniesThreadFactory());
         }
         return executor;
     }
@@ -58,7 +55,17 @@ public final class Pathfinding
      */
     public static void shutdown()
     {
-        jobQueue.clear();
+        if (executor != null)
+        {
+            for (final Runnable queued : executor.getQueue().toArray(new Runnable[0]))
+            {
+                if (queued instanceof Future<?> future)
+                {
+                    future.cancel(false);
+                }
+            }
+            executor.purge();
+        }
     }
 
     private Pathfinding()
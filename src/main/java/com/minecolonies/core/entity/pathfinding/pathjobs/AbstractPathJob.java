@@ -5,6 +5,8 @@ import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
 import com.ldtteam.domumornamentum.block.decorative.ShingleBlock;
 import com.ldtteam.domumornamentum.block.decorative.ShingleSlabBlock;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.configuration.ServerConfiguration;
+import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
 import com.minecolonies.api.entity.pathfinding.IPathJob;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
@@ -54,6 +56,17 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     public static final int MAX_NODES = 5000;
 
+    /**
+     * Server settings a search reads, fixed for the whole search.
+     *
+     * @param nodePooling        whether the node arena of the pathfinding thread may be used.
+     * @param debugVerbosity     the pathfinding debug log level.
+     * @param minimumRailsToPath the min amount of rails to use them.
+     */
+    public record SearchSettings(boolean nodePooling, int debugVerbosity, int minimumRailsToPath)
+    {
+    }
+
     /**
      * Start position to path from.
      */
@@ -97,15 +110,20 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     protected int maxNodes;
 
+    /**
+     * Node storage of the running search.
+     */
+    private PathNodeArena nodeArena;
+
     /**
      * Queue of all open nodes.
      */
-    private Queue<MNode> nodesToVisit;
+    private MNodeHeap nodesToVisit;
 
     /**
      * Queue of all the visited nodes.
      */
-    private final Int2ObjectOpenHashMap<MNode> nodes = new Int2ObjectOpenHashMap<>();
+    private Int2ObjectOpenHashMap<MNode> nodes;
 
     /**
      * Counts of nodes
@@ -135,6 +153,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private PathingOptions pathingOptions = new PathingOptions();
 
+    /**
+     * Server settings of this job, read from the config on first use.
+     */
+    @Nullable
+    private SearchSettings searchSettings = null;
+
     /**
      * Whether the path reached its destination
      */
@@ -156,7 +180,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     private double prevHeuristicMod = 1;
 
     /**
-     * First node
+     * First node, only set while a search runs.
      */
     private MNode startNode = null;
 
@@ -182,7 +206,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         this.actualWorld = world;
 
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -206,7 +229,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     {
         range = Math.max(10, range);
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         world = chunkCache;
@@ -229,14 +251,28 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     public AbstractPathJob(final Level world, @NotNull final BlockPos start, @NotNull final BlockPos end, final PathResult result, @Nullable final Mob entity)
     {
-        // Load at least 2 chunks further around start+end, extended with more distance
-        final int expandedRange = (2 * 16) + BlockPosUtil.distManhattan(start, end) / 2;
+        this(world, createChunkCache(world, start, end), start, end, result, entity);
+    }
 
-        final int minX = Math.min(start.getX(), end.getX()) - expandedRange;
-        final int minZ = Math.min(start.getZ(), end.getZ()) - expandedRange;
-        final int maxX = Math.max(start.getX(), end.getX()) + expandedRange;
-        final int maxZ = Math.max(start.getZ(), end.getZ()) + expandedRange;
-        this.world = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+    /**
+     * AbstractPathJob constructor, over an already prepared chunk cache.
+     *
+     * @param world      the world within which to path.
+     * @param chunkCache the blocks to path through, covering start and end.
+     * @param start      the start position from which to path from.
+     * @param end        the end position.
+     * @param result     path result.
+     * @param entity     the entity.
+     */
+    protected AbstractPathJob(
+      final Level world,
+      @NotNull final ChunkCache chunkCache,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final PathResult result,
+      @Nullable final Mob entity)
+    {
+        this.world = chunkCache;
 
         // Max nodes in relation to the box area
         final int xDiff = Math.max(1, Math.abs(start.getX() - end.getX()));
@@ -246,7 +282,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         this.maxNodes =
           Math.min(MAX_NODES, 300 + Math.max(Math.max(Math.max(2, xDiff / 10) * yDiff * zDiff, xDiff * Math.max(2, yDiff / 10) * zDiff), xDiff * yDiff * Math.max(2, zDiff / 10)));
-        nodesToVisit = new PriorityQueue<>(maxNodes / 4);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -257,6 +292,26 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         this.entity = entity;
     }
 
+    /**
+     * Create the chunk cache for a path between two positions.
+     *
+     * @param world the world.
+     * @param start the start position.
+     * @param end   the end position.
+     * @return the cache.
+     */
+    protected static ChunkCache createChunkCache(final Level world, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        // Load at least 2 chunks further around start+end, extended with more distance
+        final int expandedRange = (2 * 16) + BlockPosUtil.distManhattan(start, end) / 2;
+
+        final int minX = Math.min(start.getX(), end.getX()) - expandedRange;
+        final int minZ = Math.min(start.getZ(), end.getZ()) - expandedRange;
+        final int maxX = Math.max(start.getX(), end.getX()) + expandedRange;
+        final int maxZ = Math.max(start.getZ(), end.getZ()) + expandedRange;
+        return new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -284,7 +339,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private MNode getAndSetupStartNode()
     {
-        final MNode startNode = new MNode(null, start.getX(), start.getY(), start.getZ(), 0, computeHeuristic(start.getX(), start.getY(), start.getZ()));
+        final MNode startNode = nodeArena.obtain(null, start.getX(), start.getY(), start.getZ(), 0, computeHeuristic(start.getX(), start.getY(), start.getZ()));
 
         if (PathfindingUtils.isLadder(cachedBlockLookup.getBlockState(start.getX(), start.getY(), start.getZ()), pathingOptions))
         {
@@ -313,6 +368,33 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     @Nullable
     protected Path search()
+    {
+        nodeArena = PathNodeArena.acquire(getSearchSettings().nodePooling() && !debugDrawEnabled);
+        nodes = nodeArena.getNodes();
+        nodesToVisit = nodeArena.getOpenNodes();
+
+        try
+        {
+            return searchNodes();
+        }
+        finally
+        {
+            // Pooled nodes get recycled by the next search on this thread, drop every reference into the arena
+            nodeArena.release();
+            nodeArena = null;
+            nodes = null;
+            nodesToVisit = null;
+            startNode = null;
+        }
+    }
+
+    /**
+     * Runs the A* search over the node storage of the current arena.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path searchNodes()
     {
         MNode bestNode = getAndSetupStartNode();
         double bestNodeEndScore = getEndNodeScore(bestNode);
@@ -411,8 +493,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             if (!nodesToVisit.isEmpty())
             {
                 // Search only closest nodes to the goal
-                final Queue<MNode> original = nodesToVisit;
-                nodesToVisit = new PriorityQueue<>(nodesToVisit.size(), (a, b) -> {
+                nodesToVisit.reorder((a, b) -> {
                     if ((a.getHeuristic()) < (b.getHeuristic()))
                     {
                         return -1;
@@ -426,7 +507,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                         return a.getCounterAdded() - b.getCounterAdded();
                     }
                 });
-                nodesToVisit.addAll(original);
 
                 while (!nodesToVisit.isEmpty())
                 {
@@ -511,8 +591,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 return false;
             }
 
-            for (final MNode cur : nodesToVisit)
+            for (int i = 0; i < nodesToVisit.size(); i++)
             {
+                final MNode cur = nodesToVisit.get(i);
                 if (cur.getHeuristic() >= startNode.getHeuristic() || cur.isVisited())
                 {
                     continue;
@@ -559,9 +640,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
 
             // Fix up existing heuristic values
-            final List<MNode> nodes = new ArrayList<>(nodesToVisit);
+            final MNode[] openNodes = nodesToVisit.toArray();
             nodesToVisit.clear();
-            for (final MNode recalc : nodes)
+            for (final MNode recalc : openNodes)
             {
                 recalc.setHeuristic(recalc.getHeuristic() * costPerEstimation);
                 nodesToVisit.offer(recalc);
@@ -799,8 +880,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     private MNode createNode(
       final MNode parent, final int x, final int y, final int z, final int nodeKey, final double heuristic, final double cost)
     {
-        final MNode node;
-        node = new MNode(parent, x, y, z, cost, heuristic);
+        final MNode node = nodeArena.obtain(parent, x, y, z, cost, heuristic);
         nodes.put(nodeKey, node);
         if (debugDrawEnabled)
         {
@@ -1050,7 +1130,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
 
             final PathPointExtended p = new PathPointExtended(pos);
-            if (railsLength >= MineColonies.getConfig().getServer().minimumRailsToPath.get())
+            if (railsLength >= getSearchSettings().minimumRailsToPath())
             {
                 p.setOnRails(node.isOnRails());
                 if (p.isOnRails() && (!node.parent.isOnRails() || node.parent.parent == null))
@@ -1581,7 +1661,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             addNodeToDebug(node);
         }
 
-        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() == DEBUG_VERBOSITY_FULL)
+        if (getSearchSettings().debugVerbosity() == DEBUG_VERBOSITY_FULL)
         {
             Log.getLogger().info(String.format("Examining node [%d,%d,%d] ; c=%f ; h=%f",
               node.x, node.y, node.z, node.getCost(), node.getHeuristic()));
@@ -1629,7 +1709,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private void doDebugPrinting(@NotNull final Node[] points)
     {
-        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        if (getSearchSettings().debugVerbosity() > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info("Path found:");
 
@@ -1718,6 +1798,46 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return pathingOptions;
     }
 
+    /**
+     * Get the server settings of this job, read from the config once instead of on every node.
+     *
+     * @return the settings.
+     */
+    public SearchSettings getSearchSettings()
+    {
+        if (searchSettings == null)
+        {
+            final ServerConfiguration config = MineColonies.getConfig().getServer();
+            searchSettings = new SearchSettings(config.pathfindingNodePooling.get(), config.pathfindingDebugVerbosity.get(), config.minimumRailsToPath.get());
+        }
+        return searchSettings;
+    }
+
+    /**
+     * Sets the server settings of this job, instead of reading them from the config.
+     *
+     * @param searchSettings the settings to use.
+     */
+    public void setSearchSettings(@NotNull final SearchSettings searchSettings)
+    {
+        this.searchSettings = searchSettings;
+    }
+
+    /**
+     * Scheduling class of this job, evaluated on submission.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        if (entity instanceof AbstractEntityRaiderMob || (entity != null && entity.getTarget() != null))
+        {
+            return PathJobPriority.COMBAT;
+        }
+
+        return PathJobPriority.WORK;
+    }
+
     @Override
     public Mob getEntity()
     {
@@ -4,12 +4,12 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.ShapeUtil;
 import com.minecolonies.api.util.constant.ColonyConstants;
-import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.entity.pathfinding.MNode;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.navigation.IDynamicHeuristicNavigator;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import com.minecolonies.core.entity.pathfinding.world.ChunkCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
@@ -48,7 +48,28 @@ public class PathJobMoveToLocation extends AbstractPathJob
      */
     public PathJobMoveToLocation(final Level world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final Mob entity)
     {
-        super(world, start, end, new PathResult<PathJobMoveToLocation>(), entity);
+        this(world, createChunkCache(world, start, end), start, end, range, entity);
+    }
+
+    /**
+     * Prepares the PathJob for the path finding system, over an already prepared chunk cache.
+     *
+     * @param world      world the entity is in.
+     * @param chunkCache the blocks to path through, covering start and end.
+     * @param start      starting location.
+     * @param end        target location.
+     * @param range      max search range.
+     * @param entity     the entity.
+     */
+    public PathJobMoveToLocation(
+      final Level world,
+      @NotNull final ChunkCache chunkCache,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final int range,
+      @Nullable final Mob entity)
+    {
+        super(world, chunkCache, start, end, new PathResult<PathJobMoveToLocation>(), entity);
 
         maxNodes += range;
         this.destination = new BlockPos(end);
@@ -72,7 +93,7 @@ public class PathJobMoveToLocation extends AbstractPathJob
     @Override
     protected Path search()
     {
-        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        if (getSearchSettings().debugVerbosity() > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info(String.format("Pathfinding from [%d,%d,%d] to [%d,%d,%d]",
               start.getX(), start.getY(), start.getZ(), destination.getX(), destination.getY(), destination.getZ()));
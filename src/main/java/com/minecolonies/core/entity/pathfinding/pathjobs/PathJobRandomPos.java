@@ -8,6 +8,7 @@ import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
@@ -175,4 +176,11 @@ public class PathJobRandomPos extends AbstractPathJob
     {
         return destination != null && pos != null && range == maxDistToDest && destination.equals(pos);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        // Wandering is optional, unless used to get away from a fight
+        return super.getPriority() == PathJobPriority.COMBAT ? PathJobPriority.COMBAT : PathJobPriority.IDLE;
+    }
 }
@@ -5,6 +5,7 @@ import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.entity.Mob;
@@ -67,4 +68,11 @@ public class PathJobWalkRandomEdge extends AbstractPathJob
     {
         return BlockPosUtil.distManhattan(start, n.x, n.y, n.z);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        // Wandering is optional, unless used to get away from a fight
+        return super.getPriority() == PathJobPriority.COMBAT ? PathJobPriority.COMBAT : PathJobPriority.IDLE;
+    }
 }
@@ -10,6 +10,7 @@ import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -281,6 +282,12 @@ public class PathResult<T extends AbstractPathJob>
             setStatus(PathFindingStatus.CALCULATION_COMPLETE);
             job.syncDebug(getDebugWatchers());
         }
+        catch (CancellationException e)
+        {
+            // Shed or superseded by the scheduler
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CANCELLED);
+        }
         catch (InterruptedException | ExecutionException e)
         {
             Log.getLogger().catching(e);
@@ -99,19 +99,7 @@ public class CachingBlockLookup implements BlockGetter
             BlockState state = states[index];
             if (state == null)
             {
-                if (chunk == null || chunk.getPos().x != x >> 4 || chunk.getPos().z != z >> 4)
-                {
-                    chunk = world.getChunk(x >> 4, z >> 4, ChunkStatus.FULL, false);
-                }
-
-                if (chunk != null)
-                {
-                    state = chunk.getBlockState(temp.set(x, y, z));
-                }
-                else
-                {
-                    state = world.getBlockState(temp.set(x, y, z));
-                }
+                state = lookupState(x, y, z);
 
                 states[index] = state;
             }
@@ -120,6 +108,34 @@ public class CachingBlockLookup implements BlockGetter
         }
     }
 
+    /**
+     * Reads a blockstate from the underlying world, through the chunk sections of a chunk cache if available
+     *
+     * @param x
+     * @param y
+     * @param z
+     * @return
+     */
+    private BlockState lookupState(final int x, final int y, final int z)
+    {
+        if (world instanceof ChunkCache chunkCache)
+        {
+            return chunkCache.getBlockState(x, y, z);
+        }
+
+        if (chunk == null || chunk.getPos().x != x >> 4 || chunk.getPos().z != z >> 4)
+        {
+            chunk = world.getChunk(x >> 4, z >> 4, ChunkStatus.FULL, false);
+        }
+
+        if (chunk != null)
+        {
+            return chunk.getBlockState(temp.set(x, y, z));
+        }
+
+        return world.getBlockState(temp.set(x, y, z));
+    }
+
     /**
      * Resets the cache's position and data
      */
@@ -20,6 +20,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.border.WorldBorder;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.Heightmap;
@@ -35,6 +36,13 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nullable;
 import java.util.List;
 
+/**
+ * Read only view of the chunks in range of a path job, taken on the server thread and read on the pathfinding thread.
+ * <p>
+ * Only the chunk references are captured, block states come from the live chunk sections. There is deliberately no shared per colony snapshot cache of copied
+ * sections: copying them on the server thread is the setup cost a cache would have to save, copying them on the pathfinding thread races with block updates, and a
+ * version bumped from block change events misses block changes which fire no event, so snapshots could stay stale.
+ */
 public class ChunkCache implements LevelReader
 {
     /**
@@ -89,6 +97,22 @@ public class ChunkCache implements LevelReader
         maxBuildHeight = worldIn.getMaxBuildHeight();
     }
 
+    /**
+     * Cache without chunks, for subclasses which supply the blocks themselves.
+     *
+     * @param dimType        the dimension type.
+     * @param minBuildHeight the min build height.
+     * @param maxBuildHeight the max build height.
+     */
+    protected ChunkCache(final DimensionType dimType, final int minBuildHeight, final int maxBuildHeight)
+    {
+        this.dimType = dimType;
+        this.chunkArray = new LevelChunk[0][0];
+        this.empty = true;
+        this.minBuildHeight = minBuildHeight;
+        this.maxBuildHeight = maxBuildHeight;
+    }
+
     /**
      * set by !chunk.getAreLevelsEmpty
      *
@@ -135,10 +159,33 @@ public class ChunkCache implements LevelReader
     @Override
     public BlockState getBlockState(BlockPos pos)
     {
-        if (pos.getY() >= getMinBuildHeight() && pos.getY() < getMaxBuildHeight())
+        return getBlockState(pos.getX(), pos.getY(), pos.getZ(), pos);
+    }
+
+    /**
+     * Get the block state at the given position.
+     *
+     * @return the state, air if not loaded.
+     */
+    @NotNull
+    public BlockState getBlockState(final int x, final int y, final int z)
+    {
+        return getBlockState(x, y, z, null);
+    }
+
+    /**
+     * Get the block state at the given position, read straight from the live chunk section.
+     *
+     * @param pos the position as block pos, created when needed if null.
+     * @return the state, air if not loaded.
+     */
+    @NotNull
+    private BlockState getBlockState(final int x, final int y, final int z, @Nullable final BlockPos pos)
+    {
+        if (y >= getMinBuildHeight() && y < getMaxBuildHeight())
         {
-            int i = (pos.getX() >> 4) - this.chunkX;
-            int j = (pos.getZ() >> 4) - this.chunkZ;
+            int i = (x >> 4) - this.chunkX;
+            int j = (z >> 4) - this.chunkZ;
 
             if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
             {
@@ -146,7 +193,14 @@ public class ChunkCache implements LevelReader
 
                 if (chunk != null)
                 {
-                    return chunk.getBlockState(pos);
+                    final int sectionIndex = chunk.getSectionIndex(y);
+                    final LevelChunkSection[] sections = chunk.getSections();
+                    if (sectionIndex >= 0 && sectionIndex < sections.length)
+                    {
+                        final LevelChunkSection section = sections[sectionIndex];
+                        return section == null || section.hasOnlyAir() ? Blocks.AIR.defaultBlockState() : section.getBlockState(x & 15, y & 15, z & 15);
+                    }
+                    return chunk.getBlockState(pos == null ? new BlockPos(x, y, z) : pos);
                 }
             }
         }
@@ -58,6 +58,7 @@ public class DataPackSyncEventHandler
             Log.getLogger().warn("Starting Compat Discovery");
             FurnaceRecipes.getInstance().loadRecipes(server.getRecipeManager(), server.overworld());
             IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().discover(server.getRecipeManager(), server.overworld());
+            UpdateClientWithCompatibilityMessage.invalidate();
             CustomRecipeManager.getInstance().resolveTemplates(server.registryAccess());
             CustomRecipeManager.getInstance().buildLootData(server.overworld());
         }
@@ -66,7 +67,7 @@ public class DataPackSyncEventHandler
          * Send custom sync packets to the given player.
          *
          * @param player    the player to send the sync packets to.
-         * @param compatMsg a cached copy of this message, to avoid rebuilding it for each player.
+         * @param compatMsg the shared copy of this message, to avoid rebuilding it for each player.
          */
         private static void sendPackets(@NotNull final ServerPlayer player,
                                         @NotNull final UpdateClientWithCompatibilityMessage compatMsg)
@@ -98,7 +99,7 @@ public class DataPackSyncEventHandler
                 discoverCompatLists(server);
 
                 // and then finally update every player with the results
-                final UpdateClientWithCompatibilityMessage compatMsg = new UpdateClientWithCompatibilityMessage(server.registryAccess());
+                final UpdateClientWithCompatibilityMessage compatMsg = UpdateClientWithCompatibilityMessage.getCurrent(server.registryAccess());
                 for (final ServerPlayer player : event.getPlayerList().getPlayers())
                 {
                     if (player.getGameProfile() != owner)   // don't need to send them in SP, or LAN owner
@@ -109,7 +110,7 @@ public class DataPackSyncEventHandler
             }
             else if (event.getPlayer().getGameProfile() != owner)
             {
-                sendPackets(event.getPlayer(), new UpdateClientWithCompatibilityMessage(server.registryAccess()));
+                sendPackets(event.getPlayer(), UpdateClientWithCompatibilityMessage.getCurrent(server.registryAccess()));
             }
 
             if (MineColonies.getConfig().getServer().auditCraftingTags.get() &&
@@ -139,6 +140,7 @@ public class DataPackSyncEventHandler
         public static void reset()
         {
             loaded = false;
+            UpdateClientWithCompatibilityMessage.invalidate();
         }
     }
 
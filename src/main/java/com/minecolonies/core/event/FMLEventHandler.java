@@ -1,9 +1,12 @@
 package com.minecolonies.core.event;
 
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.util.BlueprintFootprint;
 import com.minecolonies.core.datalistener.*;
+import com.minecolonies.core.entity.citizen.CitizenLodStats;
 import com.minecolonies.core.entity.pathfinding.Pathfinding;
 import com.minecolonies.core.util.BackUpHelper;
+import com.minecolonies.core.util.ChunkClaimQueue;
 import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
@@ -11,6 +14,7 @@ import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.server.ServerAboutToStartEvent;
 import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
@@ -26,6 +30,7 @@ public class FMLEventHandler
     {
         IColonyManager.getInstance().onServerTick(event);
         DataPackSyncEventHandler.ServerEvents.load(event.getServer());
+        ChunkClaimQueue.onServerTick(event.getServer());
     }
 
     @SubscribeEvent
@@ -77,7 +82,17 @@ public class FMLEventHandler
     @SubscribeEvent
     public static void onServerStopped(@NotNull final ServerStoppingEvent event)
     {
+        ChunkClaimQueue.flush(event.getServer());
         Pathfinding.shutdown();
         DataPackSyncEventHandler.ServerEvents.reset();
+        CitizenLodStats.reset();
+        BlueprintFootprint.clearCache();
+    }
+
+    @SubscribeEvent
+    public static void onServerHasStopped(@NotNull final ServerStoppedEvent event)
+    {
+        // Barrier for colony files still being written after the worlds unloaded
+        BackUpHelper.waitForPendingBackups();
     }
 }
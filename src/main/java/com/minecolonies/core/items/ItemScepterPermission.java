@@ -28,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -70,7 +71,8 @@ public class ItemScepterPermission extends AbstractItemMinecolonies implements I
                 : ChangeFreeToInteractBlockMessage.MessageType.ADD_BLOCK;
         final ChangeFreeToInteractBlockMessage message = new ChangeFreeToInteractBlockMessage(
           iColonyView,
-          block,
+          Collections.emptyList(),
+          List.of(block),
           type);
         message.sendToServer();
 
@@ -87,7 +89,7 @@ public class ItemScepterPermission extends AbstractItemMinecolonies implements I
         final ChangeFreeToInteractBlockMessage.MessageType type = Screen.hasControlDown()
                 ? ChangeFreeToInteractBlockMessage.MessageType.REMOVE_BLOCK
                 : ChangeFreeToInteractBlockMessage.MessageType.ADD_BLOCK;
-        final ChangeFreeToInteractBlockMessage message = new ChangeFreeToInteractBlockMessage(iColonyView, pos, type);
+        final ChangeFreeToInteractBlockMessage message = new ChangeFreeToInteractBlockMessage(iColonyView, List.of(pos), Collections.emptyList(), type);
         message.sendToServer();
 
         return InteractionResult.SUCCESS;
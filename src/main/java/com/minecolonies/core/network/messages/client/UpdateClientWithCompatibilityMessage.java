@@ -1,11 +1,13 @@
 package com.minecolonies.core.network.messages.client;
 
+import com.google.common.hash.Hashing;
 import com.ldtteam.common.network.AbstractClientPlayMessage;
 import com.ldtteam.common.network.PlayMessageType;
 import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.core.util.FurnaceRecipes;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -15,15 +17,47 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Message to update the recipes on the client side.
+ * <p>
+ * The payload is serialized and compressed once per discovery and shared by all players. It carries a fingerprint of the uncompressed data, clients which already applied the
+ * same data on this connection skip it, which makes reloads without changes cheap.
  */
 public class UpdateClientWithCompatibilityMessage extends AbstractClientPlayMessage
 {
     public static final PlayMessageType<?> TYPE = PlayMessageType.forClient(Constants.MOD_ID, "update_client_with_compatibility", UpdateClientWithCompatibilityMessage::new, true, false);
 
-    private final RegistryFriendlyByteBuf buffer;
+    /**
+     * Server side message of the current discovery, reused until the next discovery.
+     */
+    @Nullable
+    private static UpdateClientWithCompatibilityMessage cachedMessage;
+
+    /**
+     * Client side fingerprint of the last applied payload and the registries it was applied with.
+     */
+    private static long           appliedFingerprint;
+    @Nullable
+    private static RegistryAccess appliedRegistries;
+
+    /**
+     * Fingerprint of the uncompressed payload.
+     */
+    private final long fingerprint;
+
+    /**
+     * The compressed payload.
+     */
+    private final byte[] payload;
 
     /**
      * Message creation.
@@ -31,35 +65,114 @@ public class UpdateClientWithCompatibilityMessage extends AbstractClientPlayMess
     public UpdateClientWithCompatibilityMessage(@NotNull RegistryAccess provider)
     {
         super(TYPE);
-        this.buffer = new RegistryFriendlyByteBuf(new FriendlyByteBuf(Unpooled.buffer()), provider);
-        IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(this.buffer);
+        final RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(new FriendlyByteBuf(Unpooled.buffer()), provider);
+        IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(buffer);
+
+        final byte[] data = ByteBufUtil.getBytes(buffer);
+        buffer.release();
+        this.fingerprint = Hashing.murmur3_128().hashBytes(data).asLong();
+        this.payload = compress(data);
     }
 
     protected UpdateClientWithCompatibilityMessage(final RegistryFriendlyByteBuf buf, final PlayMessageType<?> type)
     {
         super(buf, type);
-        this.buffer = new RegistryFriendlyByteBuf(new FriendlyByteBuf(Unpooled.wrappedBuffer(buf.readByteArray())), buf.registryAccess());
+        this.fingerprint = buf.readLong();
+        this.payload = buf.readByteArray();
+    }
+
+    /**
+     * Get the message for the current discovery results, building it on first use.
+     *
+     * @param provider the server registries.
+     * @return the shared message.
+     */
+    public static UpdateClientWithCompatibilityMessage getCurrent(@NotNull final RegistryAccess provider)
+    {
+        if (cachedMessage == null)
+        {
+            cachedMessage = new UpdateClientWithCompatibilityMessage(provider);
+            Log.getLogger().info("Compatibility sync payload is {} bytes compressed", cachedMessage.payload.length);
+        }
+        return cachedMessage;
+    }
+
+    /**
+     * Drops the shared message, has to be called whenever the discovery results change.
+     */
+    public static void invalidate()
+    {
+        cachedMessage = null;
     }
 
     @Override
     protected void toBytes(@NotNull final RegistryFriendlyByteBuf buf)
     {
-        buf.writeByteArray(this.buffer.array());
-        this.buffer.resetWriterIndex();
+        buf.writeLong(fingerprint);
+        buf.writeByteArray(payload);
     }
 
     @Override
     protected void onExecute(final IPayloadContext ctxIn, final Player player)
     {
         final ClientLevel world = Minecraft.getInstance().level;
+        if (fingerprint == appliedFingerprint && world.registryAccess() == appliedRegistries)
+        {
+            Log.getLogger().info("Compatibility data unchanged, skipping synchronization");
+            return;
+        }
+
         FurnaceRecipes.getInstance().loadUtilityPredicates();
+        final RegistryFriendlyByteBuf buffer =
+          new RegistryFriendlyByteBuf(new FriendlyByteBuf(Unpooled.wrappedBuffer(decompress(payload))), world.registryAccess());
         try
         {
-            IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().deserialize(this.buffer, world);
+            IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().deserialize(buffer, world);
+            appliedFingerprint = fingerprint;
+            appliedRegistries = world.registryAccess();
         }
         catch (Exception e)
         {
+            appliedRegistries = null;
             Log.getLogger().error("Failed to load compatibility manager", e);
         }
     }
+
+    /**
+     * Deflate the payload.
+     *
+     * @param data the uncompressed data.
+     * @return the compressed data.
+     */
+    private static byte[] compress(final byte[] data)
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (final DeflaterOutputStream deflater = new DeflaterOutputStream(out))
+        {
+            deflater.write(data);
+        }
+        catch (final IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Inflate the payload.
+     *
+     * @param data the compressed data.
+     * @return the uncompressed data.
+     */
+    private static byte[] decompress(final byte[] data)
+    {
+        try (final InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(data)))
+        {
+            return inflater.readAllBytes();
+        }
+        catch (final IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -7,18 +7,22 @@ import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.core.network.messages.server.AbstractColonyServerMessage;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
 /**
@@ -29,61 +33,89 @@ public class ChangeFreeToInteractBlockMessage extends AbstractColonyServerMessag
     public static final PlayMessageType<?> TYPE = PlayMessageType.forServer(Constants.MOD_ID, "change_free_to_interact_block", ChangeFreeToInteractBlockMessage::new);
 
     /**
-     * The position of the free to interact block.
+     * Max amount of positions and of blocks in one message.
      */
-    private final BlockPos pos;
+    public static final int MAX_BATCH_SIZE = 256;
 
     /**
-     * The blockState which can be freely interacted with.
+     * The positions which can be freely interacted with.
      */
-    private final BlockState block;
+    private final List<BlockPos> positions;
 
     /**
-     * The type of the
+     * The blocks which can be freely interacted with.
      */
-    private final MessageType msgType;
-    private final MessageMode msgMode;
+    private final List<Block> blocks;
 
     /**
-     * Message creation to add a new freely interactable block to the colony.
-     *
-     * @param colony Colony the block can be interacted with in.
-     * @param block  the blockState.
-     * @param type   the type of
+     * The type of the
      */
-    public ChangeFreeToInteractBlockMessage(@NotNull final IColonyView colony, @NotNull final Block block, @NotNull final MessageType type)
-    {
-        super(TYPE, colony);
-        this.pos = new BlockPos(0, 0, 0);
-        this.block = block.defaultBlockState();
-        this.msgType = type;
-        this.msgMode = MessageMode.BLOCK;
-    }
+    private final MessageType msgType;
 
     /**
-     * Message creation to add a new freely interactable position to the colony.
+     * Message creation to add or remove freely interactable positions and blocks, at most {@link #MAX_BATCH_SIZE} of each.
      *
-     * @param colony Colony the position can be interacted with in.
-     * @param pos    the position.
-     * @param type   the type of
+     * @param colony    Colony the positions and blocks can be interacted with in.
+     * @param positions the positions.
+     * @param blocks    the blocks.
+     * @param type      the type of
      */
-    public ChangeFreeToInteractBlockMessage(@NotNull final IColonyView colony, @NotNull final BlockPos pos, @NotNull final MessageType type)
+    public ChangeFreeToInteractBlockMessage(
+      @NotNull final IColonyView colony,
+      @NotNull final Collection<BlockPos> positions,
+      @NotNull final Collection<Block> blocks,
+      @NotNull final MessageType type)
     {
         super(TYPE, colony);
-        this.pos = pos;
-        this.block = Blocks.DIRT.defaultBlockState();
+        if (positions.size() > MAX_BATCH_SIZE || blocks.size() > MAX_BATCH_SIZE)
+        {
+            throw new IllegalArgumentException("Too many free interaction changes in one message: " + positions.size() + " positions, " + blocks.size() + " blocks");
+        }
+        this.positions = new ArrayList<>(positions);
+        this.blocks = new ArrayList<>(blocks);
         this.msgType = type;
-        this.msgMode = MessageMode.LOCATION;
     }
 
     protected ChangeFreeToInteractBlockMessage(final RegistryFriendlyByteBuf buf, final PlayMessageType<?> type)
     {
         super(buf, type);
 
-        block = Block.stateById(buf.readInt());
-        pos = buf.readBlockPos();
+        final int positionCount = readBatchSize(buf);
+        positions = new ArrayList<>(positionCount);
+        for (int i = 0; i < positionCount; i++)
+        {
+            positions.add(buf.readBlockPos());
+        }
+
+        final int blockCount = readBatchSize(buf);
+        blocks = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++)
+        {
+            final int stateId = buf.readVarInt();
+            final BlockState state = Block.BLOCK_STATE_REGISTRY.byId(stateId);
+            if (state == null)
+            {
+                throw new DecoderException("Unknown block state id " + stateId);
+            }
+            blocks.add(state.getBlock());
+        }
         msgType = MessageType.values()[buf.readInt()];
-        msgMode = MessageMode.values()[buf.readInt()];
+    }
+
+    /**
+     * Read the size of a batch sent by the client, rejecting sizes above {@link #MAX_BATCH_SIZE} before anything gets allocated.
+     *
+     * @param buf the buffer.
+     * @return the size.
+     */
+    private static int readBatchSize(final RegistryFriendlyByteBuf buf)
+    {
+        final int size = buf.readVarInt();
+        if (size < 0 || size > MAX_BATCH_SIZE)
+        {
+            throw new DecoderException("Invalid free interaction batch size " + size);
+        }
+        return size;
     }
 
     @Override
@@ -91,10 +123,18 @@ public class ChangeFreeToInteractBlockMessage extends AbstractColonyServerMessag
     {
         super.toBytes(buf);
 
-        buf.writeInt(Block.getId(block));
-        buf.writeBlockPos(pos);
+        buf.writeVarInt(positions.size());
+        for (final BlockPos pos : positions)
+        {
+            buf.writeBlockPos(pos);
+        }
+
+        buf.writeVarInt(blocks.size());
+        for (final Block block : blocks)
+        {
+            buf.writeVarInt(Block.getId(block.defaultBlockState()));
+        }
         buf.writeInt(msgType.ordinal());
-        buf.writeInt(msgMode.ordinal());
     }
 
     @Nullable
@@ -112,37 +152,34 @@ public class ChangeFreeToInteractBlockMessage extends AbstractColonyServerMessag
             return;
         }
 
-        if (msgType == MessageType.ADD_BLOCK)
+        final boolean add = msgType == MessageType.ADD_BLOCK;
+        if (add)
         {
-            switch (msgMode)
-            {
-                case LOCATION:
-                    colony.addFreePosition(pos);
-                    MessageUtils.format(MESSAGE_PERMISSION_SCEPTER_ADD_POSITION_SUCCESS, pos.getX(), pos.getY(), pos.getZ()).sendTo(player);
-                    break;
-                case BLOCK:
-                    colony.addFreeBlock(block.getBlock());
-                    MessageUtils.format(MESSAGE_PERMISSION_SCEPTER_ADD_BLOCK_SUCCESS, BuiltInRegistries.BLOCK.getKey(block.getBlock())).sendTo(player);
-                    break;
-                default:
-                    // Error!
-            }
+            colony.addFreePositions(positions);
+            colony.addFreeBlocks(blocks);
         }
         else
         {
-            switch (msgMode)
-            {
-                case LOCATION:
-                    colony.removeFreePosition(pos);
-                    MessageUtils.format(MESSAGE_PERMISSION_SCEPTER_REMOVE_POSITION_SUCCESS, pos.getX(), pos.getY(), pos.getZ()).sendTo(player);
-                    break;
-                case BLOCK:
-                    colony.removeFreeBlock(block.getBlock());
-                    MessageUtils.format(MESSAGE_PERMISSION_SCEPTER_REMOVE_BLOCK_SUCCESS, BuiltInRegistries.BLOCK.getKey(block.getBlock())).sendTo(player);
-                    break;
-                default:
-                    // Error!
-            }
+            colony.removeFreePositions(positions);
+            colony.removeFreeBlocks(blocks);
+        }
+
+        // A single change names what changed, a batch gets one summary
+        if (positions.size() + blocks.size() > 1)
+        {
+            MessageUtils.format(add ? MESSAGE_PERMISSION_SCEPTER_ADD_BATCH_SUCCESS : MESSAGE_PERMISSION_SCEPTER_REMOVE_BATCH_SUCCESS, blocks.size(), positions.size())
+              .sendTo(player);
+        }
+        else if (!positions.isEmpty())
+        {
+            final BlockPos pos = positions.get(0);
+            MessageUtils.format(add ? MESSAGE_PERMISSION_SCEPTER_ADD_POSITION_SUCCESS : MESSAGE_PERMISSION_SCEPTER_REMOVE_POSITION_SUCCESS, pos.getX(), pos.getY(), pos.getZ())
+              .sendTo(player);
+        }
+        else if (!blocks.isEmpty())
+        {
+            MessageUtils.format(add ? MESSAGE_PERMISSION_SCEPTER_ADD_BLOCK_SUCCESS : MESSAGE_PERMISSION_SCEPTER_REMOVE_BLOCK_SUCCESS, BuiltInRegistries.BLOCK.getKey(blocks.get(0)))
+              .sendTo(player);
         }
     }
 
@@ -156,13 +193,4 @@ public class ChangeFreeToInteractBlockMessage extends AbstractColonyServerMessag
         REMOVE_BLOCK,
         ADD_BLOCK,
     }
-
-    /**
-     * Enums of modes this message exists.
-     */
-    public enum MessageMode
-    {
-        LOCATION,
-        BLOCK,
-    }
 }
@@ -9,6 +9,7 @@ import com.minecolonies.api.research.IGlobalResearchBranch;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.research.IResearchRequirement;
 import com.minecolonies.api.research.effects.IResearchEffect;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
 import io.netty.buffer.Unpooled;
@@ -118,6 +119,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
         for (IResearchEffect<?> effect : research.getEffects())
         {
             researchEffectsIds.computeIfAbsent(effect.getId(), id -> new HashSet<>()).add(research);
+            ResearchEffectHandle.of(effect.getId());
         }
         if (research.isAutostart())
         {
@@ -2,9 +2,11 @@ package com.minecolonies.core.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strengths of the global research effects, indexed by {@link ResearchEffectHandle#getIndex()}. Effects without a slot have no strength.
+     */
+    private double[] strengths = new double[0];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,14 +39,15 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
-        {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
-        }
-        return 0;
+        final ResearchEffectHandle handle = ResearchEffectHandle.get(id);
+        return handle == null ? 0 : getEffectStrength(handle);
+    }
+
+    @Override
+    public double getEffectStrength(@NotNull final ResearchEffectHandle handle)
+    {
+        final double[] current = strengths;
+        return handle.getIndex() < current.length ? current[handle.getIndex()] : 0;
     }
 
     @Override
@@ -51,11 +59,13 @@ public class ResearchEffectManager implements IResearchEffectManager
             if (effect.overrides(effectInMap))
             {
                 effectMap.put(effect.getId(), effect);
+                compile(effect);
             }
         }
         else
         {
             effectMap.put(effect.getId(), effect);
+            compile(effect);
         }
     }
 
@@ -63,5 +73,23 @@ public class ResearchEffectManager implements IResearchEffectManager
     public void removeAllEffects()
     {
         effectMap.clear();
+        strengths = new double[ResearchEffectHandle.count()];
+    }
+
+    /**
+     * Write the strength of a newly applied effect to the strength table, growing it if the effect got its index after the last growth.
+     *
+     * @param effect the applied effect.
+     */
+    private void compile(final IResearchEffect<?> effect)
+    {
+        final int index = ResearchEffectHandle.of(effect.getId()).getIndex();
+        double[] updated = strengths;
+        if (index >= updated.length)
+        {
+            updated = Arrays.copyOf(updated, Math.max(index + 1, ResearchEffectHandle.count()));
+        }
+        updated[index] = effect instanceof GlobalResearchEffect globalEffect ? globalEffect.getEffect() : 0;
+        strengths = updated;
     }
 }
@@ -299,6 +299,18 @@ public class TileEntityColonyBuilding extends AbstractTileEntityColonyBuilding i
         {
             building.setTileEntity(null);
         }
+        else if (colonyId != 0 && level != null && !level.isClientSide)
+        {
+            final IColony loadedColony = IColonyManager.getInstance().getColonyByWorld(colonyId, level);
+            if (loadedColony != null)
+            {
+                final IBuilding loadedBuilding = loadedColony.getBuildingManager().getBuilding(getPosition());
+                if (loadedBuilding != null)
+                {
+                    loadedBuilding.invalidateContentIndex();
+                }
+            }
+        }
     }
 
     /**
@@ -9,8 +9,12 @@ import com.ldtteam.structurize.blueprints.v1.DataVersion;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemVariantKey;
+import com.minecolonies.api.inventory.ContainerContentIndex;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
@@ -19,6 +23,7 @@ import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.objects.ReferenceArraySet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -69,9 +74,14 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     private byte version = 0;
 
     /**
-     * The content of the chest.
+     * The content of the chest. Every key is a distinct variant, so the keys are compared by identity.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemStorage, Integer> content = new IdentityHashMap<>();
+
+    /**
+     * The content keys by their variant, for exact lookups.
+     */
+    private final Map<ItemVariantKey, ItemStorage> contentKeys = new HashMap<>();
 
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
@@ -122,6 +132,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
      */
     private boolean checkedAfterStartup = false;
 
+    /**
+     * Building content indexes tracking this rack.
+     */
+    private final Set<ContainerContentIndex> trackingIndexes = new ReferenceArraySet<>(1);
+
     /**
      * Create a new rack.
      * @param type the specific block entity type.
@@ -175,7 +190,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     {
         final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
 
-        return content.getOrDefault(checkItem, 0) >= count;
+        return getCount(checkItem) >= count;
     }
 
     @Override
@@ -196,15 +211,10 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     {
         if (storage.ignoreDamageValue() || storage.ignoreNBT())
         {
-            if (!content.containsKey(storage))
-            {
-                return 0;
-            }
-
             int count = 0;
             for (final Map.Entry<ItemStorage, Integer> contentStorage : content.entrySet())
             {
-                if (contentStorage.getKey().equals(storage))
+                if (contentStorage.getKey().getItem() == storage.getItem() && contentStorage.getKey().equals(storage))
                 {
                     count += contentStorage.getValue();
                 }
@@ -212,7 +222,8 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
             return count;
         }
 
-        return content.getOrDefault(storage, 0);
+        final ItemStorage contentStorage = contentKeys.get(ItemVariantKey.lookup(storage));
+        return contentStorage == null ? 0 : content.get(contentStorage);
     }
 
     @Override
@@ -232,9 +243,12 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
         final ItemStorage checkItem = new ItemStorage(stack, true, true);
-        if (content.containsKey(checkItem))
+        for (final ItemStorage storage : content.keySet())
         {
-            return true;
+            if (storage.getItem() == checkItem.getItem())
+            {
+                return true;
+            }
         }
 
         for (final ItemStorage storage : content.keySet())
@@ -295,6 +309,10 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         {
             final boolean beforeEmpty = content.isEmpty();
             updateContent();
+            for (final ContainerContentIndex index : trackingIndexes)
+            {
+                index.update(worldPosition, content);
+            }
             if (getBlockState().getBlock() == ModBlocks.blockRack)
             {
                 boolean afterEmpty = content.isEmpty();
@@ -330,6 +348,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     private void updateContent()
     {
         content.clear();
+        contentKeys.clear();
         freeSlots = 0;
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
@@ -341,13 +360,13 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            ItemStorage storage = contentKeys.get(ItemVariantKey.lookup(stack));
+            if (storage == null)
             {
-                amount += content.remove(storage);
+                storage = new ItemStorage(stack.copy());
+                contentKeys.put(ItemVariantKey.of(stack), storage);
             }
-            content.put(storage, amount);
+            content.merge(storage, ItemStackUtils.getSize(stack), Integer::sum);
         }
     }
 
@@ -415,6 +434,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         }
 
         updateContent();
+        invalidateTrackingIndexes();
 
         this.inWarehouse = compound.getBoolean(TAG_IN_WAREHOUSE);
         if (compound.contains(TAG_POS))
@@ -563,6 +583,47 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     {
         super.setRemoved();
         invalidateCap();
+        invalidateTrackingIndexes();
+        trackingIndexes.clear();
+    }
+
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (level != null && !level.isClientSide && !buildingPos.equals(BlockPos.ZERO) && IColonyManager.getInstance().isCoordinateInAnyColony(level, worldPosition))
+        {
+            final IColony colony = IColonyManager.getInstance().getClosestColony(level, worldPosition);
+            if (colony != null)
+            {
+                final IBuilding building = colony.getBuildingManager().getBuilding(buildingPos);
+                if (building != null)
+                {
+                    building.invalidateContentIndex();
+                }
+            }
+        }
+    }
+
+    /**
+     * Let a building content index receive the content updates of this rack.
+     *
+     * @param index the index.
+     */
+    public void trackContentIn(@NotNull final ContainerContentIndex index)
+    {
+        trackingIndexes.add(index);
+    }
+
+    /**
+     * Invalidates all indexes tracking this rack, used when the content changes in a way the indexes can't follow.
+     */
+    private void invalidateTrackingIndexes()
+    {
+        for (final ContainerContentIndex index : trackingIndexes)
+        {
+            index.invalidate();
+        }
     }
 
     /**
@@ -1,6 +1,5 @@
 package com.minecolonies.core.util;
 
-import com.google.common.io.Files;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
@@ -23,12 +22,16 @@ import net.neoforged.neoforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -62,6 +65,40 @@ public final class BackUpHelper
     public static        long lastBackupTime          = 0;
     private static final long MAX_TIME_TO_NEXT_BACKUP = 1000 * 60 * 5;
 
+    /**
+     * Backup thread, runs backups and backup file operations in submission order.
+     */
+    private static final ExecutorService BACKUP_EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Backup Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Backup errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Amount of threads encoding and writing colony files in parallel.
+     */
+    private static final int COLONY_IO_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    /**
+     * Colony file writers, only fed by the backup thread.
+     */
+    private static final ExecutorService COLONY_IO_EXECUTOR = Executors.newFixedThreadPool(COLONY_IO_THREADS, runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Colony IO Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony IO errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Last written tag of each colony, by colony file name. Backup thread only.
+     * <p>
+     * Colonies keep their current tag cached themselves, so this holds no data of its own, apart from colonies deleted since their last write.
+     */
+    private static final Map<String, CompoundTag> WRITTEN_TAGS = new HashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -73,9 +110,12 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data.
+     * <p>
+     * Takes a snapshot of the colony data on the calling (server) thread, then writes the colony files and the backup zip on the backup thread. Colonies which did not change
+     * since the last backup are not rewritten, the zip is filled from the colony files on disk.
      *
-     * @return true if succesful.
+     * @return true if a backup got scheduled.
      */
     public static boolean backupColonyData(@NotNull final HolderLookup.Provider provider)
     {
@@ -85,89 +125,287 @@ public final class BackUpHelper
         }
         lastBackupTime = System.currentTimeMillis();
 
-        BackUpHelper.saveColonies(provider);
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        final long snapshotStart = System.nanoTime();
+        final BackupSnapshot snapshot;
+        try
         {
-            @NotNull final File saveDir =
-              new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            snapshot = takeBackupSnapshot(provider);
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+            return false;
+        }
+        final long snapshotNanos = System.nanoTime() - snapshotStart;
 
-            for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levelKeys())
+        BACKUP_EXECUTOR.execute(() -> writeBackup(snapshot, snapshotNanos));
+        return true;
+    }
+
+    /**
+     * Blocks until all scheduled backups and backup file operations are done.
+     */
+    public static void waitForPendingBackups()
+    {
+        try
+        {
+            BACKUP_EXECUTOR.submit(() -> {}).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Error while waiting for colony backups", e);
+        }
+    }
+
+    /**
+     * Captures the data of the colony manager and all colonies. Has to be called on the server thread.
+     *
+     * @param provider the registry provider.
+     * @return the snapshot.
+     */
+    private static BackupSnapshot takeBackupSnapshot(@NotNull final HolderLookup.Provider provider)
+    {
+        final CompoundTag managerCompound = new CompoundTag();
+        IColonyManager.getInstance().write(provider, managerCompound);
+
+        final Map<String, CompoundTag> colonyTags = new HashMap<>();
+        final Set<String> liveColonies = new HashSet<>();
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            final String fileName = getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID());
+            liveColonies.add(fileName);
+
+            // The colony tag is replaced, never modified, on changes. So the tag can be encoded on the backup thread.
+            final CompoundTag colonyTag = colony.getColonyTag();
+            if (colonyTag != null)
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                colonyTags.put(fileName, colonyTag);
+            }
+        }
+
+        return new BackupSnapshot(getSaveDir(),
+          managerCompound,
+          new ArrayList<>(ServerLifecycleHooks.getCurrentServer().levelKeys()),
+          IColonyManager.getInstance().getTopColonyId(),
+          colonyTags,
+          liveColonies,
+          new Date());
+    }
+
+    /**
+     * Writes the colony files and the backup zip of a snapshot and prunes old backups. Runs on the backup thread.
+     *
+     * @param snapshot      the snapshot.
+     * @param snapshotNanos time it took to take the snapshot on the server thread.
+     */
+    private static void writeBackup(final BackupSnapshot snapshot, final long snapshotNanos)
+    {
+        final long start = System.nanoTime();
+        final File saveDir = snapshot.saveDir();
+        final int unchanged;
+
+        try
+        {
+            unchanged = snapshot.colonyTags().size() - writeColonyFiles(snapshot);
+
+            try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(new File(saveDir,
+              String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(snapshot.date()))))))
+            {
+                for (final ResourceKey<Level> dimensionType : snapshot.dimensions())
                 {
-                    @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                    @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
-                    if (file.exists())
+                    for (int i = 1; i <= snapshot.topColonyId() + 1; i++)
                     {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                        final String fileName = getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i);
+                        final String deletedFileName = getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i);
+                        if (new File(saveDir, fileName).exists())
                         {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                            // Live colonies are packed from their file, which stays the last good one if the colony could not be serialized this time
+                            if (snapshot.liveColonies().contains(fileName))
+                            {
+                                addToZipFile(fileName, zos, saveDir);
+                            }
+                            else
+                            {
+                                // mark existing files
+                                renameToDeleted(saveDir, i, dimensionType);
+                                addToZipFile(deletedFileName, zos, saveDir);
+                            }
                         }
-                        else
+                        else if (new File(saveDir, deletedFileName).exists())
                         {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
+                            addToZipFile(deletedFileName, zos, saveDir);
                         }
                     }
-                    else if (fileDeleted.exists())
-                    {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
-                    }
                 }
+                addToZipFile(FILENAME_MINECOLONIES, zos, saveDir);
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
 
-            File[] files = saveDir.listFiles();
+            pruneBackups(saveDir);
+        }
+        catch (final Exception e)
+        {
+            /*
+             * Intentionally not being thrown.
+             */
+            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+            return;
+        }
+
+        Log.getLogger().info(String.format("Colony backup finished: %d colonies (%d unchanged) in %d ms, snapshot took %d ms on the server thread",
+          snapshot.colonyTags().size(),
+          unchanged,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+          TimeUnit.NANOSECONDS.toMillis(snapshotNanos)));
+    }
 
-            if (files == null)
+    /**
+     * Writes the files of all colonies which changed since they were last written, and the colony manager file. Runs on the backup thread.
+     *
+     * @param snapshot the snapshot.
+     * @return the amount of written colony files.
+     * @throws IOException if writing a file fails.
+     */
+    private static int writeColonyFiles(final BackupSnapshot snapshot) throws IOException
+    {
+        final Map<String, Future<?>> pendingWrites = new HashMap<>();
+        for (final Map.Entry<String, CompoundTag> entry : snapshot.colonyTags().entrySet())
+        {
+            // The tag of a colony is only replaced when it got dirty, so an identical tag means the file is up to date.
+            final File file = new File(snapshot.saveDir(), entry.getKey());
+            if (WRITTEN_TAGS.get(entry.getKey()) == entry.getValue() && file.exists())
             {
-                return true;
+                continue;
             }
 
-            final List<File> fileList = new ArrayList<>();
-
-            for (final File current : files)
+            pendingWrites.put(entry.getKey(), COLONY_IO_EXECUTOR.submit(() ->
             {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
-                {
-                    continue;
-                }
+                writeAtomically(file, encode(entry.getValue()));
+                return null;
+            }));
+        }
 
-                fileList.add(current);
+        IOException failure = null;
+        for (final Map.Entry<String, Future<?>> write : pendingWrites.entrySet())
+        {
+            try
+            {
+                write.getValue().get();
+                WRITTEN_TAGS.put(write.getKey(), snapshot.colonyTags().get(write.getKey()));
             }
-
-            if (fileList.size() <= MAX_BACKUPS)
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing colony files", e);
+            }
+            catch (final ExecutionException e)
             {
-                return true;
+                // Keep collecting the other writes, so their cache entries stay accurate.
+                WRITTEN_TAGS.remove(write.getKey());
+                failure = new IOException("Unable to write " + write.getKey(), e.getCause());
             }
+        }
+        WRITTEN_TAGS.keySet().retainAll(snapshot.liveColonies());
+
+        if (failure != null)
+        {
+            throw failure;
+        }
+
+        writeAtomically(new File(snapshot.saveDir(), FILENAME_MINECOLONIES), encode(snapshot.managerTag()));
+        return pendingWrites.size();
+    }
+
+    /**
+     * Deletes the oldest backup zips above {@link #MAX_BACKUPS}.
+     *
+     * @param saveDir the minecolonies save folder.
+     */
+    private static void pruneBackups(final File saveDir)
+    {
+        File[] files = saveDir.listFiles();
+
+        if (files == null)
+        {
+            return;
+        }
 
-            fileList.sort(Comparator.comparingLong(File::lastModified));
+        final List<File> fileList = new ArrayList<>();
 
-            int deleteCount = fileList.size() - MAX_BACKUPS;
-            for (File current : fileList)
+        for (final File current : files)
+        {
+            if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
             {
-                if (deleteCount <= 0)
-                {
-                    break;
-                }
+                continue;
+            }
 
-                deleteCount--;
-                current.delete();
+            fileList.add(current);
+        }
+
+        if (fileList.size() <= MAX_BACKUPS)
+        {
+            return;
+        }
+
+        fileList.sort(Comparator.comparingLong(File::lastModified));
+
+        int deleteCount = fileList.size() - MAX_BACKUPS;
+        for (File current : fileList)
+        {
+            if (deleteCount <= 0)
+            {
+                break;
             }
+
+            deleteCount--;
+            current.delete();
         }
-        catch (final Exception e)
+    }
+
+    /**
+     * Encodes a tag in the colony file format.
+     *
+     * @param compound the tag.
+     * @return the file content.
+     * @throws IOException if encoding fails.
+     */
+    private static byte[] encode(final CompoundTag compound) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes))
         {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
+            NbtIo.write(compound, output);
         }
+        return bytes.toByteArray();
+    }
 
-        return true;
+    /**
+     * Writes a file through a temporary file, so readers never see a partially written file.
+     *
+     * @param file the destination file.
+     * @param data the content.
+     * @throws IOException if writing fails.
+     */
+    private static void writeAtomically(final File file, final byte[] data) throws IOException
+    {
+        file.getParentFile().mkdirs();
+        final File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        Files.write(tempFile.toPath(), data);
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Get the minecolonies folder of the current world.
+     *
+     * @return the folder.
+     */
+    @NotNull
+    private static File getSaveDir()
+    {
+        return new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
     }
 
     /**
@@ -223,20 +461,6 @@ public final class BackUpHelper
         }
     }
 
-    /**
-     * Get save location for Minecolonies backup data, from the world/save directory.
-     *
-     * @param date the current time.
-     * @return Save file for minecolonies.
-     */
-    @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir =
-          new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
-    }
-
     /**
      * Add zip to file.
      *
@@ -259,10 +483,10 @@ public final class BackUpHelper
      */
     private static void addFileToZipWithPath(final String zipPath, final ZipOutputStream zos, final File file)
     {
-        try (FileInputStream fis = new FileInputStream(file))
+        try
         {
             zos.putNextEntry(new ZipEntry(zipPath));
-            Files.copy(file, zos);
+            Files.copy(file.toPath(), zos);
         }
         catch (final Exception e)
         {
@@ -330,35 +554,27 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Marks a colony's backup file as deleted.
+     *
+     * @param colonyID    id of the colony to delete
+     * @param dimensionID dimension of the colony to delete
      */
-    public static void saveColonies(final HolderLookup.@NotNull Provider provider)
+    public static void markColonyDeleted(final int colonyID, final ResourceKey<Level> dimensionID)
     {
-        @NotNull final CompoundTag compound = new CompoundTag();
-        IColonyManager.getInstance().write(provider, compound);
-
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
-        @NotNull final File saveDir =
-          new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
-        {
-            final CompoundTag colonyCompound = new CompoundTag();
-            colony.write(colonyCompound, provider);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
-        }
+        // Runs after already scheduled backups, which may still write the file of this colony.
+        final File saveDir = getSaveDir();
+        BACKUP_EXECUTOR.execute(() -> renameToDeleted(saveDir, colonyID, dimensionID));
     }
 
     /**
-     * Marks a colony's backup file as deleted.
+     * Renames a colony's file to the deleted file name.
      *
+     * @param saveDir     the minecolonies save folder.
      * @param colonyID    id of the colony to delete
      * @param dimensionID dimension of the colony to delete
      */
-    public static void markColonyDeleted(final int colonyID, final ResourceKey<Level> dimensionID)
+    private static void renameToDeleted(final File saveDir, final int colonyID, final ResourceKey<Level> dimensionID)
     {
-        @NotNull final File saveDir =
-          new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
         if (toDelete.exists())
         {
@@ -377,6 +593,7 @@ public final class BackUpHelper
      */
     public static void loadAllBackups()
     {
+        waitForPendingBackups();
         @NotNull final File saveDir =
           new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
@@ -413,6 +630,7 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final ResourceKey<Level> dimension, boolean loadDeleted, boolean claimChunks)
     {
+        waitForPendingBackups();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         @NotNull final File backupFile = new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
         CompoundTag compound = loadNBTFromPath(backupFile);
@@ -487,6 +705,7 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        waitForPendingBackups();
         final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.getWorldPath(LevelResource.ROOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
@@ -638,4 +857,26 @@ public final class BackUpHelper
 
         return new File(saveDir, String.format(FILENAME_EXPORT, colony.getID())).getAbsolutePath();
     }
+
+    /**
+     * Colony data captured for saving or backing up the colony files.
+     *
+     * @param saveDir      the minecolonies save folder.
+     * @param managerTag   the colony manager data.
+     * @param dimensions   all dimensions of the server.
+     * @param topColonyId  the highest colony id.
+     * @param colonyTags   the colony data by colony file name.
+     * @param liveColonies the file names of all existing colonies, including those without colony data.
+     * @param date         the backup time.
+     */
+    private record BackupSnapshot(
+      File saveDir,
+      CompoundTag managerTag,
+      List<ResourceKey<Level>> dimensions,
+      int topColonyId,
+      Map<String, CompoundTag> colonyTags,
+      Set<String> liveColonies,
+      Date date)
+    {
+    }
 }
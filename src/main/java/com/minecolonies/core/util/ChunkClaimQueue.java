@@ -0,0 +1,300 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.MessageUtils;
+import com.minecolonies.core.colony.Colony;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+
+import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
+import static com.minecolonies.api.util.constant.TranslationConstants.COLONY_CLAIM_DONE;
+import static com.minecolonies.api.util.constant.TranslationConstants.COLONY_CLAIM_PROGRESS;
+
+/**
+ * Static claims and unclaims of a colony square, applied over several server ticks under a time budget.
+ * <p>
+ * Claims are written to the claim data store directly, without loading the chunks. Chunks that are not loaded are picked up by their owning colony once they load, see
+ * {@link ChunkDataHelper#loadChunk}. Batches run in the order they were queued, so an unclaim never overtakes an earlier claim of the same colony.
+ */
+public final class ChunkClaimQueue
+{
+    /**
+     * Time per server tick spent on claiming, in nanoseconds.
+     */
+    private static final long TICK_BUDGET_NS = 2_000_000L;
+
+    /**
+     * Amount of chunks between two checks of the budget.
+     */
+    private static final int BUDGET_CHECK_INTERVAL = 32;
+
+    /**
+     * Progress steps reported to the players, in percent.
+     */
+    private static final int PROGRESS_STEP = 25;
+
+    /**
+     * Pending batches, the head is the one being applied.
+     */
+    private static final Deque<ClaimBatch> batches = new ArrayDeque<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ChunkClaimQueue()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue a claim or unclaim of all chunks in range of a position. As much as fits the budget is applied right away, starting at the center chunk, so small claims complete
+     * before this returns.
+     *
+     * @param colony           the colony.
+     * @param add              if claim or unclaim.
+     * @param center           the center position.
+     * @param range            the range in chunks.
+     * @param world            the world.
+     * @param forceOwnerChange whether to make the colony the owner of already claimed chunks.
+     * @param requester        the player to report progress to, or null.
+     */
+    public static void enqueue(
+      @NotNull final Colony colony,
+      final boolean add,
+      @NotNull final BlockPos center,
+      final int range,
+      @NotNull final ServerLevel world,
+      final boolean forceOwnerChange,
+      @Nullable final Player requester)
+    {
+        batches.addLast(new ClaimBatch(colony, add, new ChunkPos(center), range, world, forceOwnerChange, requester == null ? null : requester.getUUID()));
+        process(world.getServer(), System.nanoTime() + TICK_BUDGET_NS);
+    }
+
+    /**
+     * Apply pending batches for this tick.
+     *
+     * @param server the server.
+     */
+    public static void onServerTick(@NotNull final MinecraftServer server)
+    {
+        if (!batches.isEmpty())
+        {
+            process(server, System.nanoTime() + TICK_BUDGET_NS);
+        }
+    }
+
+    /**
+     * Apply all pending batches at once, claims must not get lost when the server stops.
+     *
+     * @param server the server.
+     */
+    public static void flush(@NotNull final MinecraftServer server)
+    {
+        process(server, Long.MAX_VALUE);
+        batches.clear();
+    }
+
+    /**
+     * Check if a pending batch is going to claim a chunk.
+     *
+     * @param dimension the dimension of the chunk.
+     * @param chunkX    the chunk x coordinate.
+     * @param chunkZ    the chunk z coordinate.
+     * @return true if a queued claim covers the chunk.
+     */
+    public static boolean isClaimPending(@NotNull final ResourceKey<Level> dimension, final int chunkX, final int chunkZ)
+    {
+        for (final ClaimBatch batch : batches)
+        {
+            if (batch.add && batch.world.dimension().equals(dimension)
+                  && Math.abs(chunkX - batch.center.x) <= batch.range
+                  && Math.abs(chunkZ - batch.center.z) <= batch.range)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Apply batches until the deadline.
+     *
+     * @param server     the server.
+     * @param deadlineNs the {@link System#nanoTime()} to stop at.
+     */
+    private static void process(@NotNull final MinecraftServer server, final long deadlineNs)
+    {
+        while (!batches.isEmpty())
+        {
+            final ClaimBatch batch = batches.peekFirst();
+            final boolean done;
+            try
+            {
+                done = batch.apply(server, deadlineNs);
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().error("Failed to claim chunks for colony " + batch.colony.getID(), e);
+                batches.pollFirst();
+                continue;
+            }
+
+            if (!done)
+            {
+                return;
+            }
+            batches.pollFirst();
+        }
+    }
+
+    /**
+     * The chunks of one claim square and how far they have been applied.
+     */
+    private static class ClaimBatch
+    {
+        private final Colony      colony;
+        private final boolean     add;
+        private final ChunkPos    center;
+        private final int         range;
+        private final ServerLevel world;
+        private final boolean     forceOwnerChange;
+        @Nullable
+        private final UUID        requester;
+
+        /**
+         * Packed chunk positions, ordered by distance to the center.
+         */
+        private final LongArrayList chunks;
+
+        /**
+         * Index of the next chunk to apply.
+         */
+        private int next = 0;
+
+        /**
+         * Last reported progress in percent.
+         */
+        private int reported = 0;
+
+        private ClaimBatch(
+          final Colony colony,
+          final boolean add,
+          final ChunkPos center,
+          final int range,
+          final ServerLevel world,
+          final boolean forceOwnerChange,
+          @Nullable final UUID requester)
+        {
+            this.colony = colony;
+            this.add = add;
+            this.center = center;
+            this.range = range;
+            this.world = world;
+            this.forceOwnerChange = forceOwnerChange;
+            this.requester = requester;
+
+            final int size = 2 * range + 1;
+            this.chunks = new LongArrayList(size * size);
+            chunks.add(center.toLong());
+            for (int ring = 1; ring <= range; ring++)
+            {
+                for (int offset = -ring; offset < ring; offset++)
+                {
+                    chunks.add(ChunkPos.asLong(center.x + offset, center.z - ring));
+                    chunks.add(ChunkPos.asLong(center.x + ring, center.z + offset));
+                    chunks.add(ChunkPos.asLong(center.x - offset, center.z + ring));
+                    chunks.add(ChunkPos.asLong(center.x - ring, center.z - offset));
+                }
+            }
+        }
+
+        /**
+         * Apply chunks until the deadline.
+         *
+         * @param server     the server.
+         * @param deadlineNs the {@link System#nanoTime()} to stop at.
+         * @return true if the batch is complete.
+         */
+        private boolean apply(final MinecraftServer server, final long deadlineNs)
+        {
+            // Claims of a colony which got deleted in the meantime are dropped, unclaims always complete
+            if (add && IColonyManager.getInstance().getColonyByDimension(colony.getID(), world.dimension()) != colony)
+            {
+                return true;
+            }
+
+            final boolean firstRun = next == 0;
+            while (next < chunks.size())
+            {
+                final long chunk = chunks.getLong(next++);
+                ChunkDataHelper.tryClaim(world,
+                  new BlockPos(ChunkPos.getX(chunk) * BLOCKS_PER_CHUNK, 0, ChunkPos.getZ(chunk) * BLOCKS_PER_CHUNK),
+                  add,
+                  colony,
+                  forceOwnerChange);
+
+                if (next % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() >= deadlineNs)
+                {
+                    break;
+                }
+            }
+
+            if (next < chunks.size())
+            {
+                final int percent = next * 100 / chunks.size();
+                if (percent >= reported + PROGRESS_STEP)
+                {
+                    reported = percent - percent % PROGRESS_STEP;
+                    report(server, COLONY_CLAIM_PROGRESS, reported);
+                }
+                return false;
+            }
+
+            // Batches done within the first tick behave like the old synchronous claim and stay quiet
+            if (!firstRun)
+            {
+                report(server, COLONY_CLAIM_DONE, 100);
+            }
+            return true;
+        }
+
+        /**
+         * Tell the requester, or the managers of a claiming colony, about the progress.
+         *
+         * @param server  the server.
+         * @param key     the translation key.
+         * @param percent the progress in percent.
+         */
+        private void report(final MinecraftServer server, final String key, final int percent)
+        {
+            if (requester != null)
+            {
+                final Player player = server.getPlayerList().getPlayer(requester);
+                if (player != null)
+                {
+                    MessageUtils.format(key, colony.getName(), percent, chunks.size()).sendTo(player);
+                }
+            }
+            else if (add)
+            {
+                MessageUtils.format(key, colony.getName(), percent, chunks.size()).sendTo(colony).forManagers();
+            }
+        }
+    }
+}
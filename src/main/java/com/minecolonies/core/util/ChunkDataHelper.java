@@ -10,6 +10,7 @@ import com.minecolonies.core.colony.Colony;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Tuple;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
@@ -34,7 +35,8 @@ public final class ChunkDataHelper
     }
 
     /**
-     * Load the colony info for a certain chunk.
+     * Load the colony info for a certain chunk. Static claims are written without loading the chunk, so this is where the owning colony picks up chunks claimed while they were
+     * unloaded.
      *
      * @param chunk the chunk.
      * @param world the worldg to.
@@ -72,7 +74,7 @@ public final class ChunkDataHelper
     }
 
     /**
-     * Notify all chunks in the range of the colony about the colony.
+     * Notify all chunks in the range of the colony about the colony. Large ranges are applied over the following ticks, see {@link ChunkClaimQueue}.
      *
      * @param world  the world.
      * @param add    if add or remove.
@@ -109,7 +111,7 @@ public final class ChunkDataHelper
     }
 
     /**
-     * Check if all chunks within a certain range can be claimed, if range is too big this might require to load chunks. Use carefully.
+     * Check if all chunks within a certain range can be claimed. Only looks at the claim data, so no chunks are loaded.
      * <p>
      * --- This is only for dynamic claiming ---
      *
@@ -120,16 +122,19 @@ public final class ChunkDataHelper
      */
     public static boolean canClaimChunksInRange(final Level w, final BlockPos pos, final int range)
     {
-        final LevelChunk centralChunk = w.getChunkAt(pos);
-        final int chunkX = centralChunk.getPos().x;
-        final int chunkZ = centralChunk.getPos().z;
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
 
         for (int i = chunkX - range; i <= chunkX + range; i++)
         {
             for (int j = chunkZ - range; j <= chunkZ + range; j++)
             {
-                final LevelChunk chunk = w.getChunk(i, j);
-                final IChunkClaimData colonyCap = IColonyManager.getInstance().getClaimData(w.dimension(), chunk.getPos());
+                if (ChunkClaimQueue.isClaimPending(w.dimension(), i, j))
+                {
+                    return false;
+                }
+
+                final IChunkClaimData colonyCap = IColonyManager.getInstance().getClaimData(w.dimension(), new ChunkPos(i, j));
                 if (colonyCap == null)
                 {
                     return true;
@@ -230,13 +235,14 @@ public final class ChunkDataHelper
     }
 
     /**
-     * Claim a number of chunks in a certain range around a position.
+     * Claim a number of chunks in a certain range around a position. Chunks close to the center are claimed right away, the rest over the following ticks.
      *
-     * @param colony   the colony.
-     * @param add      if claim or unclaim.
-     * @param center   the center position to be claimed.
-     * @param range    the range.
-     * @param world    the world.
+     * @param colony           the colony.
+     * @param add              if claim or unclaim.
+     * @param center           the center position to be claimed.
+     * @param range            the range.
+     * @param world            the world.
+     * @param forceOwnerChange whether to make the colony the owner of already claimed chunks.
      */
     public static void staticClaimInRange(
       final Colony colony,
@@ -246,22 +252,34 @@ public final class ChunkDataHelper
       final ServerLevel world,
       final boolean forceOwnerChange)
     {
-        final LevelChunk centralChunk = world.getChunkAt(center);
-
-        final int chunkXMax = centralChunk.getPos().x;
-        final int chunkZMax = centralChunk.getPos().z;
+        staticClaimInRange(colony, add, center, range, world, forceOwnerChange, null);
+    }
 
-        for (int chunkPosX = chunkXMax - range; chunkPosX <= chunkXMax + range; chunkPosX++)
-        {
-            for (int chunkPosZ = chunkZMax - range; chunkPosZ <= chunkZMax + range; chunkPosZ++)
-            {
-                tryClaim(world, new BlockPos(chunkPosX * BLOCKS_PER_CHUNK, 0, chunkPosZ * BLOCKS_PER_CHUNK), add, colony, forceOwnerChange);
-            }
-        }
+    /**
+     * Claim a number of chunks in a certain range around a position. Chunks close to the center are claimed right away, the rest over the following ticks.
+     *
+     * @param colony           the colony.
+     * @param add              if claim or unclaim.
+     * @param center           the center position to be claimed.
+     * @param range            the range.
+     * @param world            the world.
+     * @param forceOwnerChange whether to make the colony the owner of already claimed chunks.
+     * @param requester        the player to report the progress to, the colony managers if null.
+     */
+    public static void staticClaimInRange(
+      final Colony colony,
+      final boolean add,
+      final BlockPos center,
+      final int range,
+      final ServerLevel world,
+      final boolean forceOwnerChange,
+      @Nullable final Player requester)
+    {
+        ChunkClaimQueue.enqueue(colony, add, center, range, world, forceOwnerChange, requester);
     }
 
     /**
-     * Add the data to the chunk directly.
+     * Add the data to the claim store directly. Does not load the chunk, unloaded chunks are picked up by the owning colony when they load.
      *
      * @param world         the world.
      * @param chunkBlockPos the position.
@@ -276,14 +294,15 @@ public final class ChunkDataHelper
       final Colony colony,
       boolean forceOwnerChange)
     {
-        final LevelChunk chunk = (LevelChunk) world.getChunk(chunkBlockPos);
-        IChunkClaimData chunkClaimData = IColonyManager.getInstance().getClaimData(world.dimension(), chunk.getPos());
+        final ChunkPos chunkPos = new ChunkPos(chunkBlockPos);
+        final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkPos.x, chunkPos.z);
+        IChunkClaimData chunkClaimData = IColonyManager.getInstance().getClaimData(world.dimension(), chunkPos);
         final int id = colony.getID();
         if (chunkClaimData == null)
         {
             if (add)
             {
-                chunkClaimData = colony.claimNewChunk(chunk.getPos());
+                chunkClaimData = colony.claimNewChunk(chunkPos);
             }
             else
             {
@@ -291,13 +310,30 @@ public final class ChunkDataHelper
             }
         }
 
+        if (chunk == null)
+        {
+            if (add)
+            {
+                chunkClaimData.addColony(id, world.dimension());
+                if (forceOwnerChange)
+                {
+                    chunkClaimData.setOwningColony(id);
+                }
+            }
+            else
+            {
+                chunkClaimData.removeColony(id);
+            }
+            return true;
+        }
+
         if (add)
         {
             chunkClaimData.addColony(id, chunk);
             if (forceOwnerChange)
             {
                 chunkClaimData.setOwningColony(id, chunk);
-                colony.addLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), chunk);
+                colony.addLoadedChunk(chunkPos.toLong(), chunk);
             }
         }
         else